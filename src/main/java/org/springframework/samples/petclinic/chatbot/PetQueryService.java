@@ -2,7 +2,9 @@ package org.springframework.samples.petclinic.chatbot;
 
 import org.springframework.samples.petclinic.owner.Owner;
 import org.springframework.samples.petclinic.owner.OwnerRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.samples.petclinic.owner.Pet;
+import org.springframework.samples.petclinic.owner.PetRepository;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -20,6 +22,8 @@ public class PetQueryService {
 
 	private final OwnerRepository ownerRepository;
 
+	private final PetRepository petRepository;
+
 	// Pattern to detect potentially dangerous SQL injection patterns.
 	// Note: Spring Data JPA uses parameterized queries, so SQL injection via
 	// parameters is not possible. This is a defense-in-depth measure only.
@@ -29,14 +33,17 @@ public class PetQueryService {
 	/**
 	 * Creates a new pet query service.
 	 * @param ownerRepository the owner repository for database access
+	 * @param petRepository the pet repository for indexed pet lookups
 	 */
-	public PetQueryService(OwnerRepository ownerRepository) {
+	public PetQueryService(OwnerRepository ownerRepository, PetRepository petRepository) {
 		this.ownerRepository = ownerRepository;
+		this.petRepository = petRepository;
 	}
 
 	/**
-	 * Finds a pet by name (case-insensitive). Returns the first matching pet if multiple
-	 * pets have the same name.
+	 * Finds a pet by name (case-insensitive). Returns the pet with the lowest id if
+	 * multiple pets have the same name. A single indexed lookup, however many owners and
+	 * pets there are.
 	 * @param petName the name of the pet to find
 	 * @return an Optional containing the pet and its owner if found, empty otherwise
 	 */
@@ -46,19 +53,15 @@ public class PetQueryService {
 			return Optional.empty();
 		}
 
-		List<Owner> owners = ownerRepository.findAll();
-		for (Owner owner : owners) {
-			for (Pet pet : owner.getPets()) {
-				if (pet.getName() != null && pet.getName().equalsIgnoreCase(sanitizedName)) {
-					return Optional.of(new PetWithOwner(pet, owner));
-				}
-			}
-		}
-		return Optional.empty();
+		return petRepository.findByNameIgnoringCase(sanitizedName, Limit.of(1))
+			.stream()
+			.findFirst()
+			.map(pet -> new PetWithOwner(pet, pet.getOwner()));
 	}
 
 	/**
-	 * Finds all pets owned by an owner with the given last name (case-insensitive).
+	 * Finds all pets owned by an owner with the given last name (case-insensitive). A
+	 * single indexed lookup, however many owners and pets there are.
 	 * @param ownerLastName the last name of the owner
 	 * @return a list of pets with their owner, empty list if none found
 	 */
@@ -69,14 +72,8 @@ public class PetQueryService {
 		}
 
 		List<PetWithOwner> results = new ArrayList<>();
-		List<Owner> owners = ownerRepository.findAll();
-
-		for (Owner owner : owners) {
-			if (owner.getLastName() != null && owner.getLastName().equalsIgnoreCase(sanitizedName)) {
-				for (Pet pet : owner.getPets()) {
-					results.add(new PetWithOwner(pet, owner));
-				}
-			}
+		for (Pet pet : petRepository.findByOwnerLastNameIgnoringCase(sanitizedName)) {
+			results.add(new PetWithOwner(pet, pet.getOwner()));
 		}
 		return results;
 	}
@@ -87,7 +84,7 @@ public class PetQueryService {
 	 */
 	public List<PetWithOwner> findAllPets() {
 		List<PetWithOwner> results = new ArrayList<>();
-		List<Owner> owners = ownerRepository.findAll();
+		List<Owner> owners = ownerRepository.findAllWithPets();
 
 		for (Owner owner : owners) {
 			for (Pet pet : owner.getPets()) {
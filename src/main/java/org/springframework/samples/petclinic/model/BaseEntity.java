@@ -25,6 +25,11 @@ import jakarta.persistence.MappedSuperclass;
 /**
  * Simple JavaBean domain object with an id property. Used as a base class for objects
  * needing this property.
+ * <p>
+ * Ids come from one sequence per table, named after the table with a {@code _seq} suffix,
+ * which Hibernate reads in blocks of 50 using its pooled-lo optimizer. Because the id is
+ * known before the row is written, inserts of new owners, pets and visits can be sent as
+ * JDBC batches rather than one statement at a time as with identity columns.
  *
  * @author Ken Krebs
  * @author Juergen Hoeller
@@ -33,7 +38,7 @@ import jakarta.persistence.MappedSuperclass;
 public class BaseEntity implements Serializable {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE)
 	private Integer id;
 
 	public Integer getId() {
@@ -15,6 +15,8 @@
  */
 package org.springframework.samples.petclinic.owner;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.List;
 
 /**
@@ -44,6 +46,26 @@ public class CsvBuilder {
 		return csv.toString();
 	}
 
+	/**
+	 * Writes the CSV header row to the given writer. Used together with
+	 * {@link #writeRow(Writer, Owner)} when streaming an export row by row.
+	 * @param writer the writer to append the header to
+	 * @throws IOException if the writer fails
+	 */
+	public static void writeHeader(Writer writer) throws IOException {
+		writer.write(HEADER);
+	}
+
+	/**
+	 * Writes a single owner as a CSV row to the given writer.
+	 * @param writer the writer to append the row to
+	 * @param owner the owner to format
+	 * @throws IOException if the writer fails
+	 */
+	public static void writeRow(Writer writer, Owner owner) throws IOException {
+		writer.write(formatCsvRow(owner));
+	}
+
 	/**
 	 * Formats a single owner as a CSV row.
 	 * @param owner the owner to format
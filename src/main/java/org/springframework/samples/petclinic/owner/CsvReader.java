@@ -0,0 +1,128 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads RFC 4180 CSV records one at a time, the counterpart of {@link CsvBuilder}. Quoted
+ * fields may contain commas, doubled quotes and line breaks; both {@code \n} and
+ * {@code \r\n} line endings are accepted. Only the current record is held in memory.
+ */
+class CsvReader {
+
+	private final Reader reader;
+
+	private int line = 1;
+
+	private int recordLine;
+
+	private int pushedBack = -2;
+
+	CsvReader(Reader reader) {
+		this.reader = reader;
+	}
+
+	/**
+	 * Read the next record.
+	 * @return the fields of the record, or {@code null} at the end of the input
+	 * @throws IOException if reading fails
+	 */
+	List<String> next() throws IOException {
+		int c = read();
+		if (c == -1) {
+			return null;
+		}
+		this.recordLine = this.line;
+		List<String> fields = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		while (true) {
+			if (quoted) {
+				if (c == -1) {
+					break;
+				}
+				if (c == '"') {
+					int following = read();
+					if (following == '"') {
+						field.append('"');
+					}
+					else {
+						quoted = false;
+						c = following;
+						continue;
+					}
+				}
+				else {
+					countLine(c);
+					field.append((char) c);
+				}
+			}
+			else if (c == '"' && field.isEmpty()) {
+				quoted = true;
+			}
+			else if (c == ',') {
+				fields.add(field.toString());
+				field.setLength(0);
+			}
+			else if (c == '\r' || c == '\n' || c == -1) {
+				if (c == '\r') {
+					int following = read();
+					if (following != '\n') {
+						this.pushedBack = following;
+					}
+				}
+				if (c != -1) {
+					this.line++;
+				}
+				break;
+			}
+			else {
+				field.append((char) c);
+			}
+			c = read();
+		}
+		fields.add(field.toString());
+		return fields;
+	}
+
+	/**
+	 * Line of the input on which the record last returned by {@link #next()} starts.
+	 * @return the 1-based line number
+	 */
+	int recordLine() {
+		return this.recordLine;
+	}
+
+	private int read() throws IOException {
+		if (this.pushedBack != -2) {
+			int c = this.pushedBack;
+			this.pushedBack = -2;
+			return c;
+		}
+		return this.reader.read();
+	}
+
+	private void countLine(int c) {
+		if (c == '\n') {
+			this.line++;
+		}
+	}
+
+}
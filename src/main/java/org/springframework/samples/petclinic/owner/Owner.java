@@ -15,10 +15,15 @@
  */
 package org.springframework.samples.petclinic.owner;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Locale;
+import java.util.Map;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.core.style.ToStringCreator;
 import org.springframework.samples.petclinic.model.Person;
 import org.springframework.util.Assert;
@@ -26,16 +31,28 @@ import org.springframework.util.Assert;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.FetchType;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderBy;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.NotBlank;
 
 /**
  * Simple JavaBean domain object representing an owner.
+ * <p>
+ * Pets and their visits are loaded lazily. Repository methods that need them declare one
+ * of the named entity graphs below, so each use case loads exactly what it renders in a
+ * single query.
  *
  * @author Ken Krebs
  * @author Juergen Hoeller
@@ -46,8 +63,17 @@ import jakarta.validation.constraints.NotBlank;
  */
 @Entity
 @Table(name = "owners")
+@NamedEntityGraph(name = Owner.WITH_PETS, attributeNodes = @NamedAttributeNode(value = "pets", subgraph = "pet"),
+		subgraphs = @NamedSubgraph(name = "pet", attributeNodes = @NamedAttributeNode("type")))
+@EntityListeners(OwnerChangeListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "owner")
 public class Owner extends Person {
 
+	/**
+	 * Entity graph loading the owner's pets and their types.
+	 */
+	public static final String WITH_PETS = "Owner.pets";
+
 	@Column(name = "address")
 	@NotBlank
 	private String address;
@@ -61,11 +87,95 @@ public class Owner extends Person {
 	@Pattern(regexp = "\\d{10}", message = "{telephone.invalid}")
 	private String telephone;
 
-	@OneToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+	/**
+	 * Version of the whole aggregate: incremented whenever the owner, one of its pets or
+	 * one of their visits is saved (see {@link OwnerRepository#save(Owner)}).
+	 */
+	@Version
+	@Column(name = "version")
+	private Integer version;
+
+	/**
+	 * Lower-cased last name, computed by the database. Case-insensitive searches compare
+	 * against this indexed column instead of {@code LOWER(last_name)}.
+	 */
+	@Column(name = "last_name_lower", insertable = false, updatable = false)
+	private String lastNameLower;
+
+	/**
+	 * Lower-cased city, computed by the database.
+	 */
+	@Column(name = "city_lower", insertable = false, updatable = false)
+	private String cityLower;
+
+	/**
+	 * Sound-alike key of the last name (see {@link PhoneticKey}), recomputed whenever the
+	 * owner is saved. Sound-alike searches look owners up by this indexed column.
+	 */
+	@Column(name = "last_name_phonetic")
+	private String lastNamePhonetic;
+
+	/**
+	 * Alternate sound-alike key of the last name, the same as the primary key unless the
+	 * name has an ambiguous pronunciation. Indexed as well, so a search finds the owner
+	 * by either key.
+	 */
+	@Column(name = "last_name_phonetic_alt")
+	private String lastNamePhoneticAlternate;
+
+	/**
+	 * Identity fingerprint (see {@link OwnerFingerprint}), recomputed when the owner is
+	 * saved with a new first name, last name or telephone. Its unique index rejects a
+	 * second owner with the same identity. Owners registered twice before the column
+	 * existed have none, until their identity changes.
+	 */
+	@Column(name = "identity_fingerprint")
+	private String identityFingerprint;
+
+	/**
+	 * When the owner was first saved.
+	 */
+	@Column(name = "created_at", updatable = false)
+	private Instant createdAt;
+
+	/**
+	 * When the owner was last saved. Delta exports read the owners changed after a
+	 * watermark by this indexed column (see
+	 * {@link OwnerRepository#streamChangedSince(String, Instant)}).
+	 */
+	@Column(name = "updated_at")
+	private Instant updatedAt;
+
+	@OneToMany(cascade = CascadeType.ALL)
 	@JoinColumn(name = "owner_id")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "owner-pets")
 	@OrderBy("name")
 	private final List<Pet> pets = new ArrayList<>();
 
+	/**
+	 * The saved pets by id, built on the first lookup by id so owners with many pets are
+	 * not scanned on every lookup. Dropped when a pet is added or removed.
+	 */
+	@Transient
+	private Map<Integer, Pet> petsById;
+
+	/**
+	 * The pets by lower-cased name, built on the first lookup by name. Dropped when a pet
+	 * is added or removed; a renamed pet is caught on lookup.
+	 */
+	@Transient
+	private Map<String, List<Pet>> petsByName;
+
+	/**
+	 * Fingerprint of the identity the owner was loaded or last saved with, and the stored
+	 * fingerprint at that time, which is kept while the identity does not change.
+	 */
+	@Transient
+	private String savedIdentity;
+
+	@Transient
+	private String savedFingerprint;
+
 	public String getAddress() {
 		return this.address;
 	}
@@ -90,6 +200,46 @@ public class Owner extends Person {
 		this.telephone = telephone;
 	}
 
+	public Integer getVersion() {
+		return this.version;
+	}
+
+	public String getIdentityFingerprint() {
+		return this.identityFingerprint;
+	}
+
+	public Instant getCreatedAt() {
+		return this.createdAt;
+	}
+
+	public Instant getUpdatedAt() {
+		return this.updatedAt;
+	}
+
+	@PostLoad
+	void rememberIdentity() {
+		this.savedIdentity = OwnerFingerprint.of(getFirstName(), getLastName(), getTelephone());
+		this.savedFingerprint = this.identityFingerprint;
+	}
+
+	@PrePersist
+	@PreUpdate
+	void updateDerivedColumns() {
+		this.lastNamePhonetic = PhoneticKey.of(getLastName());
+		this.lastNamePhoneticAlternate = PhoneticKey.alternateOf(getLastName());
+		String identity = OwnerFingerprint.of(getFirstName(), getLastName(), getTelephone());
+		// An update that leaves the identity alone, such as adding a pet, keeps the
+		// stored
+		// fingerprint, which a duplicate registered before the column existed lacks
+		this.identityFingerprint = identity.equals(this.savedIdentity) ? this.savedFingerprint : identity;
+		this.savedIdentity = identity;
+		this.savedFingerprint = this.identityFingerprint;
+		this.updatedAt = Instant.now();
+		if (this.createdAt == null) {
+			this.createdAt = this.updatedAt;
+		}
+	}
+
 	public List<Pet> getPets() {
 		return this.pets;
 	}
@@ -97,6 +247,7 @@ public class Owner extends Person {
 	public void addPet(Pet pet) {
 		if (pet.isNew()) {
 			getPets().add(pet);
+			clearPetIndexes();
 		}
 	}
 
@@ -115,15 +266,21 @@ public class Owner extends Person {
 	 * @return the Pet with the given id, or null if no such Pet exists for this Owner
 	 */
 	public Pet getPet(Integer id) {
-		for (Pet pet : getPets()) {
-			if (!pet.isNew()) {
-				Integer compId = pet.getId();
-				if (Objects.equals(compId, id)) {
-					return pet;
+		if (id == null) {
+			return null;
+		}
+		Pet pet = (this.petsById != null) ? this.petsById.get(id) : null;
+		if (pet == null) {
+			// pets saved since the index was built only have an id now
+			this.petsById = new HashMap<>();
+			for (Pet candidate : getPets()) {
+				if (!candidate.isNew()) {
+					this.petsById.putIfAbsent(candidate.getId(), candidate);
 				}
 			}
+			pet = this.petsById.get(id);
 		}
-		return null;
+		return pet;
 	}
 
 	/**
@@ -133,17 +290,35 @@ public class Owner extends Person {
 	 * @return the Pet with the given name, or null if no such Pet exists for this Owner
 	 */
 	public Pet getPet(String name, boolean ignoreNew) {
-		for (Pet pet : getPets()) {
-			String compName = pet.getName();
-			if (compName != null && compName.equalsIgnoreCase(name)) {
-				if (!ignoreNew || !pet.isNew()) {
-					return pet;
+		if (name == null) {
+			return null;
+		}
+		String key = name.toLowerCase(Locale.ROOT);
+		List<Pet> named = (this.petsByName != null) ? this.petsByName.get(key) : null;
+		if (named == null || named.stream().anyMatch(pet -> !name.equalsIgnoreCase(pet.getName()))) {
+			// not indexed yet, or a pet was renamed since the index was built
+			this.petsByName = new HashMap<>();
+			for (Pet pet : getPets()) {
+				if (pet.getName() != null) {
+					this.petsByName.computeIfAbsent(pet.getName().toLowerCase(Locale.ROOT), k -> new ArrayList<>())
+						.add(pet);
 				}
 			}
+			named = this.petsByName.getOrDefault(key, List.of());
+		}
+		for (Pet pet : named) {
+			if (!ignoreNew || !pet.isNew()) {
+				return pet;
+			}
 		}
 		return null;
 	}
 
+	private void clearPetIndexes() {
+		this.petsById = null;
+		this.petsByName = null;
+	}
+
 	@Override
 	public String toString() {
 		return new ToStringCreator(this).append("id", this.getId())
@@ -169,6 +344,7 @@ public class Owner extends Person {
 	public void removePet(Pet pet) {
 		Assert.notNull(pet, "Pet must not be null!");
 		getPets().remove(pet);
+		clearPetIndexes();
 	}
 
 	public void addVisit(Integer petId, Visit visit) {
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import org.springframework.context.ApplicationEventPublisher;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA entity listener that turns {@link Owner} lifecycle callbacks into
+ * {@link OwnerChangedEvent}s. Instantiated by Hibernate through Spring's bean container,
+ * so it can publish application events.
+ */
+class OwnerChangeListener {
+
+	private final ApplicationEventPublisher publisher;
+
+	OwnerChangeListener(ApplicationEventPublisher publisher) {
+		this.publisher = publisher;
+	}
+
+	@PostPersist
+	@PostUpdate
+	void onSave(Owner owner) {
+		this.publisher.publishEvent(OwnerChangedEvent.saved(owner));
+	}
+
+	@PostRemove
+	void onRemove(Owner owner) {
+		this.publisher.publishEvent(OwnerChangedEvent.deleted(owner));
+	}
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+/**
+ * Published whenever an {@link Owner} row is inserted, updated or deleted. Components
+ * that keep in-memory views of owners (search indexes, lookup maps) listen for it after
+ * the surrounding transaction has committed.
+ *
+ * @param ownerId id of the changed owner
+ * @param lastName last name after the change
+ * @param telephone telephone after the change
+ * @param city city after the change
+ * @param deleted whether the owner was removed
+ */
+record OwnerChangedEvent(Integer ownerId, String lastName, String telephone, String city, boolean deleted) {
+
+	static OwnerChangedEvent saved(Owner owner) {
+		return new OwnerChangedEvent(owner.getId(), owner.getLastName(), owner.getTelephone(), owner.getCity(), false);
+	}
+
+	static OwnerChangedEvent deleted(Owner owner) {
+		return new OwnerChangedEvent(owner.getId(), owner.getLastName(), owner.getTelephone(), owner.getCity(), true);
+	}
+
+}
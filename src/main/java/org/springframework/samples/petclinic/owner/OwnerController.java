@@ -15,21 +15,39 @@
  */
 package org.springframework.samples.petclinic.owner;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
+import org.springframework.util.StringUtils;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -37,9 +55,13 @@ import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 
@@ -57,20 +79,60 @@ class OwnerController {
 
 	private static final String VIEWS_OWNER_CREATE_OR_UPDATE_FORM = "owners/createOrUpdateOwnerForm";
 
+	private static final int PAGE_SIZE = 5;
+
 	/**
-	 * Maximum number of owners that can be exported in a single CSV request. This limit
-	 * prevents memory exhaustion and DoS attacks. Users should refine their search if
-	 * they exceed this limit.
-	 * <p>
-	 * Note: Proper rate limiting (request-based throttling) will be implemented in Phase
-	 * 2 using Spring Security or a dedicated rate limiting solution.
+	 * Order of the owner search results. Must match the key used by {@link OwnerCursor}
+	 * so numbered (offset) pages and cursor (keyset) pages line up.
+	 */
+	private static final Sort OWNER_ORDER = Sort.by("lastNameLower", "id");
+
+	private static final int PETS_PAGE_SIZE = 10;
+
+	private static final Sort PET_ORDER = Sort.by("name", "id");
+
+	/**
+	 * Number of visits shown per pet on the owner details page; older ones are loaded on
+	 * demand from the pet's visit history.
+	 */
+	static final int LATEST_VISITS = 5;
+
+	private static final int SUGGESTION_LIMIT = 10;
+
+	private static final int FACET_LIMIT = 10;
+
+	static final String WATERMARK_HEADER = "X-Export-Watermark";
+
+	/**
+	 * How far an export watermark lags behind the start of the export; transactions that
+	 * take longer to commit may be missed by a delta export.
 	 */
-	private static final int MAX_CSV_EXPORT_SIZE = 5000;
+	static final Duration WATERMARK_OVERLAP = Duration.ofMinutes(1);
 
 	private final OwnerRepository owners;
 
-	public OwnerController(OwnerRepository owners) {
+	private final OwnerExportService exporter;
+
+	private final ObjectProvider<OwnerSearchIndex> searchIndex;
+
+	private final OwnerImportService importer;
+
+	private final ObjectProvider<OwnerSearchCache> searchCache;
+
+	private final PetRepository pets;
+
+	private final VisitRepository visits;
+
+	public OwnerController(OwnerRepository owners, OwnerExportService exporter,
+			ObjectProvider<OwnerSearchIndex> searchIndex, OwnerImportService importer,
+			ObjectProvider<OwnerSearchCache> searchCache, PetRepository pets, VisitRepository visits) {
 		this.owners = owners;
+		this.exporter = exporter;
+		this.searchIndex = searchIndex;
+		this.importer = importer;
+		this.searchCache = searchCache;
+		this.pets = pets;
+		this.visits = visits;
 	}
 
 	@InitBinder
@@ -104,40 +166,29 @@ class OwnerController {
 			return VIEWS_OWNER_CREATE_OR_UPDATE_FORM;
 		}
 
-		this.owners.save(owner);
+		try {
+			this.owners.save(owner);
+		}
+		catch (DataIntegrityViolationException ex) {
+			// the same owner was created concurrently, after the check above
+			owner.setId(null);
+			result.reject("owner.alreadyExists", "An owner with this information already exists");
+			return VIEWS_OWNER_CREATE_OR_UPDATE_FORM;
+		}
 		redirectAttributes.addFlashAttribute("message", "New Owner Created");
 		return "redirect:/owners/" + owner.getId();
 	}
 
 	/**
 	 * Check if an owner with the same first name, last name, and telephone already
-	 * exists.
+	 * exists, by looking up the owner's {@linkplain OwnerFingerprint identity
+	 * fingerprint}.
 	 * @param owner the owner to check for duplicates
 	 * @return true if duplicate exists, false otherwise
 	 */
 	private boolean isDuplicate(Owner owner) {
-		String firstName = owner.getFirstName() != null ? owner.getFirstName().trim() : "";
-		String lastName = owner.getLastName() != null ? owner.getLastName().trim() : "";
-		String telephone = normalizeTelephone(owner.getTelephone());
-
-		List<Owner> duplicates = this.owners.findByFirstNameIgnoreCaseAndLastNameIgnoreCaseAndTelephone(firstName,
-				lastName, telephone);
-
-		return !duplicates.isEmpty();
-	}
-
-	/**
-	 * Normalize telephone number by removing spaces and dashes. Defensive measure for
-	 * consistent comparison, though @Pattern validation should already enforce 10-digit
-	 * format.
-	 * @param telephone the telephone number to normalize
-	 * @return normalized telephone number (spaces and dashes removed)
-	 */
-	private String normalizeTelephone(String telephone) {
-		if (telephone == null) {
-			return "";
-		}
-		return telephone.replaceAll("[\\s-]", "");
+		return this.owners.existsByIdentityFingerprint(
+				OwnerFingerprint.of(owner.getFirstName(), owner.getLastName(), owner.getTelephone()));
 	}
 
 	@GetMapping("/owners/find")
@@ -147,8 +198,9 @@ class OwnerController {
 
 	@GetMapping("/owners")
 	public String processFindForm(@RequestParam(defaultValue = "1") int page,
-			@RequestParam(required = false) String telephone, @RequestParam(required = false) String city, Owner owner,
-			BindingResult result, Model model) {
+			@RequestParam(required = false) String cursor, @RequestParam(defaultValue = "false") boolean count,
+			@RequestParam(required = false) String telephone, @RequestParam(required = false) String city,
+			@RequestParam(defaultValue = "false") boolean soundsLike, Owner owner, BindingResult result, Model model) {
 		// allow parameterless GET request for /owners to return all records
 		String lastName = owner.getLastName();
 		if (lastName == null) {
@@ -163,45 +215,207 @@ class OwnerController {
 			city = null;
 		}
 
-		// find owners by multiple criteria
-		Page<Owner> ownersResults = findPaginatedByMultipleCriteria(page, lastName, telephone, city);
-		if (ownersResults.isEmpty()) {
+		// find owners by multiple criteria; next/previous links carry a keyset cursor so
+		// stepping through deep result pages does not degrade into OFFSET scans
+		boolean soundAlike = soundsLike && StringUtils.hasText(lastName);
+		OwnerSearchIndex index = soundAlike ? null : availableSearchIndex();
+		OwnerCursor ownerCursor = !soundAlike && StringUtils.hasText(cursor) ? decodeCursor(cursor) : null;
+		Slice<Integer> ownerIds;
+		if (soundAlike) {
+			// a probe of the phonetic key index; its few results are paged by offset
+			ownerIds = findSoundAlikeOwnerIds(page, lastName, telephone, city);
+		}
+		else if (index != null) {
+			ownerIds = index.search(lastName, telephone, city, ownerCursor,
+					PageRequest.of(page - 1, PAGE_SIZE, OWNER_ORDER));
+		}
+		else {
+			ownerIds = findOwnerIds(page, ownerCursor != null ? cursor : null, ownerCursor, lastName, telephone, city);
+		}
+		if (ownerIds.isEmpty()) {
 			// no owners found
 			result.rejectValue("lastName", "notFound", "not found");
 			return "owners/findOwners";
 		}
 
-		if (ownersResults.getTotalElements() == 1) {
+		if (page == 1 && !ownerIds.hasNext() && ownerIds.getNumberOfElements() == 1) {
 			// 1 owner found
-			owner = ownersResults.iterator().next();
-			return "redirect:/owners/" + owner.getId();
+			return "redirect:/owners/" + ownerIds.getContent().get(0);
 		}
 
 		// multiple owners found
 		model.addAttribute("lastName", lastName);
 		model.addAttribute("telephone", telephone);
 		model.addAttribute("city", city);
-		return addPaginationModel(page, model, ownersResults);
+		model.addAttribute("soundsLike", soundAlike);
+		Long totalItems = null;
+		if (!ownerIds.hasNext()) {
+			// on the last page the total is known without counting
+			totalItems = (long) (page - 1) * PAGE_SIZE + ownerIds.getNumberOfElements();
+		}
+		else if (count && soundAlike) {
+			totalItems = this.owners.countBySoundAlikeCriteria(PhoneticKey.candidates(lastName), telephone, city);
+		}
+		else if (count) {
+			totalItems = index != null ? index.count(lastName, telephone, city)
+					: countOwners(lastName, telephone, city);
+		}
+		if (!soundAlike) {
+			model.addAttribute("facets", facets(lastName, telephone));
+		}
+		return addPaginationModel(page, totalItems, !soundAlike, model, listItems(ownerIds));
+	}
+
+	/**
+	 * Last names starting with the given prefix, for the typeahead on the find form.
+	 * @param q the prefix typed so far
+	 * @return up to ten matching last names
+	 */
+	@GetMapping(path = "/owners/suggest", produces = MediaType.APPLICATION_JSON_VALUE)
+	@ResponseBody
+	public List<String> suggestLastNames(@RequestParam(defaultValue = "") String q) {
+		if (!StringUtils.hasText(q)) {
+			return List.of();
+		}
+		OwnerSearchIndex index = availableSearchIndex();
+		return index != null ? index.suggestLastNames(q.trim(), SUGGESTION_LIMIT)
+				: this.owners.findLastNamesStartingWith(q.trim(), Limit.of(SUGGESTION_LIMIT));
+	}
+
+	/**
+	 * The in-memory search index, if it is enabled and has been built.
+	 */
+	private OwnerSearchIndex availableSearchIndex() {
+		OwnerSearchIndex index = this.searchIndex.getIfAvailable();
+		return index != null && index.isReady() ? index : null;
 	}
 
-	private String addPaginationModel(int page, Model model, Page<Owner> paginated) {
-		List<Owner> listOwners = paginated.getContent();
+	/**
+	 * Populate the pagination model. The total number of results is optional: it is only
+	 * known on the last page or when explicitly requested, so {@code totalItems} and
+	 * {@code totalPages} are left out of the model otherwise. Page cursors are only added
+	 * for searches that support keyset pagination.
+	 */
+	private String addPaginationModel(int page, Long totalItems, boolean keyset, Model model,
+			Slice<OwnerListItem> paginated) {
+		List<OwnerListItem> listOwners = paginated.getContent();
 		model.addAttribute("currentPage", page);
-		model.addAttribute("totalPages", paginated.getTotalPages());
-		model.addAttribute("totalItems", paginated.getTotalElements());
+		model.addAttribute("hasNext", paginated.hasNext());
+		if (totalItems != null) {
+			model.addAttribute("totalPages", (int) ((totalItems + PAGE_SIZE - 1) / PAGE_SIZE));
+			model.addAttribute("totalItems", totalItems);
+		}
 		model.addAttribute("listOwners", listOwners);
+		if (keyset && !listOwners.isEmpty()) {
+			if (paginated.hasNext()) {
+				model.addAttribute("nextCursor", OwnerCursor.after(listOwners.get(listOwners.size() - 1)).encode());
+			}
+			if (page > 1) {
+				model.addAttribute("previousCursor", OwnerCursor.before(listOwners.get(0)).encode());
+			}
+		}
 		return "owners/ownersList";
 	}
 
-	private Page<Owner> findPaginatedByMultipleCriteria(int page, String lastName, String telephone, String city) {
-		int pageSize = 5;
-		Pageable pageable = PageRequest.of(page - 1, pageSize);
+	private Slice<Owner> findPaginatedByMultipleCriteria(int page, String lastName, String telephone, String city) {
+		Pageable pageable = PageRequest.of(page - 1, PAGE_SIZE, OWNER_ORDER);
 		return owners.findByMultipleCriteria(lastName, telephone, city, pageable);
 	}
 
+	/**
+	 * Read the page adjacent to the given cursor with a keyset query. One extra row is
+	 * fetched going forward to tell whether there is a next page; going backward there
+	 * always is one, since that is where the cursor came from. The page number is only
+	 * carried along for display.
+	 */
+	private Slice<Owner> findPaginatedByCursor(int page, OwnerCursor cursor, String lastName, String telephone,
+			String city) {
+		Pageable pageable = PageRequest.of(page - 1, PAGE_SIZE, OWNER_ORDER);
+		if (cursor.forward()) {
+			List<Owner> content = owners.findByMultipleCriteriaAfter(lastName, telephone, city, cursor.lastNameLower(),
+					cursor.id(), Limit.of(PAGE_SIZE + 1));
+			boolean hasNext = content.size() > PAGE_SIZE;
+			return new SliceImpl<>(hasNext ? content.subList(0, PAGE_SIZE) : content, pageable, hasNext);
+		}
+		List<Owner> content = new ArrayList<>(owners.findByMultipleCriteriaBefore(lastName, telephone, city,
+				cursor.lastNameLower(), cursor.id(), Limit.of(PAGE_SIZE)));
+		Collections.reverse(content);
+		return new SliceImpl<>(content, pageable, true);
+	}
+
+	/**
+	 * Determine the ids of the owners on a result page, from the search cache if it is
+	 * enabled.
+	 */
+	private Slice<Integer> findOwnerIds(int page, String cursor, OwnerCursor ownerCursor, String lastName,
+			String telephone, String city) {
+		Supplier<Slice<Integer>> query = () -> (ownerCursor != null
+				? findPaginatedByCursor(page, ownerCursor, lastName, telephone, city)
+				: findPaginatedByMultipleCriteria(page, lastName, telephone, city))
+			.map(Owner::getId);
+		OwnerSearchCache cache = this.searchCache.getIfAvailable();
+		return cache != null ? cache.page(lastName, telephone, city, cursor, page, query) : query.get();
+	}
+
+	/**
+	 * Determine the ids of the owners on a page of sound-alike results. Names without any
+	 * letters to encode match nobody.
+	 */
+	private Slice<Integer> findSoundAlikeOwnerIds(int page, String lastName, String telephone, String city) {
+		Pageable pageable = PageRequest.of(page - 1, PAGE_SIZE, OWNER_ORDER);
+		Set<String> keys = PhoneticKey.candidates(lastName);
+		if (keys.isEmpty()) {
+			return new SliceImpl<>(List.of(), pageable, false);
+		}
+		return this.owners.findBySoundAlikeCriteria(keys, telephone, city, pageable).map(Owner::getId);
+	}
+
+	private long countOwners(String lastName, String telephone, String city) {
+		OwnerSearchCache cache = this.searchCache.getIfAvailable();
+		return cache != null
+				? cache.count(lastName, telephone, city,
+						() -> this.owners.countByMultipleCriteria(lastName, telephone, city))
+				: this.owners.countByMultipleCriteria(lastName, telephone, city);
+	}
+
+	/**
+	 * Count the owners per city and pet type for the current last name and telephone
+	 * search, from the search cache if it is enabled. The facets ignore the city searched
+	 * for, so the other cities remain one click away.
+	 */
+	private OwnerFacets facets(String lastName, String telephone) {
+		Supplier<OwnerFacets> query = () -> OwnerFacets.of(this.owners.countFacets(lastName, telephone), FACET_LIMIT);
+		OwnerSearchCache cache = this.searchCache.getIfAvailable();
+		return cache != null ? cache.facets(lastName, telephone, query) : query.get();
+	}
+
+	/**
+	 * Read the rows of a result page, with the names of the owners' pets, which the list
+	 * shows. Joining pets in the paginated query itself would multiply its rows, so the
+	 * page is determined first and read with a second, bounded projection query that
+	 * loads no entities. Owners deleted in between are left out.
+	 */
+	private Slice<OwnerListItem> listItems(Slice<Integer> page) {
+		Map<Integer, OwnerListItem> loaded = new HashMap<>();
+		for (OwnerListItem item : this.owners.findListItemsByIdIn(page.getContent())) {
+			loaded.put(item.id(), item);
+		}
+		List<OwnerListItem> content = page.stream().map(loaded::get).filter(Objects::nonNull).toList();
+		return new SliceImpl<>(content, page.getPageable(), page.hasNext());
+	}
+
+	private OwnerCursor decodeCursor(String cursor) {
+		try {
+			return OwnerCursor.decode(cursor);
+		}
+		catch (IllegalStateException ex) {
+			// not chained: the IllegalArgumentException cause would be rendered as a 404
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid page cursor");
+		}
+	}
+
 	private Page<Owner> findPaginatedForOwnersLastName(int page, String lastname) {
-		int pageSize = 5;
-		Pageable pageable = PageRequest.of(page - 1, pageSize);
+		Pageable pageable = PageRequest.of(page - 1, PAGE_SIZE);
 		return owners.findByLastNameStartingWith(lastname, pageable);
 	}
 
@@ -225,60 +439,240 @@ class OwnerController {
 		}
 
 		owner.setId(ownerId);
-		this.owners.save(owner);
+		OwnerSearchCache cache = this.searchCache.getIfAvailable();
+		// the bound owner already carries the new values; searches it was found by
+		// before the edit are dropped once the edit is saved
+		Owner previous = cache != null ? this.owners.findById(ownerId).orElse(null) : null;
+		try {
+			this.owners.save(owner);
+		}
+		catch (DataIntegrityViolationException ex) {
+			// the edit would make the owner a duplicate of another one
+			result.reject("owner.alreadyExists", "An owner with this information already exists");
+			return VIEWS_OWNER_CREATE_OR_UPDATE_FORM;
+		}
+		if (previous != null) {
+			cache.evict(previous.getLastName(), previous.getTelephone(), previous.getCity());
+		}
 		redirectAttributes.addFlashAttribute("message", "Owner Values Updated");
 		return "redirect:/owners/{ownerId}";
 	}
 
 	/**
-	 * Custom handler for displaying an owner.
+	 * Custom handler for displaying an owner. The owner itself is loaded by
+	 * {@link #findOwner(Integer)}; its pets are listed a page at a time, so owners with
+	 * many pets (shelters, breeders) are not loaded whole. Of each pet only the
+	 * {@value #LATEST_VISITS} latest visits are shown, with a cursor to load the older
+	 * ones from {@link VisitHistoryController}.
 	 * @param ownerId the ID of the owner to display
+	 * @param page the page of pets to show, starting at 1
 	 * @return a ModelMap with the model attributes for the view
 	 */
 	@GetMapping("/owners/{ownerId}")
-	public ModelAndView showOwner(@PathVariable("ownerId") int ownerId) {
+	public ModelAndView showOwner(@PathVariable("ownerId") int ownerId, @RequestParam(defaultValue = "1") int page) {
 		ModelAndView mav = new ModelAndView("owners/ownerDetails");
-		Optional<Owner> optionalOwner = this.owners.findById(ownerId);
-		Owner owner = optionalOwner.orElseThrow(() -> new IllegalArgumentException(
-				"Owner not found with id: " + ownerId + ". Please ensure the ID is correct "));
-		mav.addObject(owner);
+		Page<Integer> petIds = this.pets.findIdsByOwnerId(ownerId, PageRequest.of(page - 1, PETS_PAGE_SIZE, PET_ORDER));
+		mav.addObject("pets", petIds.isEmpty() ? List.of() : this.pets.findByIdIn(petIds.getContent(), PET_ORDER));
+		addLatestVisits(petIds.getContent(), mav);
+		mav.addObject("currentPage", page);
+		mav.addObject("totalPages", petIds.getTotalPages());
 		return mav;
 	}
 
 	/**
-	 * Exports owners as CSV file. Filters by lastName parameter if provided.
+	 * Add the latest visits of the given pets to the model, with their visit counts and,
+	 * for pets with more visits than shown, the cursor of the older ones. One index range
+	 * read per pet, bounded by the size of a page of pets.
+	 */
+	private void addLatestVisits(List<Integer> petIds, ModelAndView mav) {
+		Map<Integer, Long> visitCounts = new HashMap<>();
+		if (!petIds.isEmpty()) {
+			for (VisitRepository.PetVisitCount count : this.visits.countByPetIdIn(petIds)) {
+				visitCounts.put(count.getPetId(), count.getVisits());
+			}
+		}
+		Map<Integer, List<Visit>> latestVisits = new HashMap<>();
+		Map<Integer, String> olderVisits = new HashMap<>();
+		for (Integer petId : petIds) {
+			long count = visitCounts.getOrDefault(petId, 0L);
+			List<Visit> latest = count == 0 ? List.of() : this.visits.findLatestByPetId(petId, Limit.of(LATEST_VISITS));
+			latestVisits.put(petId, latest);
+			if (!latest.isEmpty() && count > latest.size()) {
+				olderVisits.put(petId, VisitCursor.after(latest.get(latest.size() - 1)).encode());
+			}
+		}
+		mav.addObject("latestVisits", latestVisits);
+		mav.addObject("visitCounts", visitCounts);
+		mav.addObject("olderVisits", olderVisits);
+	}
+
+	/**
+	 * Exports owners as CSV file. Filters by lastName parameter if provided. Rows are
+	 * streamed to the response as they are read from the database, so there is no upper
+	 * limit on the number of owners exported.
+	 * <p>
+	 * Every export returns a watermark in the {@value #WATERMARK_HEADER} header. Passed
+	 * back as {@code since}, it restricts the next export to the owners that changed
+	 * afterwards, themselves or through their pets, so a periodic sync only transfers
+	 * what changed. The watermark lags {@link #WATERMARK_OVERLAP} behind the start of the
+	 * export, so changes committed while it ran are sent again next time rather than
+	 * missed. Owners removed by merging them into another owner are not in a delta
+	 * export; {@link #exportRemovedOwnersCsv} lists them for the same watermark.
+	 * <p>
+	 * The body is compressed while it is streamed with the best coding the client
+	 * accepts, zstd or gzip (see {@link ExportEncoding}).
 	 * @param lastName optional filter for owner last name (starts with)
-	 * @return CSV file as ResponseEntity with appropriate headers
-	 * @throws ResponseStatusException with HTTP 413 if result set exceeds
-	 * MAX_CSV_EXPORT_SIZE
+	 * @param since optional watermark returned by an earlier export
+	 * @param acceptEncoding the content codings the client accepts
+	 * @return streaming CSV body as ResponseEntity with appropriate headers
+	 * @throws ResponseStatusException with HTTP 404 if no owner matches a full export, or
+	 * HTTP 400 if the watermark is not an ISO-8601 instant
 	 */
 	@GetMapping("/owners.csv")
-	public ResponseEntity<String> exportOwnersCsv(@RequestParam(defaultValue = "") String lastName) {
-		List<Owner> ownerList = this.owners.findByLastNameStartingWith(lastName);
+	public ResponseEntity<StreamingResponseBody> exportOwnersCsv(@RequestParam(defaultValue = "") String lastName,
+			@RequestParam(required = false) String since,
+			@RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+		Instant changedSince = parseWatermark(since);
+		requireExportedOwners(lastName, changedSince);
+		StreamingResponseBody body = (changedSince != null)
+				? out -> this.exporter.writeChangedOwnersCsv(lastName, changedSince, out)
+				: out -> this.exporter.writeOwnersCsv(lastName, out);
+		return exportResponse(body, "text/csv; charset=UTF-8", "csv", changedSince, acceptEncoding);
+	}
+
+	/**
+	 * Exports owners with their pets as newline-delimited JSON, one owner per line, in
+	 * the format accepted by {@link #importOwners(MultipartFile)}. Takes the same
+	 * parameters, and is streamed, compressed and watermarked like
+	 * {@link #exportOwnersCsv}.
+	 * @param lastName optional filter for owner last name (starts with)
+	 * @param since optional watermark returned by an earlier export
+	 * @param acceptEncoding the content codings the client accepts
+	 * @return streaming NDJSON body as ResponseEntity with appropriate headers
+	 * @throws ResponseStatusException with HTTP 404 if no owner matches a full export, or
+	 * HTTP 400 if the watermark is not an ISO-8601 instant
+	 */
+	@GetMapping("/owners.ndjson")
+	public ResponseEntity<StreamingResponseBody> exportOwnersNdjson(@RequestParam(defaultValue = "") String lastName,
+			@RequestParam(required = false) String since,
+			@RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+		Instant changedSince = parseWatermark(since);
+		requireExportedOwners(lastName, changedSince);
+		return exportResponse(out -> this.exporter.writeOwnersNdjson(lastName, changedSince, out),
+				"application/x-ndjson", "ndjson", changedSince, acceptEncoding);
+	}
+
+	/**
+	 * Exports the owners removed since a watermark by merging them into another owner, as
+	 * CSV rows of the removed owner's id, the id of the owner it was merged into and the
+	 * time of removal. A client applying delta exports drops these owners, and can move
+	 * what it keeps of them to the owner they were merged into. Streamed, compressed and
+	 * watermarked like {@link #exportOwnersCsv}.
+	 * @param lastName optional filter for the removed owners' last name (starts with)
+	 * @param since watermark returned by an earlier export
+	 * @param acceptEncoding the content codings the client accepts
+	 * @return streaming CSV body as ResponseEntity with appropriate headers
+	 * @throws ResponseStatusException with HTTP 400 if the watermark is not an ISO-8601
+	 * instant
+	 */
+	@GetMapping("/owners/removed.csv")
+	public ResponseEntity<StreamingResponseBody> exportRemovedOwnersCsv(
+			@RequestParam(defaultValue = "") String lastName, @RequestParam String since,
+			@RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+		Instant removedSince = parseWatermark(since);
+		return exportResponse(out -> this.exporter.writeRemovedOwnersCsv(lastName, removedSince, out),
+				"text/csv; charset=UTF-8", "removed.csv", removedSince, acceptEncoding);
+	}
 
-		if (ownerList.isEmpty()) {
+	/**
+	 * A full export must match at least one owner; a delta export is empty when nothing
+	 * changed.
+	 */
+	private void requireExportedOwners(String lastName, Instant since) {
+		if (since == null && !this.owners.existsByLastNameStartingWith(lastName)) {
 			throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No owners found matching the search criteria");
 		}
+	}
 
-		// Prevent memory exhaustion from large exports (DoS protection)
-		if (ownerList.size() > MAX_CSV_EXPORT_SIZE) {
-			throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "Too many results (" + ownerList.size()
-					+ "). Maximum export size is " + MAX_CSV_EXPORT_SIZE + ". Please refine your search.");
+	private static ResponseEntity<StreamingResponseBody> exportResponse(StreamingResponseBody body, String contentType,
+			String extension, Instant since, String acceptEncoding) {
+		Instant watermark = Instant.now().minus(WATERMARK_OVERLAP);
+		if (since != null && since.isAfter(watermark)) {
+			watermark = since;
 		}
-
-		String csv = CsvBuilder.buildOwnersCsv(ownerList);
+		ExportEncoding encoding = ExportEncoding.negotiate(acceptEncoding);
 
 		HttpHeaders headers = new HttpHeaders();
-		headers.setContentType(MediaType.parseMediaType("text/csv; charset=UTF-8"));
+		headers.setContentType(MediaType.parseMediaType(contentType));
 
-		String filename = "owners-export-" + LocalDate.now().format(DateTimeFormatter.ISO_LOCAL_DATE) + ".csv";
+		String filename = "owners-export-" + LocalDate.now().format(DateTimeFormatter.ISO_LOCAL_DATE) + "." + extension;
 		headers.setContentDispositionFormData("attachment", filename);
 
 		headers.setCacheControl("no-cache, no-store, must-revalidate");
 		headers.setPragma("no-cache");
 		headers.setExpires(0);
+		headers.set(WATERMARK_HEADER, watermark.toString());
+		headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+		if (encoding != ExportEncoding.IDENTITY) {
+			headers.set(HttpHeaders.CONTENT_ENCODING, encoding.coding());
+		}
+
+		return ResponseEntity.ok().headers(headers).body(encoding.encode(body));
+	}
 
-		return ResponseEntity.ok().headers(headers).body(csv);
+	private static Instant parseWatermark(String since) {
+		if (since == null) {
+			return null;
+		}
+		try {
+			return Instant.parse(since);
+		}
+		catch (DateTimeParseException ex) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid export watermark: " + since);
+		}
+	}
+
+	/**
+	 * Imports owners and their pets from an uploaded CSV or NDJSON file. The format is
+	 * taken from the file's content type or, failing that, its extension.
+	 * @param file the uploaded file
+	 * @return counts of imported, duplicate and rejected rows, with the rejected rows'
+	 * line numbers and reasons
+	 * @throws IOException if reading the upload fails
+	 * @throws ResponseStatusException with HTTP 400 if the CSV header lacks owner columns
+	 */
+	@PostMapping(path = "/owners/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+			produces = MediaType.APPLICATION_JSON_VALUE)
+	@ResponseBody
+	public OwnerImportResult importOwners(@RequestParam("file") MultipartFile file) throws IOException {
+		try (InputStream in = file.getInputStream()) {
+			return importOwners(in, OwnerImportService.Format.of(file.getContentType(), file.getOriginalFilename()));
+		}
+	}
+
+	/**
+	 * Imports owners and their pets from a CSV or NDJSON request body.
+	 * @param contentType {@code text/csv} or {@code application/x-ndjson}
+	 * @param body the request body
+	 * @return counts of imported, duplicate and rejected rows
+	 * @throws IOException if reading the request body fails
+	 * @throws ResponseStatusException with HTTP 400 if the CSV header lacks owner columns
+	 */
+	@PostMapping(path = "/owners/import", consumes = { "text/csv", "application/x-ndjson" },
+			produces = MediaType.APPLICATION_JSON_VALUE)
+	@ResponseBody
+	public OwnerImportResult importOwners(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body)
+			throws IOException {
+		return importOwners(body, OwnerImportService.Format.of(contentType, null));
+	}
+
+	private OwnerImportResult importOwners(InputStream in, OwnerImportService.Format format) throws IOException {
+		try {
+			return this.importer.importOwners(in, format);
+		}
+		catch (IllegalStateException ex) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage(), ex);
+		}
 	}
 
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Locale;
+
+/**
+ * Position in the owner search results, ordered by {@code (lastNameLower, id)}. Used for
+ * keyset pagination: instead of skipping {@code OFFSET} rows, the next page is read
+ * starting right after (or, going backwards, right before) the owner the cursor points
+ * at, so every page costs the same regardless of how deep it is.
+ * <p>
+ * Cursors are handed to the browser as opaque URL-safe tokens.
+ *
+ * @param forward {@code true} to read the page after the key, {@code false} for the page
+ * before it
+ * @param lastNameLower lower-cased last name of the owner at the page boundary, as the
+ * {@code last_name_lower} column holds it
+ * @param id id of the owner at the page boundary
+ */
+record OwnerCursor(boolean forward, String lastNameLower, int id) {
+
+	private static final String SEPARATOR = ":";
+
+	/**
+	 * Cursor for the page following the given owner.
+	 * @param owner the last owner on the current page
+	 * @return a forward cursor
+	 */
+	static OwnerCursor after(Owner owner) {
+		return new OwnerCursor(true, lowerCase(owner.getLastName()), owner.getId());
+	}
+
+	/**
+	 * Cursor for the page preceding the given owner.
+	 * @param owner the first owner on the current page
+	 * @return a backward cursor
+	 */
+	static OwnerCursor before(Owner owner) {
+		return new OwnerCursor(false, lowerCase(owner.getLastName()), owner.getId());
+	}
+
+	/**
+	 * Cursor for the page following the given row of the owners list.
+	 * @param item the last row on the current page
+	 * @return a forward cursor
+	 */
+	static OwnerCursor after(OwnerListItem item) {
+		return new OwnerCursor(true, lowerCase(item.lastName()), item.id());
+	}
+
+	/**
+	 * Cursor for the page preceding the given row of the owners list.
+	 * @param item the first row on the current page
+	 * @return a backward cursor
+	 */
+	static OwnerCursor before(OwnerListItem item) {
+		return new OwnerCursor(false, lowerCase(item.lastName()), item.id());
+	}
+
+	/**
+	 * Encode this cursor as an opaque token that can be used as a request parameter.
+	 * @return the URL-safe token
+	 */
+	String encode() {
+		String raw = (this.forward ? "n" : "p") + SEPARATOR + this.id + SEPARATOR + this.lastNameLower;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Decode a token produced by {@link #encode()}.
+	 * @param token the token to decode
+	 * @return the decoded cursor
+	 * @throws IllegalStateException if the token is malformed
+	 */
+	static OwnerCursor decode(String token) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			String[] parts = raw.split(SEPARATOR, 3);
+			if (parts.length != 3 || !("n".equals(parts[0]) || "p".equals(parts[0]))) {
+				throw new IllegalStateException("Malformed owner cursor: " + token);
+			}
+			return new OwnerCursor("n".equals(parts[0]), parts[2], Integer.parseInt(parts[1]));
+		}
+		catch (IllegalArgumentException ex) {
+			throw new IllegalStateException("Malformed owner cursor: " + token, ex);
+		}
+	}
+
+	private static String lowerCase(String lastName) {
+		return (lastName != null) ? lastName.toLowerCase(Locale.ROOT) : "";
+	}
+
+}
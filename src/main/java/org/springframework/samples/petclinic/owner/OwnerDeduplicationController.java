@@ -0,0 +1,58 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Batch deduplication of owners: a client fetches the plan of merges, reviews it, and
+ * posts back the merges to apply.
+ */
+@RestController
+@RequestMapping("/owners/duplicates")
+class OwnerDeduplicationController {
+
+	private final OwnerDeduplicationService deduplication;
+
+	OwnerDeduplicationController(OwnerDeduplicationService deduplication) {
+		this.deduplication = deduplication;
+	}
+
+	/**
+	 * Find the owners that are duplicates of each other.
+	 * @return the merges that would remove them; nothing is changed
+	 */
+	@GetMapping
+	public OwnerMergePlan planMerges() {
+		return this.deduplication.plan();
+	}
+
+	/**
+	 * Merge duplicate owners.
+	 * @param plan the merges to apply, as returned by {@link #planMerges()} or a subset
+	 * of them
+	 * @return counts of the merges applied, owners removed and pets moved
+	 */
+	@PostMapping("/merge")
+	public OwnerMergeResult applyMerges(@RequestBody OwnerMergePlan plan) {
+		return this.deduplication.apply(plan);
+	}
+
+}
@@ -0,0 +1,507 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.samples.petclinic.owner.OwnerMergePlan.Merge;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Finds owners registered more than once under slightly different details, which the
+ * exact {@linkplain OwnerFingerprint fingerprint} check on the owner form lets through
+ * ("Georg" and "George", "110 W Liberty St" and "110 W. Liberty St."), and merges them.
+ * <p>
+ * {@link #plan()} streams all owners once and groups them into blocks by a key that
+ * near-duplicates share: the {@linkplain PhoneticKey sound-alike key} of the last name
+ * and the last four digits of the telephone number. Only owners of the same block are
+ * compared, so the work grows with the size of the blocks rather than with the square of
+ * the number of owners; the blocks are scored in parallel on the fork/join pool. Owners
+ * whose similarity reaches {@code petclinic.owners.dedup.threshold} are merged into the
+ * longest registered owner of their group.
+ * <p>
+ * {@link #apply(OwnerMergePlan)} writes a plan with set-based JDBC statements, a chunk of
+ * merges per transaction: the duplicates' pets are moved to the survivor and the
+ * duplicates are deleted, leaving an {@link OwnerTombstone} each. A plan may come from a
+ * client, so every merge is checked against the owners as they are when it is applied:
+ * only duplicates that still share the survivor's block and reach the threshold, against
+ * the survivor or another duplicate already accepted, are merged.
+ */
+@Service
+public class OwnerDeduplicationService {
+
+	static final int CHUNK_SIZE = 100;
+
+	private static final Log logger = LogFactory.getLog(OwnerDeduplicationService.class);
+
+	private static final int FETCH_SIZE = 500;
+
+	/**
+	 * Blocks scored by one fork/join task; larger lists are split.
+	 */
+	private static final int BLOCKS_PER_TASK = 64;
+
+	private static final int TELEPHONE_SUFFIX_LENGTH = 4;
+
+	private static final double FIRST_NAME_WEIGHT = 0.35;
+
+	private static final double LAST_NAME_WEIGHT = 0.25;
+
+	private static final double ADDRESS_WEIGHT = 0.2;
+
+	private static final double TELEPHONE_WEIGHT = 0.2;
+
+	private static final String SELECT_OWNERS = "SELECT id, first_name, last_name, address, telephone, last_name_phonetic FROM owners";
+
+	private static final String SELECT_MERGED = "SELECT id, first_name, last_name, address, telephone, last_name_phonetic, city FROM owners WHERE id IN (:ids)";
+
+	/**
+	 * Lower-cased names of the pets whose name another owner of the chunk also uses.
+	 */
+	private static final String SELECT_SHARED_PET_NAMES = "SELECT owner_id, name_lower FROM pets WHERE owner_id IN (:ids) AND name_lower IN "
+			+ "(SELECT name_lower FROM pets WHERE owner_id IN (:ids) GROUP BY name_lower HAVING COUNT(DISTINCT owner_id) > 1)";
+
+	private static final String MOVE_PETS = "UPDATE pets SET owner_id = :survivorId, updated_at = :now WHERE owner_id IN (:duplicateIds)";
+
+	private static final String BUMP_VERSIONS = "UPDATE owners SET version = version + 1, updated_at = :now WHERE id IN (:ids)";
+
+	private static final String DELETE_OWNERS = "DELETE FROM owners WHERE id IN (:ids)";
+
+	private static final String INSERT_TOMBSTONE = "INSERT INTO owner_tombstones (owner_id, merged_into_id, last_name, removed_at) "
+			+ "VALUES (:ownerId, :mergedIntoId, :lastName, :now)";
+
+	private static final String OWNER_PETS = Owner.class.getName() + ".pets";
+
+	private final NamedParameterJdbcTemplate jdbc;
+
+	private final TransactionTemplate transactions;
+
+	private final TransactionTemplate readOnlyTransactions;
+
+	private final ApplicationEventPublisher events;
+
+	private final EntityManagerFactory entityManagerFactory;
+
+	private final double threshold;
+
+	public OwnerDeduplicationService(NamedParameterJdbcTemplate jdbc, PlatformTransactionManager transactionManager,
+			ApplicationEventPublisher events, EntityManagerFactory entityManagerFactory,
+			@Value("${petclinic.owners.dedup.threshold:0.85}") double threshold) {
+		this.jdbc = jdbc;
+		this.transactions = new TransactionTemplate(transactionManager);
+		this.readOnlyTransactions = new TransactionTemplate(transactionManager);
+		this.readOnlyTransactions.setReadOnly(true);
+		this.events = events;
+		this.entityManagerFactory = entityManagerFactory;
+		this.threshold = threshold;
+	}
+
+	/**
+	 * Find the owners that are duplicates of each other.
+	 * @return the merges that would remove the duplicates, not yet applied
+	 */
+	public OwnerMergePlan plan() {
+		Map<String, List<Candidate>> blocks = new HashMap<>();
+		long[] owners = { 0 };
+		this.readOnlyTransactions.executeWithoutResult(status -> this.jdbc.getJdbcTemplate().query(connection -> {
+			PreparedStatement statement = connection.prepareStatement(SELECT_OWNERS);
+			statement.setFetchSize(FETCH_SIZE);
+			return statement;
+		}, (RowCallbackHandler) rs -> {
+			owners[0]++;
+			Candidate candidate = Candidate.of(rs.getInt(1), rs.getString(2), rs.getString(3), rs.getString(4),
+					rs.getString(5));
+			String key = blockingKey(rs.getString(6), rs.getString(3), candidate.telephone());
+			if (key != null) {
+				blocks.computeIfAbsent(key, k -> new ArrayList<>()).add(candidate);
+			}
+		}));
+
+		List<List<Candidate>> comparable = blocks.values().stream().filter(block -> block.size() > 1).toList();
+		Scores scores = ForkJoinPool.commonPool()
+			.invoke(new ScoreBlocks(comparable, 0, comparable.size(), this.threshold));
+		List<Merge> merges = new ArrayList<>(scores.merges());
+		merges.sort(Comparator.comparingInt(Merge::survivorId));
+		logger.info("Found " + merges.size() + " groups of duplicate owners among " + owners[0] + " owners ("
+				+ scores.comparisons() + " comparisons in " + comparable.size() + " blocks)");
+		return new OwnerMergePlan(owners[0], scores.comparisons(), merges);
+	}
+
+	/**
+	 * Merge duplicate owners as planned. Merges whose surviving owner no longer exists
+	 * are skipped, and duplicates that no longer exist or are no longer similar enough
+	 * are ignored, so a plan can be applied some time after it was made; merges left with
+	 * no duplicates are skipped. Merges whose owners have pets of the same name are
+	 * skipped as well, since an owner's pets must have distinct names.
+	 * @param plan the merges to apply, typically from {@link #plan()}
+	 * @return counts of the merges applied, owners removed and pets moved
+	 */
+	public OwnerMergeResult apply(OwnerMergePlan plan) {
+		List<Merge> merges = plan.merges();
+		long applied = 0;
+		long removed = 0;
+		long moved = 0;
+		long skipped = 0;
+		for (int from = 0; from < merges.size(); from += CHUNK_SIZE) {
+			List<Merge> chunk = merges.subList(from, Math.min(from + CHUNK_SIZE, merges.size()));
+			Merged merged = this.transactions.execute(status -> mergeChunk(chunk));
+			evictCached(merged);
+			applied += merged.survivorIds().size();
+			removed += merged.removedIds().size();
+			moved += merged.petsMoved();
+			skipped += chunk.size() - merged.survivorIds().size();
+		}
+		logger.info("Merged " + removed + " duplicate owners into " + applied + " owners, moving " + moved + " pets ("
+				+ skipped + " merges skipped)");
+		return new OwnerMergeResult(applied, removed, moved, skipped);
+	}
+
+	private Merged mergeChunk(List<Merge> chunk) {
+		Set<Integer> ids = new HashSet<>();
+		for (Merge merge : chunk) {
+			ids.add(merge.survivorId());
+			ids.addAll(merge.duplicateIds());
+		}
+		Map<Integer, OwnerChangedEvent> existing = new HashMap<>();
+		Map<Integer, Candidate> candidates = new HashMap<>();
+		Map<Integer, String> blockingKeys = new HashMap<>();
+		this.jdbc.query(SELECT_MERGED, Map.of("ids", ids), (RowCallbackHandler) rs -> {
+			Candidate candidate = Candidate.of(rs.getInt(1), rs.getString(2), rs.getString(3), rs.getString(4),
+					rs.getString(5));
+			existing.put(candidate.id(),
+					new OwnerChangedEvent(candidate.id(), rs.getString(3), rs.getString(5), rs.getString(7), false));
+			candidates.put(candidate.id(), candidate);
+			blockingKeys.put(candidate.id(), blockingKey(rs.getString(6), rs.getString(3), candidate.telephone()));
+		});
+
+		Map<Integer, Set<String>> petNames = new HashMap<>();
+		this.jdbc.query(SELECT_SHARED_PET_NAMES, Map.of("ids", ids),
+				(RowCallbackHandler) rs -> petNames.computeIfAbsent(rs.getInt(1), id -> new HashSet<>())
+					.add(rs.getString(2)));
+
+		// Same clock as the entities' timestamps, which delta exports compare against
+		Timestamp now = Timestamp.from(Instant.now());
+		List<Integer> survivorIds = new ArrayList<>();
+		List<Integer> removedIds = new ArrayList<>();
+		List<SqlParameterSource> tombstones = new ArrayList<>();
+		int petsMoved = 0;
+		for (Merge merge : chunk) {
+			int survivorId = merge.survivorId();
+			if (!existing.containsKey(survivorId) || removedIds.contains(survivorId)) {
+				continue;
+			}
+			List<Integer> duplicateIds = verified(survivorId,
+					merge.duplicateIds()
+						.stream()
+						.filter(id -> id != survivorId && existing.containsKey(id) && !removedIds.contains(id)
+								&& !survivorIds.contains(id))
+						.distinct()
+						.toList(),
+					candidates, blockingKeys);
+			if (duplicateIds.isEmpty()) {
+				continue;
+			}
+			Set<String> survivorPetNames = petNames.computeIfAbsent(survivorId, id -> new HashSet<>());
+			if (sharePetNames(survivorPetNames, duplicateIds, petNames)) {
+				// Pet names are unique per owner; such owners are left for a person to
+				// merge
+				logger.info("Not merging owners " + duplicateIds + " into owner " + survivorId
+						+ ": they have pets of the same name");
+				continue;
+			}
+			for (Integer id : duplicateIds) {
+				survivorPetNames.addAll(petNames.getOrDefault(id, Set.of()));
+			}
+			petsMoved += this.jdbc.update(MOVE_PETS,
+					Map.of("survivorId", survivorId, "duplicateIds", duplicateIds, "now", now));
+			survivorIds.add(survivorId);
+			removedIds.addAll(duplicateIds);
+			for (Integer id : duplicateIds) {
+				tombstones.add(new MapSqlParameterSource("ownerId", id).addValue("mergedIntoId", survivorId)
+					.addValue("lastName", existing.get(id).lastName())
+					.addValue("now", now));
+			}
+		}
+		if (!survivorIds.isEmpty()) {
+			// The survivors' pages and ETags change with their new pets
+			this.jdbc.update(BUMP_VERSIONS, Map.of("ids", survivorIds, "now", now));
+			this.jdbc.update(DELETE_OWNERS, Map.of("ids", removedIds));
+			// Delta exports only see the owners that are left
+			this.jdbc.batchUpdate(INSERT_TOMBSTONE, tombstones.toArray(SqlParameterSource[]::new));
+		}
+		// Delivered to in-memory owner views once the chunk has committed
+		for (Integer id : removedIds) {
+			OwnerChangedEvent owner = existing.get(id);
+			this.events
+				.publishEvent(new OwnerChangedEvent(id, owner.lastName(), owner.telephone(), owner.city(), true));
+		}
+		for (Integer id : survivorIds) {
+			this.events.publishEvent(existing.get(id));
+		}
+		return new Merged(survivorIds, removedIds, petsMoved);
+	}
+
+	/**
+	 * Whether two of the owners of a merge have pets of the same name.
+	 */
+	private static boolean sharePetNames(Set<String> survivorPetNames, List<Integer> duplicateIds,
+			Map<Integer, Set<String>> petNames) {
+		Set<String> seen = new HashSet<>(survivorPetNames);
+		for (Integer id : duplicateIds) {
+			for (String name : petNames.getOrDefault(id, Set.of())) {
+				if (!seen.add(name)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * The duplicates that are in the survivor's block and, as in {@link #plan()}, reach
+	 * the threshold against the survivor or against a duplicate accepted before them.
+	 */
+	private List<Integer> verified(int survivorId, List<Integer> duplicateIds, Map<Integer, Candidate> candidates,
+			Map<Integer, String> blockingKeys) {
+		String key = blockingKeys.get(survivorId);
+		if (key == null) {
+			return List.of();
+		}
+		List<Candidate> group = new ArrayList<>(List.of(candidates.get(survivorId)));
+		List<Candidate> pending = new ArrayList<>();
+		for (Integer id : duplicateIds) {
+			if (key.equals(blockingKeys.get(id))) {
+				pending.add(candidates.get(id));
+			}
+		}
+		boolean grown = true;
+		while (grown) {
+			grown = pending.removeIf(candidate -> {
+				if (group.stream().anyMatch(member -> score(member, candidate) >= this.threshold)) {
+					group.add(candidate);
+					return true;
+				}
+				return false;
+			});
+		}
+		return group.subList(1, group.size()).stream().map(Candidate::id).sorted().toList();
+	}
+
+	/**
+	 * The statements bypass the entities, so drop what the second-level cache holds of
+	 * the owners and pets they changed.
+	 */
+	private void evictCached(Merged merged) {
+		Cache cache = this.entityManagerFactory.unwrap(SessionFactory.class).getCache();
+		if (merged.petsMoved() > 0) {
+			cache.evictEntityData(Pet.class);
+		}
+		for (List<Integer> ids : List.of(merged.survivorIds(), merged.removedIds())) {
+			for (Integer id : ids) {
+				cache.evictEntityData(Owner.class, id);
+				cache.evictCollectionData(OWNER_PETS, id);
+			}
+		}
+	}
+
+	private static String blockingKey(String lastNamePhonetic, String lastName, String telephone) {
+		String phonetic = lastNamePhonetic != null ? lastNamePhonetic : PhoneticKey.of(lastName);
+		if (phonetic == null || phonetic.isEmpty() || telephone.length() < TELEPHONE_SUFFIX_LENGTH) {
+			return null;
+		}
+		return phonetic + ':' + telephone.substring(telephone.length() - TELEPHONE_SUFFIX_LENGTH);
+	}
+
+	/**
+	 * Similarity of two owners, from {@code 0} to {@code 1}: a weighted sum of the
+	 * similarities of their names and addresses, and whether their telephone numbers are
+	 * the same.
+	 */
+	static double score(Candidate a, Candidate b) {
+		return FIRST_NAME_WEIGHT * similarity(a.firstName(), b.firstName())
+				+ LAST_NAME_WEIGHT * similarity(a.lastName(), b.lastName())
+				+ ADDRESS_WEIGHT * similarity(a.address(), b.address())
+				+ (a.telephone().equals(b.telephone()) ? TELEPHONE_WEIGHT : 0);
+	}
+
+	/**
+	 * One minus the edit distance between the two strings, relative to the longer one.
+	 */
+	static double similarity(String a, String b) {
+		int length = Math.max(a.length(), b.length());
+		if (length == 0) {
+			return 1;
+		}
+		int[] previous = new int[b.length() + 1];
+		int[] current = new int[b.length() + 1];
+		for (int j = 0; j <= b.length(); j++) {
+			previous[j] = j;
+		}
+		for (int i = 1; i <= a.length(); i++) {
+			current[0] = i;
+			for (int j = 1; j <= b.length(); j++) {
+				int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+				current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+			}
+			int[] swap = previous;
+			previous = current;
+			current = swap;
+		}
+		return 1 - (double) previous[b.length()] / length;
+	}
+
+	/**
+	 * An owner as compared: names and address trimmed, lower-cased and with runs of
+	 * whitespace collapsed, telephone reduced to its digits.
+	 */
+	record Candidate(int id, String firstName, String lastName, String address, String telephone) {
+
+		static Candidate of(int id, String firstName, String lastName, String address, String telephone) {
+			return new Candidate(id, normalize(firstName), normalize(lastName), normalize(address),
+					telephone != null ? telephone.replaceAll("\\D", "") : "");
+		}
+
+		private static String normalize(String value) {
+			return value != null ? value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT) : "";
+		}
+
+	}
+
+	private record Scores(long comparisons, List<Merge> merges) {
+
+	}
+
+	private record Merged(List<Integer> survivorIds, List<Integer> removedIds, int petsMoved) {
+
+	}
+
+	/**
+	 * Scores all pairs of owners within each of a range of blocks, splitting the range
+	 * across the fork/join pool.
+	 */
+	private static final class ScoreBlocks extends RecursiveTask<Scores> {
+
+		private final List<List<Candidate>> blocks;
+
+		private final int from;
+
+		private final int to;
+
+		private final double threshold;
+
+		ScoreBlocks(List<List<Candidate>> blocks, int from, int to, double threshold) {
+			this.blocks = blocks;
+			this.from = from;
+			this.to = to;
+			this.threshold = threshold;
+		}
+
+		@Override
+		protected Scores compute() {
+			if (this.to - this.from > BLOCKS_PER_TASK) {
+				int middle = (this.from + this.to) >>> 1;
+				ScoreBlocks left = new ScoreBlocks(this.blocks, this.from, middle, this.threshold);
+				left.fork();
+				Scores right = new ScoreBlocks(this.blocks, middle, this.to, this.threshold).compute();
+				Scores joined = left.join();
+				List<Merge> merges = new ArrayList<>(joined.merges());
+				merges.addAll(right.merges());
+				return new Scores(joined.comparisons() + right.comparisons(), merges);
+			}
+			long comparisons = 0;
+			List<Merge> merges = new ArrayList<>();
+			for (List<Candidate> block : this.blocks.subList(this.from, this.to)) {
+				comparisons += (long) block.size() * (block.size() - 1) / 2;
+				merges.addAll(group(block));
+			}
+			return new Scores(comparisons, merges);
+		}
+
+		/**
+		 * Group the owners of a block that are similar enough, directly or through other
+		 * owners of the group.
+		 */
+		private List<Merge> group(List<Candidate> block) {
+			int[] parent = new int[block.size()];
+			double[] lowestScore = new double[block.size()];
+			for (int i = 0; i < parent.length; i++) {
+				parent[i] = i;
+				lowestScore[i] = 1;
+			}
+			for (int i = 0; i < block.size(); i++) {
+				for (int j = i + 1; j < block.size(); j++) {
+					double score = score(block.get(i), block.get(j));
+					if (score >= this.threshold) {
+						int a = root(parent, i);
+						int b = root(parent, j);
+						if (a != b) {
+							parent[b] = a;
+							lowestScore[a] = Math.min(score, Math.min(lowestScore[a], lowestScore[b]));
+						}
+					}
+				}
+			}
+			Map<Integer, List<Candidate>> groups = new HashMap<>();
+			for (int i = 0; i < block.size(); i++) {
+				groups.computeIfAbsent(root(parent, i), k -> new ArrayList<>()).add(block.get(i));
+			}
+			List<Merge> merges = new ArrayList<>();
+			groups.forEach((root, group) -> {
+				if (group.size() > 1) {
+					List<Integer> ids = group.stream().map(Candidate::id).sorted().toList();
+					merges.add(new Merge(ids.get(0), List.copyOf(ids.subList(1, ids.size())), lowestScore[root]));
+				}
+			});
+			return merges;
+		}
+
+		private static int root(int[] parent, int i) {
+			while (parent[i] != i) {
+				parent[i] = parent[parent[i]];
+				i = parent[i];
+			}
+			return i;
+		}
+
+	}
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.support.RequestContextUtils;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Answers conditional GETs of an owner's pages from the owner's version alone.
+ * <p>
+ * The pages are rendered from the owner aggregate, whose version changes whenever the
+ * owner, a pet or a visit is saved (see {@link OwnerVersioning}). A strong ETag is built
+ * from that version and the locale the page is rendered in; when it matches
+ * {@code If-None-Match} the request is answered with 304 before the controller loads the
+ * owner, its pets and their visits. Runs before the controllers' model attribute methods,
+ * which is why this is an interceptor rather than a check in each handler.
+ * <p>
+ * Pages carrying a flash message are always rendered and get no ETag, so the message is
+ * neither lost to a 304 nor replayed from the browser cache.
+ */
+class OwnerETagInterceptor implements HandlerInterceptor {
+
+	/**
+	 * Distinguishes pages rendered by this run of the application, so that a redeploy
+	 * with changed templates does not validate cached pages.
+	 */
+	private final String instance = Long.toString(System.currentTimeMillis(), 36);
+
+	private final ObjectProvider<OwnerRepository> owners;
+
+	OwnerETagInterceptor(ObjectProvider<OwnerRepository> owners) {
+		this.owners = owners;
+	}
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+			return true;
+		}
+		Map<String, ?> flash = RequestContextUtils.getInputFlashMap(request);
+		if (flash != null && !flash.isEmpty()) {
+			return true;
+		}
+		Integer ownerId = ownerId(request);
+		if (ownerId == null) {
+			return true;
+		}
+		Optional<Integer> version = this.owners.getObject().findVersionById(ownerId);
+		if (version.isEmpty()) {
+			// Left to the controller, which renders the not-found page
+			return true;
+		}
+		String etag = "\"" + ownerId + "-" + version.get() + "-"
+				+ RequestContextUtils.getLocale(request).toLanguageTag() + "-" + this.instance + "\"";
+		response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+		return !new ServletWebRequest(request, response).checkNotModified(etag);
+	}
+
+	private static Integer ownerId(HttpServletRequest request) {
+		@SuppressWarnings("unchecked")
+		Map<String, String> variables = (Map<String, String>) request
+			.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+		String ownerId = (variables != null) ? variables.get("ownerId") : null;
+		if (ownerId == null) {
+			return null;
+		}
+		try {
+			return Integer.valueOf(ownerId);
+		}
+		catch (NumberFormatException ex) {
+			return null;
+		}
+	}
+
+}
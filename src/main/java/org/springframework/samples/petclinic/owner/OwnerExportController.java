@@ -0,0 +1,125 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * Asynchronous owner CSV exports: a client starts a job, polls its progress, and
+ * downloads the file once it is complete. Unlike {@code GET /owners.csv}, no request
+ * thread is held while the rows are read.
+ */
+@RestController
+@RequestMapping("/owners/exports")
+class OwnerExportController {
+
+	private final OwnerRepository owners;
+
+	private final OwnerExportJobs jobs;
+
+	OwnerExportController(OwnerRepository owners, OwnerExportJobs jobs) {
+		this.owners = owners;
+		this.jobs = jobs;
+	}
+
+	/**
+	 * Start exporting owners as CSV.
+	 * @param lastName optional filter for owner last name (starts with)
+	 * @return the status of the new job, with its URL in the {@code Location} header
+	 * @throws IOException if the export file cannot be created
+	 * @throws ResponseStatusException with HTTP 404 if no owner matches, or HTTP 429 if
+	 * too many exports are in progress
+	 */
+	@PostMapping
+	public ResponseEntity<OwnerExportStatus> startExport(@RequestParam(defaultValue = "") String lastName)
+			throws IOException {
+		long total = this.owners.countByLastNameStartingWith(lastName);
+		if (total == 0) {
+			throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No owners found matching the search criteria");
+		}
+		OwnerExportStatus status;
+		try {
+			status = this.jobs.start(lastName, total);
+		}
+		catch (RejectedExecutionException ex) {
+			throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS,
+					"Too many owner exports in progress, try again later");
+		}
+		URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+			.replaceQuery(null)
+			.path("/{id}")
+			.buildAndExpand(status.id())
+			.toUri();
+		return ResponseEntity.accepted().location(location).body(status);
+	}
+
+	/**
+	 * Report the progress of an export.
+	 * @param id the job id
+	 * @return the job status
+	 * @throws ResponseStatusException with HTTP 404 if there is no such job or it has
+	 * expired
+	 */
+	@GetMapping("/{id}")
+	public OwnerExportStatus exportStatus(@PathVariable String id) {
+		return this.jobs.status(id)
+			.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "No owner export " + id));
+	}
+
+	/**
+	 * Download the file of a completed export. {@code Range} requests are answered with
+	 * the requested bytes only, so an interrupted download can be resumed.
+	 * @param id the job id
+	 * @return the CSV file
+	 * @throws ResponseStatusException with HTTP 404 if there is no such job, or HTTP 409
+	 * if it has not completed
+	 */
+	@GetMapping("/{id}/file")
+	public ResponseEntity<Resource> exportFile(@PathVariable String id) {
+		OwnerExportStatus status = exportStatus(id);
+		Path file = this.jobs.file(id)
+			.orElseThrow(() -> new ResponseStatusException(HttpStatus.CONFLICT,
+					"Owner export " + id + " is " + status.state().name().toLowerCase()));
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.parseMediaType("text/csv; charset=UTF-8"));
+		String filename = "owners-export-" + LocalDate.now().format(DateTimeFormatter.ISO_LOCAL_DATE) + ".csv";
+		headers.setContentDisposition(ContentDisposition.attachment().filename(filename).build());
+		return ResponseEntity.ok().headers(headers).body(new FileSystemResource(file));
+	}
+
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.samples.petclinic.owner.OwnerExportStatus.State;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs owner CSV exports in the background, so a large export does not hold a request
+ * thread for its whole duration.
+ * <p>
+ * Each job streams its rows through {@link OwnerExportService} to a file on disk, on a
+ * fixed pool of worker threads. At most {@code petclinic.owners.export.max-jobs} jobs may
+ * be queued or running at once; further jobs are rejected until one finishes. A finished
+ * job and its file are deleted once {@code petclinic.owners.export.time-to-live} has
+ * passed, whether or not the file was downloaded.
+ */
+@Component
+class OwnerExportJobs {
+
+	private static final Log logger = LogFactory.getLog(OwnerExportJobs.class);
+
+	private final OwnerExportService exporter;
+
+	private final Path directory;
+
+	private final int maximumJobs;
+
+	private final Duration timeToLive;
+
+	/**
+	 * Runs the exports, and deletes finished jobs when they expire.
+	 */
+	private final ScheduledThreadPoolExecutor executor;
+
+	private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+	/**
+	 * Number of jobs queued or running. Guarded by {@code this}.
+	 */
+	private int active;
+
+	OwnerExportJobs(OwnerExportService exporter, @Value("${petclinic.owners.export.workers:2}") int workers,
+			@Value("${petclinic.owners.export.max-jobs:4}") int maximumJobs,
+			@Value("${petclinic.owners.export.time-to-live:30m}") Duration timeToLive,
+			@Value("${petclinic.owners.export.directory:${java.io.tmpdir}}") Path directory) {
+		this.exporter = exporter;
+		this.maximumJobs = maximumJobs;
+		this.timeToLive = timeToLive;
+		this.directory = directory;
+		this.executor = new ScheduledThreadPoolExecutor(workers, new CustomizableThreadFactory("owner-export-"));
+		this.executor.setRemoveOnCancelPolicy(true);
+	}
+
+	/**
+	 * Start exporting the owners whose last name starts with the given prefix.
+	 * @param lastName last name prefix, empty for all owners
+	 * @param totalRows number of owners expected, reported as the job's total
+	 * @return the status of the new job
+	 * @throws RejectedExecutionException if the maximum number of jobs are already queued
+	 * or running
+	 * @throws IOException if the file to export to cannot be created
+	 */
+	OwnerExportStatus start(String lastName, long totalRows) throws IOException {
+		synchronized (this) {
+			if (this.active >= this.maximumJobs) {
+				throw new RejectedExecutionException(this.active + " owner exports are already in progress");
+			}
+			this.active++;
+		}
+		try {
+			Job job = new Job(UUID.randomUUID().toString(), lastName, totalRows,
+					Files.createTempFile(this.directory, "owners-export-", ".csv"));
+			this.jobs.put(job.id, job);
+			this.executor.execute(() -> run(job));
+			return job.status();
+		}
+		catch (IOException | RuntimeException ex) {
+			release();
+			throw ex;
+		}
+	}
+
+	/**
+	 * Return the status of a job.
+	 * @param id the job id
+	 * @return the status, or empty if there is no such job or it has expired
+	 */
+	Optional<OwnerExportStatus> status(String id) {
+		return Optional.ofNullable(this.jobs.get(id)).map(Job::status);
+	}
+
+	/**
+	 * Return the exported file of a completed job.
+	 * @param id the job id
+	 * @return the file, or empty if there is no such job or it has not completed
+	 */
+	Optional<Path> file(String id) {
+		Job job = this.jobs.get(id);
+		return (job != null && job.state == State.COMPLETED) ? Optional.of(job.file) : Optional.empty();
+	}
+
+	private void run(Job job) {
+		job.state = State.RUNNING;
+		State outcome;
+		try (OutputStream out = Files.newOutputStream(job.file)) {
+			this.exporter.writeOwnersCsv(job.lastName, out, job.rows::set);
+			outcome = State.COMPLETED;
+		}
+		catch (IOException | RuntimeException ex) {
+			logger.warn("Owner export " + job.id + " failed", ex);
+			delete(job.file);
+			outcome = State.FAILED;
+		}
+		job.expiresAt = Instant.now().plus(this.timeToLive);
+		job.state = outcome;
+		release();
+		this.executor.schedule(() -> expire(job), this.timeToLive.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	private synchronized void release() {
+		this.active--;
+	}
+
+	private void expire(Job job) {
+		this.jobs.remove(job.id);
+		delete(job.file);
+	}
+
+	private static void delete(Path file) {
+		try {
+			Files.deleteIfExists(file);
+		}
+		catch (IOException ex) {
+			logger.warn("Could not delete owner export " + file, ex);
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		this.executor.shutdownNow();
+		this.jobs.values().forEach(job -> delete(job.file));
+		this.jobs.clear();
+	}
+
+	private static final class Job {
+
+		private final String id;
+
+		private final String lastName;
+
+		private final long totalRows;
+
+		private final Path file;
+
+		private final AtomicLong rows = new AtomicLong();
+
+		private volatile State state = State.QUEUED;
+
+		private volatile Instant expiresAt;
+
+		private Job(String id, String lastName, long totalRows, Path file) {
+			this.id = id;
+			this.lastName = lastName;
+			this.totalRows = totalRows;
+			this.file = file;
+		}
+
+		private OwnerExportStatus status() {
+			return new OwnerExportStatus(this.id, this.state, this.rows.get(), this.totalRows, this.expiresAt);
+		}
+
+	}
+
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Writes owner exports directly to an output stream. Owners are read through a database
+ * cursor and detached from the persistence context as soon as their row has been written,
+ * so memory use stays constant regardless of the number of owners exported.
+ */
+@Service
+class OwnerExportService {
+
+	private static final ObjectWriter NDJSON_WRITER = new ObjectMapper().writerFor(NdjsonOwner.class);
+
+	private static final String REMOVED_HEADER = "Id,Merged Into Id,Removed At\n";
+
+	private final OwnerRepository owners;
+
+	private final OwnerTombstoneRepository tombstones;
+
+	private final EntityManager entityManager;
+
+	OwnerExportService(OwnerRepository owners, OwnerTombstoneRepository tombstones, EntityManager entityManager) {
+		this.owners = owners;
+		this.tombstones = tombstones;
+		this.entityManager = entityManager;
+	}
+
+	/**
+	 * Streams all owners whose last name starts with the given prefix as CSV.
+	 * @param lastName last name prefix, empty for all owners
+	 * @param out the stream to write UTF-8 encoded CSV to
+	 * @return the number of owner rows written
+	 * @throws IOException if writing to the stream fails
+	 */
+	@Transactional(readOnly = true)
+	public long writeOwnersCsv(String lastName, OutputStream out) throws IOException {
+		return writeOwnersCsv(lastName, out, rows -> {
+		});
+	}
+
+	/**
+	 * Streams all owners whose last name starts with the given prefix as CSV, reporting
+	 * progress as rows are written.
+	 * @param lastName last name prefix, empty for all owners
+	 * @param out the stream to write UTF-8 encoded CSV to
+	 * @param progress called with the number of rows written so far after each row
+	 * @return the number of owner rows written
+	 * @throws IOException if writing to the stream fails
+	 */
+	@Transactional(readOnly = true)
+	public long writeOwnersCsv(String lastName, OutputStream out, LongConsumer progress) throws IOException {
+		try (Stream<Owner> stream = this.owners.streamByLastNameStartingWithOrderById(lastName)) {
+			return write(stream, out, progress);
+		}
+	}
+
+	/**
+	 * Streams the owners whose last name starts with the given prefix and that, or one of
+	 * whose pets, changed after the given instant as CSV, in the same format as
+	 * {@link #writeOwnersCsv(String, OutputStream)}.
+	 * @param lastName last name prefix, empty for all owners
+	 * @param since only owners changed after this instant are written
+	 * @param out the stream to write UTF-8 encoded CSV to
+	 * @return the number of owner rows written
+	 * @throws IOException if writing to the stream fails
+	 */
+	@Transactional(readOnly = true)
+	public long writeChangedOwnersCsv(String lastName, Instant since, OutputStream out) throws IOException {
+		try (Stream<Owner> stream = this.owners.streamChangedSince(lastName, since)) {
+			return write(stream, out, rows -> {
+			});
+		}
+	}
+
+	/**
+	 * Streams owners with their pets as newline-delimited JSON, one owner object per
+	 * line. The field names are those {@link OwnerImportService} reads, so an export can
+	 * be imported again; the ids it also carries are ignored on import.
+	 * @param lastName last name prefix, empty for all owners
+	 * @param since only owners changed after this instant are written, or {@code null}
+	 * for all owners
+	 * @param out the stream to write UTF-8 encoded NDJSON to
+	 * @return the number of owner lines written
+	 * @throws IOException if writing to the stream fails
+	 */
+	@Transactional(readOnly = true)
+	public long writeOwnersNdjson(String lastName, Instant since, OutputStream out) throws IOException {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		long count = 0;
+		try (Stream<Owner> stream = (since != null) ? this.owners.streamChangedWithPetsSince(lastName, since)
+				: this.owners.streamWithPetsByLastNameStartingWithOrderById(lastName)) {
+			Iterator<Owner> iterator = stream.iterator();
+			while (iterator.hasNext()) {
+				Owner owner = iterator.next();
+				writer.write(NDJSON_WRITER.writeValueAsString(NdjsonOwner.of(owner)));
+				writer.write('\n');
+				this.entityManager.detach(owner);
+				count++;
+			}
+		}
+		writer.flush();
+		return count;
+	}
+
+	/**
+	 * Streams the owners whose last name started with the given prefix and that were
+	 * removed by merging them into another owner after the given instant as CSV, one row
+	 * of owner id, id of the owner merged into and time of removal per owner.
+	 * @param lastName last name prefix, empty for all owners
+	 * @param since only owners removed after this instant are written
+	 * @param out the stream to write UTF-8 encoded CSV to
+	 * @return the number of rows written
+	 * @throws IOException if writing to the stream fails
+	 */
+	@Transactional(readOnly = true)
+	public long writeRemovedOwnersCsv(String lastName, Instant since, OutputStream out) throws IOException {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		writer.write(REMOVED_HEADER);
+		long count = 0;
+		try (Stream<OwnerTombstone> stream = this.tombstones.streamRemovedSince(lastName, since)) {
+			Iterator<OwnerTombstone> iterator = stream.iterator();
+			while (iterator.hasNext()) {
+				OwnerTombstone tombstone = iterator.next();
+				writer.write(tombstone.getOwnerId() + "," + tombstone.getMergedIntoId() + "," + tombstone.getRemovedAt()
+						+ "\n");
+				this.entityManager.detach(tombstone);
+				count++;
+			}
+		}
+		writer.flush();
+		return count;
+	}
+
+	private long write(Stream<Owner> owners, OutputStream out, LongConsumer progress) throws IOException {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		CsvBuilder.writeHeader(writer);
+		long count = 0;
+		Iterator<Owner> iterator = owners.iterator();
+		while (iterator.hasNext()) {
+			Owner owner = iterator.next();
+			CsvBuilder.writeRow(writer, owner);
+			this.entityManager.detach(owner);
+			progress.accept(++count);
+		}
+		writer.flush();
+		return count;
+	}
+
+	/**
+	 * An exported owner line.
+	 */
+	private record NdjsonOwner(Integer id, String firstName, String lastName, String address, String city,
+			String telephone, List<NdjsonPet> pets) {
+
+		static NdjsonOwner of(Owner owner) {
+			return new NdjsonOwner(owner.getId(), owner.getFirstName(), owner.getLastName(), owner.getAddress(),
+					owner.getCity(), owner.getTelephone(), owner.getPets().stream().map(NdjsonPet::of).toList());
+		}
+
+	}
+
+	/**
+	 * A pet of an exported owner. The type is referenced by name, the birth date is in
+	 * ISO format.
+	 */
+	private record NdjsonPet(Integer id, String name, String birthDate, String type) {
+
+		static NdjsonPet of(Pet pet) {
+			return new NdjsonPet(pet.getId(), pet.getName(),
+					(pet.getBirthDate() != null) ? pet.getBirthDate().toString() : null,
+					(pet.getType() != null) ? pet.getType().getName() : null);
+		}
+
+	}
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.time.Instant;
+
+/**
+ * Progress of an asynchronous owner export, as reported to the client polling for it.
+ *
+ * @param id the job id
+ * @param state where the job is at
+ * @param rows number of owner rows written so far
+ * @param totalRows number of owners matching when the job was started
+ * @param expiresAt when the exported file is deleted, or {@code null} while the job has
+ * not finished
+ */
+public record OwnerExportStatus(String id, State state, long rows, long totalRows, Instant expiresAt) {
+
+	/**
+	 * State of an export job.
+	 */
+	public enum State {
+
+		/** Waiting for a free worker. */
+		QUEUED,
+
+		/** Rows are being written. */
+		RUNNING,
+
+		/** The file is complete and can be downloaded. */
+		COMPLETED,
+
+		/** The export failed; there is no file. */
+		FAILED
+
+	}
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Number of owners per city and per pet type among the results of an owner search, so the
+ * search can be narrowed down without guessing values.
+ *
+ * @param cities owners per city, most frequent first
+ * @param petTypes owners having at least one pet of a type, most frequent first
+ */
+record OwnerFacets(List<Facet> cities, List<Facet> petTypes) {
+
+	static final String CITY = "city";
+
+	static final String PET_TYPE = "petType";
+
+	private static final Comparator<Facet> MOST_FREQUENT_FIRST = Comparator.comparingLong(Facet::count)
+		.reversed()
+		.thenComparing(Facet::value);
+
+	/**
+	 * Build the facets from the rows of {@link OwnerRepository#countFacets}.
+	 * @param rows {@code [facet, value, count]} rows
+	 * @param limit maximum number of values kept per facet
+	 * @return the facets
+	 */
+	static OwnerFacets of(List<Object[]> rows, int limit) {
+		List<Facet> cities = new ArrayList<>();
+		List<Facet> petTypes = new ArrayList<>();
+		for (Object[] row : rows) {
+			if (row[1] == null) {
+				continue;
+			}
+			Facet facet = new Facet((String) row[1], ((Number) row[2]).longValue());
+			(CITY.equals(row[0]) ? cities : petTypes).add(facet);
+		}
+		return new OwnerFacets(top(cities, limit), top(petTypes, limit));
+	}
+
+	private static List<Facet> top(List<Facet> facets, int limit) {
+		return facets.stream().sorted(MOST_FREQUENT_FIRST).limit(limit).toList();
+	}
+
+	/**
+	 * One value of a facet.
+	 *
+	 * @param value the city or pet type name
+	 * @param count the number of owners
+	 */
+	record Facet(String value, long count) {
+	}
+
+}
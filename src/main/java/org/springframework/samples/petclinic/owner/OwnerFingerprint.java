@@ -0,0 +1,56 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.util.Locale;
+
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * Identity fingerprints of owners: a SHA-256 hash of the trimmed, lower-cased first and
+ * last name and the digits of the telephone number. Two owners with the same fingerprint
+ * are duplicates, however their names are capitalized or their number is formatted.
+ * <p>
+ * Owners store their fingerprint in a column with a unique index, so a duplicate check is
+ * a single equality lookup and the database rejects duplicates saved concurrently.
+ */
+final class OwnerFingerprint {
+
+	private static final char SEPARATOR = '\0';
+
+	private OwnerFingerprint() {
+	}
+
+	/**
+	 * Fingerprint of an owner with the given identity.
+	 * @param firstName the first name, can be null
+	 * @param lastName the last name, can be null
+	 * @param telephone the telephone number, can be null
+	 * @return the fingerprint, 64 hexadecimal characters
+	 */
+	static String of(String firstName, String lastName, String telephone) {
+		return DigestUtils.sha256Hex(name(firstName) + SEPARATOR + name(lastName) + SEPARATOR + digits(telephone));
+	}
+
+	private static String name(String name) {
+		return name != null ? name.trim().toLowerCase(Locale.ROOT) : "";
+	}
+
+	private static String digits(String telephone) {
+		return telephone != null ? telephone.replaceAll("\\D", "") : "";
+	}
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk owner import.
+ *
+ * @param rows number of data rows read
+ * @param owners number of owners inserted
+ * @param pets number of pets inserted
+ * @param duplicates number of rows skipped because the owner already exists
+ * @param rejected number of rows rejected because they could not be parsed or failed
+ * validation
+ * @param errors details of the rejected rows; only the first
+ * {@value OwnerImportService#MAX_REPORTED_ERRORS} are listed
+ */
+public record OwnerImportResult(long rows, long owners, long pets, long duplicates, long rejected,
+		List<RowError> errors) {
+
+	/**
+	 * A row that was not imported.
+	 *
+	 * @param line line of the input on which the row starts
+	 * @param message why the row was rejected
+	 */
+	public record RowError(int line, String message) {
+
+	}
+
+}
@@ -0,0 +1,576 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.logging.Log;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.Generator;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.samples.petclinic.owner.OwnerImportResult.RowError;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Imports owners and their pets in bulk from CSV or NDJSON.
+ * <p>
+ * The input is parsed as a stream and processed in chunks of {@value #CHUNK_SIZE} rows.
+ * Each chunk is validated and deduplicated in memory, checked against the existing owners
+ * with a single query, and written with batched JDBC inserts in its own transaction, so
+ * neither the input nor a persistence context grows with the size of the import. Rows
+ * that cannot be imported are reported with their line number; the rest of the import
+ * carries on.
+ * <p>
+ * Owners are considered duplicates under the same rule as the owner form: same
+ * {@linkplain OwnerFingerprint identity fingerprint}, that is same first name and last
+ * name (ignoring case) and same telephone digits. Rows repeating an owner from earlier in
+ * the same import add their pet to that owner.
+ */
+@Service
+public class OwnerImportService {
+
+	/**
+	 * Maximum number of rejected rows listed in the result.
+	 */
+	public static final int MAX_REPORTED_ERRORS = 1000;
+
+	static final int CHUNK_SIZE = 1000;
+
+	private static final Log logger = LogFactory.getLog(OwnerImportService.class);
+
+	private static final String INSERT_OWNER = "INSERT INTO owners (id, first_name, last_name, address, city, telephone, last_name_phonetic, last_name_phonetic_alt, identity_fingerprint, created_at, updated_at) "
+			+ "VALUES (:id, :firstName, :lastName, :address, :city, :telephone, :lastNamePhonetic, :lastNamePhoneticAlternate, :identityFingerprint, :now, :now)";
+
+	private static final String INSERT_PET = "INSERT INTO pets (id, name, birth_date, type_id, owner_id, created_at, updated_at) "
+			+ "VALUES (:id, :name, :birthDate, :typeId, :ownerId, :now, :now)";
+
+	private static final String BUMP_VERSIONS = "UPDATE owners SET version = version + 1, updated_at = :now WHERE id IN (:ids)";
+
+	private static final String SELECT_EXISTING = "SELECT identity_fingerprint FROM owners "
+			+ "WHERE identity_fingerprint IN (:fingerprints)";
+
+	private static final ObjectReader NDJSON_READER = new ObjectMapper()
+		.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+		.readerFor(ImportRow.class);
+
+	/**
+	 * Column widths of the {@code owners} and {@code pets} tables. Checked up front so
+	 * one over-long value cannot fail the batch of its whole chunk.
+	 */
+	private static final int MAX_NAME_LENGTH = 30;
+
+	private static final int MAX_ADDRESS_LENGTH = 255;
+
+	private static final int MAX_CITY_LENGTH = 80;
+
+	private final NamedParameterJdbcTemplate jdbc;
+
+	private final TransactionTemplate transactions;
+
+	private final PetTypeRepository petTypes;
+
+	private final Validator validator;
+
+	private final ApplicationEventPublisher events;
+
+	private final EntityManager entityManager;
+
+	public OwnerImportService(NamedParameterJdbcTemplate jdbc, PlatformTransactionManager transactionManager,
+			PetTypeRepository petTypes, Validator validator, ApplicationEventPublisher events,
+			EntityManager entityManager) {
+		this.jdbc = jdbc;
+		this.transactions = new TransactionTemplate(transactionManager);
+		this.petTypes = petTypes;
+		this.validator = validator;
+		this.events = events;
+		this.entityManager = entityManager;
+	}
+
+	/**
+	 * Supported input formats.
+	 */
+	public enum Format {
+
+		/**
+		 * Comma separated values with a header row, one owner and at most one pet per
+		 * row.
+		 */
+		CSV,
+
+		/**
+		 * Newline delimited JSON, one owner with any number of pets per line.
+		 */
+		NDJSON;
+
+		private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+		/**
+		 * Determine the format of an upload from its content type, falling back to the
+		 * file name extension.
+		 * @param contentType declared content type, may be {@code null}
+		 * @param filename original file name, may be {@code null}
+		 * @return the format, {@link #CSV} unless the upload looks like NDJSON
+		 */
+		public static Format of(String contentType, String filename) {
+			if (StringUtils.hasText(contentType)) {
+				MediaType type = MediaType.parseMediaType(contentType);
+				if (type.isCompatibleWith(APPLICATION_NDJSON) || type.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+					return NDJSON;
+				}
+			}
+			String extension = StringUtils.getFilenameExtension(filename);
+			if ("ndjson".equalsIgnoreCase(extension) || "jsonl".equalsIgnoreCase(extension)) {
+				return NDJSON;
+			}
+			return CSV;
+		}
+
+	}
+
+	/**
+	 * Import owners and pets from the given UTF-8 encoded input.
+	 * @param in the input to read; not closed by this method
+	 * @param format the format of the input
+	 * @return counts of imported, duplicate and rejected rows
+	 * @throws IOException if reading the input fails
+	 * @throws IllegalStateException if a CSV input lacks a header with the owner columns
+	 */
+	public OwnerImportResult importOwners(InputStream in, Format format) throws IOException {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+		Run run = new Run(loadPetTypes());
+		if (format == Format.NDJSON) {
+			readNdjson(reader, run);
+		}
+		else {
+			readCsv(reader, run);
+		}
+		run.flush();
+		logger.info("Imported " + run.owners + " owners and " + run.pets + " pets from " + run.rows + " rows ("
+				+ run.duplicates + " duplicates, " + run.rejected + " rejected)");
+		return new OwnerImportResult(run.rows, run.owners, run.pets, run.duplicates, run.rejected,
+				List.copyOf(run.errors));
+	}
+
+	private Map<String, Integer> loadPetTypes() {
+		Map<String, Integer> types = new HashMap<>();
+		for (PetType type : this.petTypes.findPetTypes()) {
+			types.put(type.getName().toLowerCase(Locale.ROOT), type.getId());
+		}
+		return types;
+	}
+
+	private void readNdjson(BufferedReader reader, Run run) throws IOException {
+		int line = 0;
+		String json;
+		while ((json = reader.readLine()) != null) {
+			line++;
+			if (!StringUtils.hasText(json)) {
+				continue;
+			}
+			run.rows++;
+			try {
+				run.add(line, NDJSON_READER.readValue(json));
+			}
+			catch (JsonProcessingException ex) {
+				run.reject(line, "Malformed JSON: " + ex.getOriginalMessage());
+			}
+		}
+	}
+
+	private void readCsv(BufferedReader reader, Run run) throws IOException {
+		CsvReader csv = new CsvReader(reader);
+		List<String> header = csv.next();
+		if (header == null) {
+			return;
+		}
+		CsvColumns columns = CsvColumns.of(header);
+		List<String> fields;
+		while ((fields = csv.next()) != null) {
+			if (fields.stream().noneMatch(StringUtils::hasText)) {
+				continue;
+			}
+			run.rows++;
+			run.add(csv.recordLine(), columns.toRow(fields));
+		}
+	}
+
+	/**
+	 * Write one chunk of rows. Returns the owners inserted, by key, once the chunk's
+	 * transaction has committed.
+	 */
+	private Map<OwnerKey, Integer> writeChunk(Run run, List<Line> chunk) {
+		Set<OwnerKey> existing = findExisting(chunk);
+		Map<OwnerKey, ImportRow> newOwners = new LinkedHashMap<>();
+		List<Line> petRows = new ArrayList<>();
+		int duplicates = 0;
+		for (Line line : chunk) {
+			OwnerKey key = line.key();
+			boolean known = run.imported.containsKey(key) || newOwners.containsKey(key);
+			if (!known && existing.contains(key)) {
+				duplicates++;
+				continue;
+			}
+			if (!known) {
+				newOwners.put(key, line.row());
+			}
+			else if (line.row().pets().isEmpty()) {
+				duplicates++;
+			}
+			petRows.add(line);
+		}
+
+		int[] petCount = { 0 };
+		Map<OwnerKey, Integer> inserted = this.transactions.execute(status -> {
+			// Same clock as the entities' timestamps, which delta exports compare against
+			Timestamp now = Timestamp.from(Instant.now());
+			Map<OwnerKey, Integer> ids = insertOwners(newOwners, now);
+			List<SqlParameterSource> pets = new ArrayList<>();
+			Set<Integer> earlierOwners = new HashSet<>();
+			for (Line line : petRows) {
+				Integer ownerId = ids.get(line.key());
+				if (ownerId == null) {
+					ownerId = run.imported.get(line.key());
+					if (!line.row().pets().isEmpty()) {
+						earlierOwners.add(ownerId);
+					}
+				}
+				for (ImportPet pet : line.row().pets()) {
+					pets.add(new MapSqlParameterSource().addValue("id", nextId(Pet.class))
+						.addValue("name", pet.name().trim())
+						.addValue("birthDate", LocalDate.parse(pet.birthDate().trim()))
+						.addValue("typeId", run.petTypes.get(pet.type().trim().toLowerCase(Locale.ROOT)))
+						.addValue("ownerId", ownerId)
+						.addValue("now", now));
+				}
+			}
+			if (!pets.isEmpty()) {
+				this.jdbc.batchUpdate(INSERT_PET, pets.toArray(SqlParameterSource[]::new));
+			}
+			if (!earlierOwners.isEmpty()) {
+				// Pets added to owners of an earlier chunk change those owners' pages
+				this.jdbc.update(BUMP_VERSIONS, Map.of("ids", earlierOwners, "now", now));
+			}
+			petCount[0] = pets.size();
+			return ids;
+		});
+		run.duplicates += duplicates;
+		run.pets += petCount[0];
+		return inserted;
+	}
+
+	private Set<OwnerKey> findExisting(List<Line> chunk) {
+		Set<String> fingerprints = new HashSet<>();
+		for (Line line : chunk) {
+			fingerprints.add(line.key().fingerprint());
+		}
+		Set<OwnerKey> existing = new HashSet<>();
+		this.jdbc.query(SELECT_EXISTING, Map.of("fingerprints", fingerprints),
+				(RowCallbackHandler) rs -> existing.add(new OwnerKey(rs.getString(1))));
+		return existing;
+	}
+
+	private Map<OwnerKey, Integer> insertOwners(Map<OwnerKey, ImportRow> newOwners, Timestamp now) {
+		Map<OwnerKey, Integer> ids = new HashMap<>();
+		if (newOwners.isEmpty()) {
+			return ids;
+		}
+		List<SqlParameterSource> params = new ArrayList<>(newOwners.size());
+		for (Map.Entry<OwnerKey, ImportRow> entry : newOwners.entrySet()) {
+			OwnerKey key = entry.getKey();
+			ImportRow row = entry.getValue();
+			int id = nextId(Owner.class);
+			ids.put(key, id);
+			params.add(new MapSqlParameterSource().addValue("id", id)
+				.addValue("firstName", row.firstName().trim())
+				.addValue("lastName", row.lastName().trim())
+				.addValue("address", row.address().trim())
+				.addValue("city", row.city().trim())
+				.addValue("telephone", row.telephone().trim())
+				// rows bypass the entity, which otherwise maintains the keys on save
+				.addValue("lastNamePhonetic", PhoneticKey.of(row.lastName().trim()))
+				.addValue("lastNamePhoneticAlternate", PhoneticKey.alternateOf(row.lastName().trim()))
+				.addValue("identityFingerprint", key.fingerprint())
+				.addValue("now", now));
+		}
+		this.jdbc.batchUpdate(INSERT_OWNER, params.toArray(SqlParameterSource[]::new));
+		for (Map.Entry<OwnerKey, ImportRow> entry : newOwners.entrySet()) {
+			ImportRow row = entry.getValue();
+			// Delivered to in-memory owner views once the chunk has committed
+			this.events.publishEvent(new OwnerChangedEvent(ids.get(entry.getKey()), row.lastName().trim(),
+					row.telephone().trim(), row.city().trim(), false));
+		}
+		return ids;
+	}
+
+	/**
+	 * Take the next id for the given entity from the same pooled generator Hibernate
+	 * uses, so the plain JDBC inserts share its id blocks instead of each fetching a
+	 * sequence value through the column default. Must be called inside the chunk
+	 * transaction.
+	 */
+	private int nextId(Class<?> entityClass) {
+		SharedSessionContractImplementor session = this.entityManager.unwrap(SharedSessionContractImplementor.class);
+		Generator generator = session.getFactory()
+			.getMappingMetamodel()
+			.getEntityDescriptor(entityClass)
+			.getGenerator();
+		return (Integer) ((BeforeExecutionGenerator) generator).generate(session, null, null, EventType.INSERT);
+	}
+
+	/**
+	 * State of one import: the chunk being collected, the owners inserted so far and the
+	 * running totals.
+	 */
+	private final class Run {
+
+		private final Map<String, Integer> petTypes;
+
+		private final Map<OwnerKey, Integer> imported = new HashMap<>();
+
+		private final List<Line> chunk = new ArrayList<>(CHUNK_SIZE);
+
+		private final List<RowError> errors = new ArrayList<>();
+
+		private long rows;
+
+		private long owners;
+
+		private long pets;
+
+		private long duplicates;
+
+		private long rejected;
+
+		Run(Map<String, Integer> petTypes) {
+			this.petTypes = petTypes;
+		}
+
+		void add(int line, ImportRow row) {
+			String problem = validate(row, this.petTypes);
+			if (problem != null) {
+				reject(line, problem);
+				return;
+			}
+			this.chunk.add(new Line(line, row, OwnerKey.of(row.firstName(), row.lastName(), row.telephone())));
+			if (this.chunk.size() >= CHUNK_SIZE) {
+				flush();
+			}
+		}
+
+		void reject(int line, String message) {
+			this.rejected++;
+			if (this.errors.size() < MAX_REPORTED_ERRORS) {
+				this.errors.add(new RowError(line, message));
+			}
+		}
+
+		void flush() {
+			if (this.chunk.isEmpty()) {
+				return;
+			}
+			try {
+				Map<OwnerKey, Integer> ids = writeChunk(this, this.chunk);
+				this.imported.putAll(ids);
+				this.owners += ids.size();
+			}
+			catch (DataAccessException ex) {
+				logger.warn("Failed to import rows " + this.chunk.get(0).line() + " to "
+						+ this.chunk.get(this.chunk.size() - 1).line(), ex);
+				for (Line line : this.chunk) {
+					reject(line.line(), "Not imported: " + ex.getMostSpecificCause().getMessage());
+				}
+			}
+			this.chunk.clear();
+		}
+
+	}
+
+	/**
+	 * Check a row against the owner constraints, the column widths and the pet types.
+	 * @return a description of the first problem found, or {@code null} if the row is
+	 * valid
+	 */
+	private String validate(ImportRow row, Map<String, Integer> types) {
+		Owner owner = new Owner();
+		owner.setFirstName(trim(row.firstName()));
+		owner.setLastName(trim(row.lastName()));
+		owner.setAddress(trim(row.address()));
+		owner.setCity(trim(row.city()));
+		owner.setTelephone(trim(row.telephone()));
+		Set<ConstraintViolation<Owner>> violations = this.validator.validate(owner);
+		if (!violations.isEmpty()) {
+			ConstraintViolation<Owner> violation = violations.iterator().next();
+			return violation.getPropertyPath() + ": " + violation.getMessage();
+		}
+		String tooLong = tooLong("firstName", owner.getFirstName(), MAX_NAME_LENGTH);
+		tooLong = tooLong != null ? tooLong : tooLong("lastName", owner.getLastName(), MAX_NAME_LENGTH);
+		tooLong = tooLong != null ? tooLong : tooLong("address", owner.getAddress(), MAX_ADDRESS_LENGTH);
+		tooLong = tooLong != null ? tooLong : tooLong("city", owner.getCity(), MAX_CITY_LENGTH);
+		if (tooLong != null) {
+			return tooLong;
+		}
+		for (ImportPet pet : row.pets()) {
+			if (!StringUtils.hasText(pet.name())) {
+				return "pet name: required";
+			}
+			if (pet.name().trim().length() > MAX_NAME_LENGTH) {
+				return tooLong("pet name", pet.name().trim(), MAX_NAME_LENGTH);
+			}
+			if (!StringUtils.hasText(pet.type()) || !types.containsKey(pet.type().trim().toLowerCase(Locale.ROOT))) {
+				return "pet type: unknown type '" + trim(pet.type()) + "'";
+			}
+			if (!StringUtils.hasText(pet.birthDate())) {
+				return "pet birthDate: required";
+			}
+			try {
+				if (LocalDate.parse(pet.birthDate().trim()).isAfter(LocalDate.now())) {
+					return "pet birthDate: must not be in the future";
+				}
+			}
+			catch (DateTimeParseException ex) {
+				return "pet birthDate: expected yyyy-MM-dd but was '" + pet.birthDate().trim() + "'";
+			}
+		}
+		return null;
+	}
+
+	private static String tooLong(String property, String value, int maxLength) {
+		return value.length() > maxLength ? property + ": must be at most " + maxLength + " characters" : null;
+	}
+
+	private static String trim(String value) {
+		return value != null ? value.trim() : null;
+	}
+
+	/**
+	 * An owner with its pets as read from the input.
+	 */
+	record ImportRow(String firstName, String lastName, String address, String city, String telephone,
+			List<ImportPet> pets) {
+
+		ImportRow {
+			pets = pets != null ? pets : List.of();
+		}
+
+	}
+
+	/**
+	 * A pet as read from the input. The type is referenced by name.
+	 */
+	record ImportPet(String name, String birthDate, String type) {
+
+	}
+
+	/**
+	 * A valid row waiting to be written, with the line it was read from.
+	 */
+	private record Line(int line, ImportRow row, OwnerKey key) {
+
+	}
+
+	/**
+	 * Identity of an owner for duplicate detection.
+	 */
+	private record OwnerKey(String fingerprint) {
+
+		static OwnerKey of(String firstName, String lastName, String telephone) {
+			return new OwnerKey(OwnerFingerprint.of(firstName, lastName, telephone));
+		}
+
+	}
+
+	/**
+	 * Positions of the known columns in a CSV header. Header names are matched ignoring
+	 * case, spaces and punctuation, so both the export header ({@code First Name}) and
+	 * property names ({@code firstName}) are accepted.
+	 */
+	private record CsvColumns(int firstName, int lastName, int address, int city, int telephone, int petName,
+			int petBirthDate, int petType) {
+
+		static CsvColumns of(List<String> header) {
+			Map<String, Integer> positions = new HashMap<>();
+			for (int i = 0; i < header.size(); i++) {
+				positions.putIfAbsent(header.get(i).replaceAll("[^A-Za-z]", "").toLowerCase(Locale.ROOT), i);
+			}
+			List<String> missing = new ArrayList<>();
+			for (String required : List.of("firstname", "lastname", "address", "city", "telephone")) {
+				if (!positions.containsKey(required)) {
+					missing.add(required);
+				}
+			}
+			if (!missing.isEmpty()) {
+				throw new IllegalStateException("CSV header is missing the columns " + missing);
+			}
+			return new CsvColumns(positions.get("firstname"), positions.get("lastname"), positions.get("address"),
+					positions.get("city"), positions.get("telephone"), positions.getOrDefault("petname", -1),
+					positions.getOrDefault("petbirthdate", -1), positions.getOrDefault("pettype", -1));
+		}
+
+		ImportRow toRow(List<String> fields) {
+			String petName = field(fields, this.petName);
+			String petBirthDate = field(fields, this.petBirthDate);
+			String petType = field(fields, this.petType);
+			boolean hasPet = StringUtils.hasText(petName) || StringUtils.hasText(petBirthDate)
+					|| StringUtils.hasText(petType);
+			return new ImportRow(field(fields, this.firstName), field(fields, this.lastName),
+					field(fields, this.address), field(fields, this.city), field(fields, this.telephone),
+					hasPet ? List.of(new ImportPet(petName, petBirthDate, petType)) : List.of());
+		}
+
+		private static String field(List<String> fields, int index) {
+			return index >= 0 && index < fields.size() ? fields.get(index) : "";
+		}
+
+	}
+
+}
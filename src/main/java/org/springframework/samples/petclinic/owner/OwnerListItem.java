@@ -0,0 +1,56 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.util.Locale;
+
+/**
+ * One row of the owners list: the columns the list shows, with the names of the owner's
+ * pets already joined. Read by {@link OwnerRepository#findListItemsByIdIn} without
+ * loading any {@link Owner}, {@link Pet} or {@link Visit} entity.
+ *
+ * @param id the owner's id
+ * @param firstName the owner's first name
+ * @param lastName the owner's last name
+ * @param address the owner's address
+ * @param city the owner's city
+ * @param telephone the owner's telephone
+ * @param petNames the names of the owner's pets in alphabetical order, separated by
+ * commas, or {@code null} if the owner has no pets; after the first
+ * {@value #LISTED_PET_NAMES} names, only the number of the other pets is given
+ */
+public record OwnerListItem(Integer id, String firstName, String lastName, String address, String city,
+		String telephone, String petNames) {
+
+	/**
+	 * The number of pet names listed per owner.
+	 */
+	public static final int LISTED_PET_NAMES = 5;
+
+	/**
+	 * Create a row from the first {@value #LISTED_PET_NAMES} pet names of an owner and
+	 * its number of pets, as read by {@link OwnerRepository#findListItemsByIdIn}. The
+	 * names of further pets are abbreviated to their number: "Rex, Max, … (+2,311)".
+	 */
+	public OwnerListItem(Integer id, String firstName, String lastName, String address, String city, String telephone,
+			String listedPetNames, Long petCount) {
+		this(id, firstName, lastName, address, city, telephone,
+				(petCount > LISTED_PET_NAMES)
+						? String.format(Locale.ROOT, "%s, … (+%,d)", listedPetNames, petCount - LISTED_PET_NAMES)
+						: listedPetNames);
+	}
+
+}
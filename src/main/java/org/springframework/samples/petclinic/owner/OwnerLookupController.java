@@ -0,0 +1,77 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * JSON lookups of owners for external systems, such as the phone system popping the owner
+ * record of an incoming call.
+ */
+@RestController
+@RequestMapping("/api/owners")
+class OwnerLookupController {
+
+	private final OwnerRepository owners;
+
+	private final ObjectProvider<OwnerPhoneDirectory> phoneDirectory;
+
+	OwnerLookupController(OwnerRepository owners, ObjectProvider<OwnerPhoneDirectory> phoneDirectory) {
+		this.owners = owners;
+		this.phoneDirectory = phoneDirectory;
+	}
+
+	/**
+	 * Find the owners with the given telephone number. The number is resolved to owner
+	 * ids in memory by the {@link OwnerPhoneDirectory}, so only the matching owners and
+	 * their pets are read from the database, by primary key.
+	 * @param number the telephone number; separators and a leading country code {@code 1}
+	 * are ignored
+	 * @return the matching owners with their pets, ordered by id
+	 */
+	@GetMapping("/by-phone/{number}")
+	public List<OwnerSummary> findByPhone(@PathVariable String number) {
+		long telephone = OwnerPhoneDirectory.normalize(number);
+		if (telephone < 0) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Telephone must be a 10-digit number");
+		}
+		OwnerPhoneDirectory directory = this.phoneDirectory.getIfAvailable();
+		List<Owner> found;
+		if (directory != null && directory.isReady()) {
+			int[] ids = directory.lookup(telephone);
+			found = ids.length == 0 ? List.of()
+					: this.owners.findAllWithPetsByIdIn(Arrays.stream(ids).boxed().toList());
+		}
+		else {
+			found = this.owners.findAllWithPetsByTelephone(OwnerPhoneDirectory.format(telephone));
+		}
+		if (found.isEmpty()) {
+			throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No owner with telephone " + number);
+		}
+		return found.stream().sorted(Comparator.comparing(Owner::getId)).map(OwnerSummary::of).toList();
+	}
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.util.List;
+
+/**
+ * Owners found to be duplicates of each other by
+ * {@link OwnerDeduplicationService#plan()}, and how they are to be merged. A plan can be
+ * reviewed, trimmed and then applied with {@link OwnerDeduplicationService#apply}.
+ *
+ * @param owners number of owners read
+ * @param comparisons number of owner pairs scored
+ * @param merges the merges to apply, ordered by surviving owner
+ */
+public record OwnerMergePlan(long owners, long comparisons, List<Merge> merges) {
+
+	public OwnerMergePlan {
+		merges = (merges != null) ? List.copyOf(merges) : List.of();
+	}
+
+	/**
+	 * A group of owners that are the same person: the duplicates' pets move to the
+	 * surviving owner and the duplicates are deleted.
+	 *
+	 * @param survivorId id of the owner that is kept, the longest registered of the group
+	 * @param duplicateIds ids of the owners merged into the survivor
+	 * @param score lowest similarity between two owners that put them in the group, from
+	 * {@code 0} to {@code 1}
+	 */
+	public record Merge(int survivorId, List<Integer> duplicateIds, double score) {
+
+		public Merge {
+			duplicateIds = (duplicateIds != null) ? List.copyOf(duplicateIds) : List.of();
+		}
+
+	}
+
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+/**
+ * Outcome of applying an {@link OwnerMergePlan}.
+ *
+ * @param merges number of merges applied
+ * @param ownersRemoved number of duplicate owners deleted
+ * @param petsMoved number of pets moved to a surviving owner
+ * @param skipped number of merges skipped because their surviving owner no longer exists,
+ * none of their duplicates still is one, or their owners have pets of the same name
+ */
+public record OwnerMergeResult(long merges, long ownersRemoved, long petsMoved, long skipped) {
+
+}
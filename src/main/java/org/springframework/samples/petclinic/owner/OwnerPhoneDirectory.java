@@ -0,0 +1,324 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory directory from telephone number to owner ids, for caller-ID lookups.
+ * <p>
+ * Telephone numbers are kept as {@code long} keys in an open-addressing hash table, so a
+ * lookup is a few array reads with no boxing and no database round trip. Several owners
+ * may share a number (members of one household, for instance), so each key maps to an
+ * array of ids.
+ * <p>
+ * The directory is populated once the application is ready and kept in sync through
+ * {@link OwnerChangedEvent}s delivered after each committed transaction. It is enabled by
+ * default and disabled with {@code petclinic.owners.phone-directory.enabled=false}.
+ */
+@Component
+@ConditionalOnProperty(name = "petclinic.owners.phone-directory.enabled", havingValue = "true", matchIfMissing = true)
+class OwnerPhoneDirectory {
+
+	private static final Log logger = LogFactory.getLog(OwnerPhoneDirectory.class);
+
+	private static final int[] NONE = new int[0];
+
+	private final OwnerRepository owners;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final PhoneTable table = new PhoneTable(1024);
+
+	/**
+	 * Number each owner is currently listed under, to unlist it when the number changes.
+	 * Guarded by the write lock.
+	 */
+	private final Map<Integer, Long> numberById = new HashMap<>();
+
+	/**
+	 * Ids changed through events while a rebuild is running; the rebuild must not
+	 * overwrite them with the (possibly older) rows it reads.
+	 */
+	private final Set<Integer> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+	private volatile boolean rebuilding;
+
+	private volatile boolean ready;
+
+	OwnerPhoneDirectory(OwnerRepository owners) {
+		this.owners = owners;
+	}
+
+	/**
+	 * Whether the directory has been populated and can answer lookups.
+	 * @return true once the initial rebuild has completed
+	 */
+	boolean isReady() {
+		return this.ready;
+	}
+
+	/**
+	 * Load the telephone numbers of all owners into the directory. Only the key columns
+	 * are read, never the owners themselves.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void rebuild() {
+		this.rebuilding = true;
+		this.changedDuringRebuild.clear();
+		try (Stream<Object[]> keys = this.owners.streamSearchKeys()) {
+			keys.forEach(row -> {
+				Integer id = (Integer) row[0];
+				if (!this.changedDuringRebuild.contains(id)) {
+					put(id, (String) row[2]);
+				}
+			});
+		}
+		finally {
+			this.rebuilding = false;
+		}
+		this.ready = true;
+		logger.info("Owner phone directory built with " + this.numberById.size() + " owners");
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onOwnerChanged(OwnerChangedEvent event) {
+		if (event.ownerId() == null) {
+			return;
+		}
+		if (this.rebuilding) {
+			this.changedDuringRebuild.add(event.ownerId());
+		}
+		if (event.deleted()) {
+			remove(event.ownerId());
+		}
+		else {
+			put(event.ownerId(), event.telephone());
+		}
+	}
+
+	/**
+	 * List the given owner under the given number, replacing any number it was listed
+	 * under before. Owners without a valid number are unlisted.
+	 */
+	void put(int id, String telephone) {
+		long number = normalize(telephone);
+		this.lock.writeLock().lock();
+		try {
+			Long previous = this.numberById.get(id);
+			if (previous != null && previous == number) {
+				return;
+			}
+			if (previous != null) {
+				this.table.remove(previous, id);
+				this.numberById.remove(id);
+			}
+			if (number >= 0) {
+				this.table.add(number, id);
+				this.numberById.put(id, number);
+			}
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	void remove(int id) {
+		this.lock.writeLock().lock();
+		try {
+			Long previous = this.numberById.remove(id);
+			if (previous != null) {
+				this.table.remove(previous, id);
+			}
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Ids of the owners listed under the given number.
+	 * @param number a number as returned by {@link #normalize}
+	 * @return the owner ids in ascending order, empty if there are none; must not be
+	 * modified
+	 */
+	int[] lookup(long number) {
+		this.lock.readLock().lock();
+		try {
+			return this.table.get(number);
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Reduce a telephone number to its 10 digits. Separators are ignored, and a leading
+	 * country code {@code 1} is dropped, so caller-ID numbers such as
+	 * {@code +1 608-555-1023} match the stored {@code 6085551023}.
+	 * @param telephone the number to normalize, can be null
+	 * @return the 10 digits as a {@code long}, or {@code -1} if the number does not have
+	 * 10 digits
+	 */
+	static long normalize(String telephone) {
+		if (telephone == null) {
+			return -1;
+		}
+		long number = 0;
+		int digits = 0;
+		for (int i = 0; i < telephone.length(); i++) {
+			char c = telephone.charAt(i);
+			if (c >= '0' && c <= '9') {
+				if (++digits > 11) {
+					return -1;
+				}
+				number = number * 10 + (c - '0');
+			}
+		}
+		if (digits == 11 && number / 10_000_000_000L == 1) {
+			return number % 10_000_000_000L;
+		}
+		return digits == 10 ? number : -1;
+	}
+
+	/**
+	 * Format a number returned by {@link #normalize} the way telephones are stored.
+	 * @param number the normalized number
+	 * @return the number as 10 digits
+	 */
+	static String format(long number) {
+		return String.format("%010d", number);
+	}
+
+	/**
+	 * Hash table from {@code long} numbers to sorted {@code int} id arrays, with linear
+	 * probing. Id arrays are replaced rather than modified, so a reader can keep using
+	 * the array it was handed. Numbers whose last owner is removed keep their (empty)
+	 * slot until the number is listed again. Not thread-safe.
+	 */
+	static final class PhoneTable {
+
+		private static final long FREE = -1;
+
+		private long[] keys;
+
+		private int[][] ids;
+
+		private int size;
+
+		PhoneTable(int capacity) {
+			allocate(Integer.highestOneBit(Math.max(capacity, 16) - 1) << 1);
+		}
+
+		int[] get(long number) {
+			int slot = slot(number);
+			return this.keys[slot] == number ? this.ids[slot] : NONE;
+		}
+
+		void add(long number, int id) {
+			int slot = slot(number);
+			if (this.keys[slot] != number) {
+				if ((this.size + 1) * 2 > this.keys.length) {
+					grow();
+					slot = slot(number);
+				}
+				this.keys[slot] = number;
+				this.ids[slot] = NONE;
+				this.size++;
+			}
+			int[] current = this.ids[slot];
+			int position = Arrays.binarySearch(current, id);
+			if (position < 0) {
+				int insertion = -position - 1;
+				int[] updated = new int[current.length + 1];
+				System.arraycopy(current, 0, updated, 0, insertion);
+				updated[insertion] = id;
+				System.arraycopy(current, insertion, updated, insertion + 1, current.length - insertion);
+				this.ids[slot] = updated;
+			}
+		}
+
+		void remove(long number, int id) {
+			int slot = slot(number);
+			if (this.keys[slot] != number) {
+				return;
+			}
+			int[] current = this.ids[slot];
+			int position = Arrays.binarySearch(current, id);
+			if (position >= 0) {
+				int[] updated = new int[current.length - 1];
+				System.arraycopy(current, 0, updated, 0, position);
+				System.arraycopy(current, position + 1, updated, position, updated.length - position);
+				this.ids[slot] = updated;
+			}
+		}
+
+		/**
+		 * The slot holding the given number, or the free slot it would be stored in.
+		 */
+		private int slot(long number) {
+			int mask = this.keys.length - 1;
+			int slot = hash(number) & mask;
+			while (this.keys[slot] != FREE && this.keys[slot] != number) {
+				slot = (slot + 1) & mask;
+			}
+			return slot;
+		}
+
+		private void grow() {
+			long[] oldKeys = this.keys;
+			int[][] oldIds = this.ids;
+			allocate(oldKeys.length * 2);
+			for (int i = 0; i < oldKeys.length; i++) {
+				if (oldKeys[i] != FREE) {
+					int slot = slot(oldKeys[i]);
+					this.keys[slot] = oldKeys[i];
+					this.ids[slot] = oldIds[i];
+				}
+			}
+		}
+
+		private void allocate(int capacity) {
+			this.keys = new long[capacity];
+			Arrays.fill(this.keys, FREE);
+			this.ids = new int[capacity][];
+		}
+
+		private static int hash(long number) {
+			long h = number * 0x9E3779B97F4A7C15L;
+			return (int) (h ^ (h >>> 32));
+		}
+
+	}
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Computes the {@linkplain PhoneticKey sound-alike keys} of owners saved before the key
+ * columns existed. Owners maintain their keys whenever they are saved, but the schema
+ * scripts that add the columns to an existing database cannot compute Double Metaphone,
+ * so without the keys these owners would never be found by a sound-alike search.
+ * <p>
+ * Runs once the application is ready, in batches of {@value #BATCH_SIZE} owners, each in
+ * its own transaction. Owners whose keys are already set are not touched, so on a
+ * database without such owners this is a single query.
+ */
+@Component
+class OwnerPhoneticKeyBackfill {
+
+	private static final Log logger = LogFactory.getLog(OwnerPhoneticKeyBackfill.class);
+
+	static final int BATCH_SIZE = 500;
+
+	private static final String SELECT_MISSING = "SELECT id, last_name FROM owners "
+			+ "WHERE (last_name_phonetic IS NULL OR last_name_phonetic_alt IS NULL) AND id > :afterId ORDER BY id LIMIT "
+			+ BATCH_SIZE;
+
+	private static final String UPDATE_KEYS = "UPDATE owners SET last_name_phonetic = :primary, last_name_phonetic_alt = :alternate WHERE id = :id";
+
+	private final NamedParameterJdbcTemplate jdbc;
+
+	private final TransactionTemplate transactions;
+
+	private final EntityManagerFactory entityManagerFactory;
+
+	OwnerPhoneticKeyBackfill(NamedParameterJdbcTemplate jdbc, PlatformTransactionManager transactionManager,
+			EntityManagerFactory entityManagerFactory) {
+		this.jdbc = jdbc;
+		this.transactions = new TransactionTemplate(transactionManager);
+		this.entityManagerFactory = entityManagerFactory;
+	}
+
+	/**
+	 * Fill in the missing keys.
+	 * @return the number of owners updated
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public int backfill() {
+		int updated = 0;
+		int afterId = 0;
+		while (true) {
+			int from = afterId;
+			List<SqlParameterSource> batch = new ArrayList<>();
+			this.transactions.executeWithoutResult(status -> {
+				this.jdbc.query(SELECT_MISSING, Map.of("afterId", from), (RowCallbackHandler) rs -> {
+					String lastName = rs.getString(2);
+					batch
+						.add(new MapSqlParameterSource("id", rs.getInt(1)).addValue("primary", PhoneticKey.of(lastName))
+							.addValue("alternate", PhoneticKey.alternateOf(lastName)));
+				});
+				if (!batch.isEmpty()) {
+					this.jdbc.batchUpdate(UPDATE_KEYS, batch.toArray(SqlParameterSource[]::new));
+				}
+			});
+			updated += batch.size();
+			if (batch.size() < BATCH_SIZE) {
+				break;
+			}
+			// Owners without a last name keep NULL keys; the id bound skips past them
+			afterId = (Integer) batch.get(batch.size() - 1).getValue("id");
+		}
+		if (updated > 0) {
+			// The statements bypass the entities
+			this.entityManagerFactory.getCache().evict(Owner.class);
+			logger.info("Computed the sound-alike keys of " + updated + " owners");
+		}
+		return updated;
+	}
+
+}
@@ -15,14 +15,24 @@
  */
 package org.springframework.samples.petclinic.owner;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository class for <code>Owner</code> domain objects. All method names are compliant
  * with Spring Data naming conventions so this interface can easily be extended for Spring
@@ -35,7 +45,14 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * @author Michael Isvy
  * @author Wick Dynex
  */
-public interface OwnerRepository extends JpaRepository<Owner, Integer> {
+public interface OwnerRepository extends JpaRepository<Owner, Integer>, OwnerVersioning, OwnerVisitHistory {
+
+	/**
+	 * Owners whose last name starts with {@code ?1} and that, or one of whose pets, were
+	 * saved after {@code ?2}.
+	 */
+	String CHANGED_SINCE = "SELECT o FROM Owner o WHERE o.lastName LIKE CONCAT(?1, '%') AND (o.updatedAt > ?2 "
+			+ "OR o.id IN (SELECT p.owner.id FROM Pet p WHERE p.updatedAt > ?2)) ORDER BY o.id";
 
 	/**
 	 * Retrieve {@link Owner}s from the data store by last name, returning all owners
@@ -56,6 +73,68 @@ public interface OwnerRepository extends JpaRepository<Owner, Integer> {
 	 */
 	List<Owner> findByLastNameStartingWith(String lastName);
 
+	/**
+	 * Stream all {@link Owner}s whose last name <i>starts</i> with the given name. Rows
+	 * are pulled from a server-side cursor in batches of the configured fetch size, so
+	 * exports of the whole client base run in constant memory. Must be consumed inside a
+	 * transaction and closed afterwards.
+	 * @param lastName Value to search for
+	 * @return a {@link Stream} of matching {@link Owner}s ordered by id
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	Stream<Owner> streamByLastNameStartingWithOrderById(String lastName);
+
+	/**
+	 * Stream the {@link Owner}s whose last name <i>starts</i> with the given name and
+	 * that, or one of whose pets, were saved after the given instant. Both sides are
+	 * looked up through indexes on {@code updated_at}, so the cost follows the number of
+	 * changes rather than the number of owners. Must be consumed inside a transaction and
+	 * closed afterwards.
+	 * @param lastName Value to search for
+	 * @param since only owners changed strictly after this instant are returned
+	 * @return a {@link Stream} of matching {@link Owner}s ordered by id
+	 */
+	@Query(CHANGED_SINCE)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	Stream<Owner> streamChangedSince(String lastName, Instant since);
+
+	/**
+	 * Like {@link #streamByLastNameStartingWithOrderById(String)}, with the owners' pets
+	 * and pet types fetched in the same query.
+	 * @param lastName Value to search for
+	 * @return a {@link Stream} of matching {@link Owner}s with pets, ordered by id
+	 */
+	@EntityGraph(Owner.WITH_PETS)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	Stream<Owner> streamWithPetsByLastNameStartingWithOrderById(String lastName);
+
+	/**
+	 * Like {@link #streamChangedSince(String, Instant)}, with the owners' pets and pet
+	 * types fetched in the same query.
+	 * @param lastName Value to search for
+	 * @param since only owners changed strictly after this instant are returned
+	 * @return a {@link Stream} of matching {@link Owner}s with pets, ordered by id
+	 */
+	@Query(CHANGED_SINCE)
+	@EntityGraph(Owner.WITH_PETS)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	Stream<Owner> streamChangedWithPetsSince(String lastName, Instant since);
+
+	/**
+	 * Check whether any {@link Owner} has a last name <i>starting</i> with the given
+	 * name.
+	 * @param lastName Value to search for
+	 * @return true if at least one owner matches
+	 */
+	boolean existsByLastNameStartingWith(String lastName);
+
+	/**
+	 * Count the {@link Owner}s whose last name <i>starts</i> with the given name.
+	 * @param lastName Value to search for
+	 * @return the number of matching owners
+	 */
+	long countByLastNameStartingWith(String lastName);
+
 	/**
 	 * Retrieve an {@link Owner} from the data store by id.
 	 * <p>
@@ -72,28 +151,256 @@ public interface OwnerRepository extends JpaRepository<Owner, Integer> {
 	Optional<Owner> findById(Integer id);
 
 	/**
-	 * Find owners by first name, last name, and telephone (case-insensitive). Used for
-	 * duplicate detection during owner creation.
-	 * @param firstName the owner's first name (case-insensitive)
-	 * @param lastName the owner's last name (case-insensitive)
-	 * @param telephone the owner's telephone number
-	 * @return list of owners matching all three fields (empty if none found)
+	 * Save the owner together with its pets and visits. Implemented by
+	 * {@link OwnerVersioning}: the owner's version is incremented even if only a pet or a
+	 * visit changed.
+	 * @param owner the owner to save
+	 * @return the saved owner
+	 */
+	@Override
+	<S extends Owner> S save(S owner);
+
+	/**
+	 * Save and flush the owner. Implemented by {@link OwnerVersioning} as {@link #save}.
+	 * @param owner the owner to save
+	 * @return the saved owner
+	 */
+	@Override
+	<S extends Owner> S saveAndFlush(S owner);
+
+	/**
+	 * Save the owners. Implemented by {@link OwnerVersioning} as {@link #save}.
+	 * @param owners the owners to save
+	 * @return the saved owners
+	 */
+	@Override
+	<S extends Owner> List<S> saveAll(Iterable<S> owners);
+
+	/**
+	 * Save and flush the owners. Implemented by {@link OwnerVersioning} as {@link #save}.
+	 * @param owners the owners to save
+	 * @return the saved owners
+	 */
+	@Override
+	<S extends Owner> List<S> saveAllAndFlush(Iterable<S> owners);
+
+	/**
+	 * Read the version of an {@link Owner} without loading the owner. Used to answer
+	 * conditional requests for owner and pet pages.
+	 * @param id the id to search for
+	 * @return the owner's version, or an empty {@link Optional} if there is no such owner
+	 */
+	@Query("SELECT o.version FROM Owner o WHERE o.id = ?1")
+	Optional<Integer> findVersionById(Integer id);
+
+	/**
+	 * Retrieve an {@link Owner} together with its pets and their types, but not their
+	 * visits. Used when adding, editing or removing pets.
+	 * @param id the id to search for
+	 * @return the owner with pets loaded, or an empty {@link Optional}
+	 */
+	@EntityGraph(Owner.WITH_PETS)
+	Optional<Owner> findWithPetsById(Integer id);
+
+	/**
+	 * Retrieve the {@link Owner}s with the given ids together with their pets, such as
+	 * the owners found by a caller-ID lookup. The order of the result is unspecified.
+	 * @param ids the ids of the owners to load
+	 * @return the owners found, with pets loaded
+	 */
+	@EntityGraph(Owner.WITH_PETS)
+	List<Owner> findAllWithPetsByIdIn(Collection<Integer> ids);
+
+	/**
+	 * Read the owners list rows of the owners with the given ids: one row per owner, with
+	 * the pet names aggregated by the database. Only the first
+	 * {@value OwnerListItem#LISTED_PET_NAMES} names of an owner are aggregated, along
+	 * with the number of pets, so the aggregate stays short (and within MySQL's
+	 * {@code group_concat_max_len}) however many pets an owner has. Used to render a page
+	 * of search results once the page itself has been determined; no entities are loaded
+	 * and the order of the result is unspecified.
+	 * @param ids the ids of the owners to read
+	 * @return the rows found
+	 */
+	@Query("SELECT new org.springframework.samples.petclinic.owner.OwnerListItem(o.id, o.firstName, o.lastName, "
+			+ "o.address, o.city, o.telephone, LISTAGG(CASE WHEN p.position <= " + OwnerListItem.LISTED_PET_NAMES
+			+ " THEN p.name END, ', ') WITHIN GROUP (ORDER BY p.name), COUNT(p.ownerId)) FROM Owner o LEFT JOIN "
+			+ "(SELECT q.owner.id AS ownerId, q.name AS name, "
+			+ "ROW_NUMBER() OVER (PARTITION BY q.owner.id ORDER BY q.name) AS position "
+			+ "FROM Pet q WHERE q.owner.id IN ?1) p ON p.ownerId = o.id WHERE o.id IN ?1 "
+			+ "GROUP BY o.id, o.firstName, o.lastName, o.address, o.city, o.telephone")
+	List<OwnerListItem> findListItemsByIdIn(Collection<Integer> ids);
+
+	/**
+	 * Retrieve the {@link Owner}s with exactly the given telephone together with their
+	 * pets. Used for caller-ID lookups while the {@link OwnerPhoneDirectory} is not
+	 * available.
+	 * @param telephone the 10-digit telephone to search for
+	 * @return the owners found, with pets loaded
+	 */
+	@EntityGraph(Owner.WITH_PETS)
+	List<Owner> findAllWithPetsByTelephone(String telephone);
+
+	/**
+	 * Retrieve all {@link Owner}s together with their pets.
+	 * @return all owners, with pets loaded
+	 */
+	@EntityGraph(Owner.WITH_PETS)
+	@Query("SELECT o FROM Owner o")
+	List<Owner> findAllWithPets();
+
+	/**
+	 * Whether an owner with the given identity fingerprint exists. Used for duplicate
+	 * detection during owner creation: a single lookup on the unique fingerprint index.
+	 * @param identityFingerprint the fingerprint, see {@link OwnerFingerprint}
+	 * @return true if an owner with that identity exists
 	 */
-	List<Owner> findByFirstNameIgnoreCaseAndLastNameIgnoreCaseAndTelephone(String firstName, String lastName,
-			String telephone);
+	boolean existsByIdentityFingerprint(String identityFingerprint);
 
 	/**
 	 * Find owners by multiple criteria: last name, telephone, and/or city. All parameters
 	 * are optional (can be null).
+	 * <p>
+	 * Last name and city are matched against the database-maintained lower-case columns,
+	 * so the case-insensitive lookups can use their indexes.
+	 * <p>
+	 * Returns a {@link Slice} rather than a {@link Page}: one extra row is fetched to
+	 * tell whether there is a next page, and no {@code COUNT(*)} query is issued. Use
+	 * {@link #countByMultipleCriteria} when the total is actually needed.
 	 * @param lastName the last name to search for (starts with, case-insensitive), can be
 	 * null
 	 * @param telephone the telephone to search for (starts with), can be null
 	 * @param city the city to search for (exact match, case-insensitive), can be null
 	 * @param pageable pagination information
-	 * @return a page of matching owners
+	 * @return a slice of matching owners
+	 */
+	@Query("SELECT o FROM Owner o WHERE " + "(?1 IS NULL OR o.lastNameLower LIKE CONCAT(LOWER(?1), '%')) AND "
+			+ "(?2 IS NULL OR o.telephone LIKE CONCAT(?2, '%')) AND " + "(?3 IS NULL OR o.cityLower = LOWER(?3))")
+	Slice<Owner> findByMultipleCriteria(String lastName, String telephone, String city, Pageable pageable);
+
+	/**
+	 * Count the owners matching {@link #findByMultipleCriteria}.
+	 * @param lastName the last name to search for (starts with, case-insensitive), can be
+	 * null
+	 * @param telephone the telephone to search for (starts with), can be null
+	 * @param city the city to search for (exact match, case-insensitive), can be null
+	 * @return the number of matching owners
+	 */
+	@Query("SELECT COUNT(o) FROM Owner o WHERE " + "(?1 IS NULL OR o.lastNameLower LIKE CONCAT(LOWER(?1), '%')) AND "
+			+ "(?2 IS NULL OR o.telephone LIKE CONCAT(?2, '%')) AND " + "(?3 IS NULL OR o.cityLower = LOWER(?3))")
+	long countByMultipleCriteria(String lastName, String telephone, String city);
+
+	/**
+	 * Count the owners matching a last name and telephone search per city and per pet
+	 * type, in a single grouped query. Cities are grouped case-insensitively, the way the
+	 * city criterion of {@link #findByMultipleCriteria} compares them.
+	 * @param lastName the last name to search for (starts with, case-insensitive), can be
+	 * null
+	 * @param telephone the telephone to search for (starts with), can be null
+	 * @return {@code [facet, value, count]} rows, where {@code facet} is
+	 * {@value OwnerFacets#CITY} or {@value OwnerFacets#PET_TYPE}
+	 */
+	@Query("SELECT 'city', MIN(o.city), COUNT(o) FROM Owner o WHERE "
+			+ "(?1 IS NULL OR o.lastNameLower LIKE CONCAT(LOWER(?1), '%')) AND "
+			+ "(?2 IS NULL OR o.telephone LIKE CONCAT(?2, '%')) GROUP BY o.cityLower " + "UNION ALL "
+			+ "SELECT 'petType', t.name, COUNT(DISTINCT o.id) FROM Owner o JOIN o.pets p JOIN p.type t WHERE "
+			+ "(?1 IS NULL OR o.lastNameLower LIKE CONCAT(LOWER(?1), '%')) AND "
+			+ "(?2 IS NULL OR o.telephone LIKE CONCAT(?2, '%')) GROUP BY t.name")
+	List<Object[]> countFacets(String lastName, String telephone);
+
+	/**
+	 * Keyset variant of {@link #findByMultipleCriteria}: returns the owners ordered by
+	 * lower-cased last name and id that come strictly <i>after</i> the given key. The
+	 * seek and the order use the same column as the last name filter, so the
+	 * {@code (last_name_lower, id)} index serves all three and, unlike an offset page,
+	 * only {@code limit} index entries are read, however deep the page is.
+	 * @param lastName the last name to search for (starts with, case-insensitive), can be
+	 * null
+	 * @param telephone the telephone to search for (starts with), can be null
+	 * @param city the city to search for (exact match, case-insensitive), can be null
+	 * @param afterLastNameLower lower-cased last name of the last owner on the previous
+	 * page
+	 * @param afterId id of the last owner on the previous page
+	 * @param limit maximum number of owners to return
+	 * @return the next owners in {@code (lastNameLower, id)} order
+	 */
+	@Query("SELECT o FROM Owner o WHERE " + "(?1 IS NULL OR o.lastNameLower LIKE CONCAT(LOWER(?1), '%')) AND "
+			+ "(?2 IS NULL OR o.telephone LIKE CONCAT(?2, '%')) AND " + "(?3 IS NULL OR o.cityLower = LOWER(?3)) AND "
+			+ "(o.lastNameLower > ?4 OR (o.lastNameLower = ?4 AND o.id > ?5)) "
+			+ "ORDER BY o.lastNameLower ASC, o.id ASC")
+	List<Owner> findByMultipleCriteriaAfter(String lastName, String telephone, String city, String afterLastNameLower,
+			Integer afterId, Limit limit);
+
+	/**
+	 * Keyset variant of {@link #findByMultipleCriteria} for paging backwards: returns the
+	 * owners that come strictly <i>before</i> the given key, in <i>descending</i>
+	 * {@code (lastNameLower, id)} order. Callers reverse the result for display.
+	 * @param lastName the last name to search for (starts with, case-insensitive), can be
+	 * null
+	 * @param telephone the telephone to search for (starts with), can be null
+	 * @param city the city to search for (exact match, case-insensitive), can be null
+	 * @param beforeLastNameLower lower-cased last name of the first owner on the
+	 * following page
+	 * @param beforeId id of the first owner on the following page
+	 * @param limit maximum number of owners to return
+	 * @return the preceding owners in descending {@code (lastNameLower, id)} order
+	 */
+	@Query("SELECT o FROM Owner o WHERE " + "(?1 IS NULL OR o.lastNameLower LIKE CONCAT(LOWER(?1), '%')) AND "
+			+ "(?2 IS NULL OR o.telephone LIKE CONCAT(?2, '%')) AND " + "(?3 IS NULL OR o.cityLower = LOWER(?3)) AND "
+			+ "(o.lastNameLower < ?4 OR (o.lastNameLower = ?4 AND o.id < ?5)) "
+			+ "ORDER BY o.lastNameLower DESC, o.id DESC")
+	List<Owner> findByMultipleCriteriaBefore(String lastName, String telephone, String city, String beforeLastNameLower,
+			Integer beforeId, Limit limit);
+
+	/**
+	 * Sound-alike variant of {@link #findByMultipleCriteria}: owners whose last name
+	 * <i>sounds like</i> the one searched for, matched on the primary and alternate
+	 * phonetic keys stored with each owner. The lookup is a probe of the two indexed key
+	 * columns per candidate key, rather than a scan over last name prefixes.
+	 * @param phoneticKeys the candidate keys of the last name searched for (see
+	 * {@link PhoneticKey#candidates}), must not be empty
+	 * @param telephone the telephone to search for (starts with), can be null
+	 * @param city the city to search for (exact match, case-insensitive), can be null
+	 * @param pageable pagination information
+	 * @return a slice of matching owners
+	 */
+	@Query("SELECT o FROM Owner o WHERE (o.lastNamePhonetic IN ?1 OR o.lastNamePhoneticAlternate IN ?1) AND "
+			+ "(?2 IS NULL OR o.telephone LIKE CONCAT(?2, '%')) AND " + "(?3 IS NULL OR o.cityLower = LOWER(?3))")
+	Slice<Owner> findBySoundAlikeCriteria(Collection<String> phoneticKeys, String telephone, String city,
+			Pageable pageable);
+
+	/**
+	 * Count the owners matching {@link #findBySoundAlikeCriteria}.
+	 * @param phoneticKeys the candidate keys of the last name searched for, must not be
+	 * empty
+	 * @param telephone the telephone to search for (starts with), can be null
+	 * @param city the city to search for (exact match, case-insensitive), can be null
+	 * @return the number of matching owners
+	 */
+	@Query("SELECT COUNT(o) FROM Owner o WHERE (o.lastNamePhonetic IN ?1 OR o.lastNamePhoneticAlternate IN ?1) AND "
+			+ "(?2 IS NULL OR o.telephone LIKE CONCAT(?2, '%')) AND " + "(?3 IS NULL OR o.cityLower = LOWER(?3))")
+	long countBySoundAlikeCriteria(Collection<String> phoneticKeys, String telephone, String city);
+
+	/**
+	 * Stream the search keys of all owners as {@code [id, lastName, telephone, city]}
+	 * rows, without loading the owners themselves. Used to build the
+	 * {@link OwnerSearchIndex}.
+	 * @return a {@link Stream} of key rows, to be consumed inside a transaction and
+	 * closed afterwards
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	@Query("SELECT o.id, o.lastName, o.telephone, o.city FROM Owner o")
+	Stream<Object[]> streamSearchKeys();
+
+	/**
+	 * Distinct last names <i>starting</i> with the given prefix (case-insensitive), for
+	 * typeahead suggestions.
+	 * @param prefix last name prefix
+	 * @param limit maximum number of names to return
+	 * @return matching last names in alphabetical order
 	 */
-	@Query("SELECT o FROM Owner o WHERE " + "(?1 IS NULL OR LOWER(o.lastName) LIKE LOWER(CONCAT(?1, '%'))) AND "
-			+ "(?2 IS NULL OR o.telephone LIKE CONCAT(?2, '%')) AND " + "(?3 IS NULL OR LOWER(o.city) = LOWER(?3))")
-	Page<Owner> findByMultipleCriteria(String lastName, String telephone, String city, Pageable pageable);
+	@Query("SELECT DISTINCT o.lastName FROM Owner o WHERE o.lastNameLower LIKE CONCAT(LOWER(?1), '%') "
+			+ "ORDER BY o.lastName")
+	List<String> findLastNamesStartingWith(String prefix, Limit limit);
 
 }
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Cache of owner search results, keyed by the search criteria.
+ * <p>
+ * Only the ids of the owners on a result page are kept, together with whether there is a
+ * next page, plus the total count per criteria when it was asked for and the facet counts
+ * per last name and telephone prefix. The owners themselves are still loaded for each
+ * request, so a cached page never shows stale names or pets. All caches are bounded in
+ * size and expire entries after a fixed time.
+ * <p>
+ * When an owner is created, edited or removed, exactly the entries whose criteria matched
+ * the owner before or after the change are dropped. The new values arrive with the
+ * {@link OwnerChangedEvent} after commit; the previous values of an edited owner are
+ * passed in by {@link OwnerController}. A search that was already running when an entry
+ * was dropped does not store its result, as it may have read the old data.
+ * <p>
+ * Hits and misses are published as {@code cache.gets} metrics, and the hit ratio as
+ * {@code cache.hit.ratio}, with the tag {@code cache=owner-search-pages},
+ * {@code cache=owner-search-counts} or {@code cache=owner-search-facets}. Enabled by
+ * default; switched off with {@code petclinic.owners.search-cache.enabled=false}.
+ */
+@Component
+@ConditionalOnProperty(name = "petclinic.owners.search-cache.enabled", havingValue = "true")
+class OwnerSearchCache {
+
+	private final Cache<PageKey, Slice<Integer>> pages;
+
+	private final Cache<Criteria, Long> counts;
+
+	private final Cache<Criteria, OwnerFacets> facets;
+
+	/**
+	 * Incremented on every invalidation. Results are only stored if no invalidation
+	 * happened while they were being read.
+	 */
+	private final AtomicLong generation = new AtomicLong();
+
+	OwnerSearchCache(@Value("${petclinic.owners.search-cache.maximum-size:1000}") long maximumSize,
+			@Value("${petclinic.owners.search-cache.time-to-live:5m}") Duration timeToLive,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+		this.pages = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(timeToLive).recordStats().build();
+		this.counts = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(timeToLive).recordStats().build();
+		this.facets = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(timeToLive).recordStats().build();
+		meterRegistry.ifAvailable(registry -> {
+			monitor(registry, this.pages, "owner-search-pages");
+			monitor(registry, this.counts, "owner-search-counts");
+			monitor(registry, this.facets, "owner-search-facets");
+		});
+	}
+
+	private static void monitor(MeterRegistry registry, Cache<?, ?> cache, String name) {
+		CaffeineCacheMetrics.monitor(registry, cache, name);
+		Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+			.tag("cache", name)
+			.description("The ratio of cache requests which were hits")
+			.register(registry);
+	}
+
+	/**
+	 * Return the ids of the owners on a result page, running the query on a miss.
+	 * @param lastName last name prefix searched for, never {@code null}
+	 * @param telephone telephone prefix searched for, or {@code null}
+	 * @param city city searched for, or {@code null}
+	 * @param cursor the keyset cursor token the page was requested with, or {@code null}
+	 * @param page the 1-based page number
+	 * @param query reads the page from the database
+	 * @return the ids on the page, in display order
+	 */
+	Slice<Integer> page(String lastName, String telephone, String city, String cursor, int page,
+			Supplier<Slice<Integer>> query) {
+		PageKey key = new PageKey(Criteria.of(lastName, telephone, city), cursor, page);
+		Slice<Integer> ids = this.pages.getIfPresent(key);
+		if (ids == null) {
+			long before = this.generation.get();
+			ids = query.get();
+			if (this.generation.get() == before) {
+				this.pages.put(key, ids);
+			}
+		}
+		return ids;
+	}
+
+	/**
+	 * Return the number of owners matching the criteria, running the query on a miss.
+	 * @param lastName last name prefix searched for, never {@code null}
+	 * @param telephone telephone prefix searched for, or {@code null}
+	 * @param city city searched for, or {@code null}
+	 * @param query counts the owners in the database
+	 * @return the number of matching owners
+	 */
+	long count(String lastName, String telephone, String city, LongSupplier query) {
+		Criteria key = Criteria.of(lastName, telephone, city);
+		Long count = this.counts.getIfPresent(key);
+		if (count == null) {
+			long before = this.generation.get();
+			count = query.getAsLong();
+			if (this.generation.get() == before) {
+				this.counts.put(key, count);
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Return the facet counts of a last name and telephone search, running the query on a
+	 * miss. The city searched for, if any, does not change the facets.
+	 * @param lastName last name prefix searched for, never {@code null}
+	 * @param telephone telephone prefix searched for, or {@code null}
+	 * @param query counts the facets in the database
+	 * @return the facets
+	 */
+	OwnerFacets facets(String lastName, String telephone, Supplier<OwnerFacets> query) {
+		Criteria key = Criteria.of(lastName, telephone, null);
+		OwnerFacets facets = this.facets.getIfPresent(key);
+		if (facets == null) {
+			long before = this.generation.get();
+			facets = query.get();
+			if (this.generation.get() == before) {
+				this.facets.put(key, facets);
+			}
+		}
+		return facets;
+	}
+
+	/**
+	 * Drop the pages, counts and facets of all searches an owner with the given values
+	 * shows up in.
+	 * @param lastName the owner's last name
+	 * @param telephone the owner's telephone
+	 * @param city the owner's city
+	 */
+	void evict(String lastName, String telephone, String city) {
+		this.generation.incrementAndGet();
+		this.pages.asMap().keySet().removeIf(key -> key.criteria().matches(lastName, telephone, city));
+		this.counts.asMap().keySet().removeIf(criteria -> criteria.matches(lastName, telephone, city));
+		this.facets.asMap().keySet().removeIf(criteria -> criteria.matches(lastName, telephone, city));
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onOwnerChanged(OwnerChangedEvent event) {
+		evict(event.lastName(), event.telephone(), event.city());
+	}
+
+	/**
+	 * Search criteria as the database compares them: last name and city case-insensitive,
+	 * telephone as entered.
+	 */
+	record Criteria(String lastName, String telephone, String city) {
+
+		static Criteria of(String lastName, String telephone, String city) {
+			return new Criteria(lastName.toLowerCase(Locale.ROOT), telephone,
+					(city != null) ? city.toLowerCase(Locale.ROOT) : null);
+		}
+
+		boolean matches(String ownerLastName, String ownerTelephone, String ownerCity) {
+			return startsWith(ownerLastName, this.lastName)
+					&& (this.telephone == null || (ownerTelephone != null && ownerTelephone.startsWith(this.telephone)))
+					&& (this.city == null
+							|| (ownerCity != null && ownerCity.toLowerCase(Locale.ROOT).equals(this.city)));
+		}
+
+		private static boolean startsWith(String value, String lowerCasePrefix) {
+			return lowerCasePrefix.isEmpty()
+					|| (value != null && value.toLowerCase(Locale.ROOT).startsWith(lowerCasePrefix));
+		}
+
+	}
+
+	record PageKey(Criteria criteria, String cursor, int page) {
+	}
+
+}
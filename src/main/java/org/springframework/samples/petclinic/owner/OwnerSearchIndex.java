@@ -0,0 +1,345 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+/**
+ * In-memory prefix index over the owner search keys (last name, telephone and city).
+ * <p>
+ * The index holds one small entry per owner in two sorted, concurrently updatable sets:
+ * one ordered by {@code (lastNameLower, id)} and one by {@code (telephone, id)}. A prefix
+ * search is a range view over the matching set, so the search and typeahead never scan
+ * the {@code owners} table; the search only yields the ids of the owners on the requested
+ * page, to be loaded by the caller. The number of owners per last name prefix, telephone
+ * prefix and city is kept alongside, so counting a search by one of them is a lookup.
+ * <p>
+ * The index is populated once the application is ready and kept in sync through
+ * {@link OwnerChangedEvent}s delivered after each committed transaction. It is disabled
+ * by default and enabled with {@code petclinic.owners.search-index.enabled=true}.
+ */
+@Component
+@ConditionalOnProperty(name = "petclinic.owners.search-index.enabled", havingValue = "true")
+class OwnerSearchIndex {
+
+	private static final Log logger = LogFactory.getLog(OwnerSearchIndex.class);
+
+	private static final Comparator<Entry> BY_LAST_NAME = Comparator.comparing(Entry::lastNameKey)
+		.thenComparingInt(Entry::id);
+
+	private static final Comparator<Entry> BY_TELEPHONE = Comparator.comparing(Entry::telephone)
+		.thenComparingInt(Entry::id);
+
+	private final OwnerRepository owners;
+
+	private final Map<Integer, Entry> byId = new ConcurrentHashMap<>();
+
+	private final NavigableSet<Entry> byLastName = new ConcurrentSkipListSet<>(BY_LAST_NAME);
+
+	private final NavigableSet<Entry> byTelephone = new ConcurrentSkipListSet<>(BY_TELEPHONE);
+
+	private final Map<String, Long> lastNamePrefixCounts = new ConcurrentHashMap<>();
+
+	private final Map<String, Long> telephonePrefixCounts = new ConcurrentHashMap<>();
+
+	private final Map<String, Long> cityCounts = new ConcurrentHashMap<>();
+
+	/**
+	 * Ids changed through events while a rebuild is running; the rebuild must not
+	 * overwrite them with the (possibly older) rows it reads.
+	 */
+	private final Set<Integer> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+	private volatile boolean rebuilding;
+
+	private volatile boolean ready;
+
+	OwnerSearchIndex(OwnerRepository owners) {
+		this.owners = owners;
+	}
+
+	/**
+	 * Whether the index has been populated and can answer searches.
+	 * @return true once the initial rebuild has completed
+	 */
+	boolean isReady() {
+		return this.ready;
+	}
+
+	/**
+	 * Load the search keys of all owners into the index. Only the key columns are read,
+	 * never the owners with their pets.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void rebuild() {
+		this.rebuilding = true;
+		this.changedDuringRebuild.clear();
+		try (Stream<Object[]> keys = this.owners.streamSearchKeys()) {
+			keys.forEach(row -> {
+				Integer id = (Integer) row[0];
+				if (!this.changedDuringRebuild.contains(id)) {
+					put(id, (String) row[1], (String) row[2], (String) row[3]);
+				}
+			});
+		}
+		finally {
+			this.rebuilding = false;
+		}
+		this.ready = true;
+		logger.info("Owner search index built with " + this.byId.size() + " owners");
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onOwnerChanged(OwnerChangedEvent event) {
+		if (event.ownerId() == null) {
+			return;
+		}
+		if (this.rebuilding) {
+			this.changedDuringRebuild.add(event.ownerId());
+		}
+		if (event.deleted()) {
+			remove(event.ownerId());
+		}
+		else {
+			put(event.ownerId(), event.lastName(), event.telephone(), event.city());
+		}
+	}
+
+	/**
+	 * Add or replace the entry for the given owner. Updates of the same owner are
+	 * serialized; readers see either the old or the new entry.
+	 */
+	void put(int id, String lastName, String telephone, String city) {
+		Entry entry = new Entry(id, nullToEmpty(lastName), nameKey(lastName), nullToEmpty(telephone).trim(),
+				nameKey(city));
+		this.byId.compute(id, (key, previous) -> {
+			if (previous != null) {
+				this.byLastName.remove(previous);
+				this.byTelephone.remove(previous);
+				count(previous, -1);
+			}
+			this.byLastName.add(entry);
+			this.byTelephone.add(entry);
+			count(entry, 1);
+			return entry;
+		});
+	}
+
+	void remove(int id) {
+		this.byId.computeIfPresent(id, (key, previous) -> {
+			this.byLastName.remove(previous);
+			this.byTelephone.remove(previous);
+			count(previous, -1);
+			return null;
+		});
+	}
+
+	private void count(Entry entry, long delta) {
+		countPrefixes(this.lastNamePrefixCounts, entry.lastNameKey(), delta);
+		countPrefixes(this.telephonePrefixCounts, entry.telephone(), delta);
+		count(this.cityCounts, entry.cityKey(), delta);
+	}
+
+	private static void countPrefixes(Map<String, Long> counts, String key, long delta) {
+		for (int length = 1; length <= key.length(); length++) {
+			count(counts, key.substring(0, length), delta);
+		}
+	}
+
+	private static void count(Map<String, Long> counts, String key, long delta) {
+		counts.merge(key, delta, (count, change) -> (count + change != 0) ? count + change : null);
+	}
+
+	/**
+	 * Search owners by the same criteria as
+	 * {@link OwnerRepository#findByMultipleCriteria}, in {@code (lastNameLower, id)}
+	 * order.
+	 * @param lastName last name prefix (case-insensitive), empty for all owners
+	 * @param telephone telephone prefix, or {@code null}
+	 * @param city city (exact match, case-insensitive), or {@code null}
+	 * @param cursor keyset position to read from, or {@code null} to use the page offset
+	 * @param pageable page number and size
+	 * @return the ids of the owners on the requested page, in display order
+	 */
+	Slice<Integer> search(String lastName, String telephone, String city, OwnerCursor cursor, Pageable pageable) {
+		Predicate<Entry> matching = matching(telephone, city);
+		long skip = (cursor != null) ? 0 : pageable.getOffset();
+		Entry from = (cursor != null) ? probe(nameKey(cursor.lastNameLower()), cursor.id()) : null;
+		boolean forward = cursor == null || cursor.forward();
+		Stream<Entry> ordered;
+		if (isTelephoneOnly(lastName, telephone)) {
+			ordered = firstByName(byTelephonePrefix(telephone), matching, from, forward,
+					skip + pageable.getPageSize() + 1);
+		}
+		else {
+			NavigableSet<Entry> byName = byLastNamePrefix(nameKey(lastName));
+			if (from != null) {
+				byName = forward ? byName.tailSet(from, false) : byName.headSet(from, false).descendingSet();
+			}
+			ordered = byName.stream().filter(matching);
+		}
+		List<Integer> ids = ordered.skip(skip)
+			.limit(pageable.getPageSize() + 1L)
+			.map(Entry::id)
+			.collect(Collectors.toCollection(ArrayList::new));
+		boolean hasNext = ids.size() > pageable.getPageSize();
+		if (hasNext) {
+			ids.remove(ids.size() - 1);
+		}
+		if (cursor != null && !cursor.forward()) {
+			// read backwards from the cursor: the page it came from follows
+			Collections.reverse(ids);
+			hasNext = true;
+		}
+		return new SliceImpl<>(ids, pageable, hasNext);
+	}
+
+	/**
+	 * Count the owners matching the given criteria. A search by a single criterion is
+	 * answered from the kept counts; otherwise the owners in the narrower of the last
+	 * name and telephone ranges are checked.
+	 * @see #search
+	 */
+	long count(String lastName, String telephone, String city) {
+		String key = nameKey(lastName);
+		boolean byTelephone = StringUtils.hasLength(telephone);
+		if (key.isEmpty() && !byTelephone) {
+			return (city != null) ? this.cityCounts.getOrDefault(nameKey(city), 0L) : this.byId.size();
+		}
+		if (city == null && !byTelephone) {
+			return this.lastNamePrefixCounts.getOrDefault(key, 0L);
+		}
+		if (city == null && key.isEmpty()) {
+			return this.telephonePrefixCounts.getOrDefault(telephone, 0L);
+		}
+		long byTelephoneCount = this.telephonePrefixCounts.getOrDefault(nullToEmpty(telephone), 0L);
+		long byLastNameCount = key.isEmpty() ? this.byId.size() : this.lastNamePrefixCounts.getOrDefault(key, 0L);
+		boolean telephoneNarrower = byTelephone && byTelephoneCount < byLastNameCount;
+		Collection<Entry> range = telephoneNarrower ? byTelephonePrefix(telephone) : byLastNamePrefix(key);
+		Predicate<Entry> matching = matching(telephone, city).and(entry -> entry.lastNameKey().startsWith(key));
+		return range.stream().filter(matching).count();
+	}
+
+	/**
+	 * Distinct last names starting with the given prefix, for typeahead.
+	 * @param prefix last name prefix (case-insensitive)
+	 * @param limit maximum number of suggestions
+	 * @return matching last names in alphabetical order
+	 */
+	List<String> suggestLastNames(String prefix, int limit) {
+		return byLastNamePrefix(nameKey(prefix)).stream().map(Entry::lastName).distinct().limit(limit).toList();
+	}
+
+	/**
+	 * Whether the search is by telephone only, in which case the (usually much narrower)
+	 * telephone range is searched instead of all owners.
+	 */
+	private static boolean isTelephoneOnly(String lastName, String telephone) {
+		return !StringUtils.hasLength(lastName) && StringUtils.hasLength(telephone);
+	}
+
+	/**
+	 * The first matching entries of a range in another order, in
+	 * {@code (lastNameLower, id)} order, or in reverse when reading backwards from the
+	 * given entry. Only the wanted number of entries is held while the range is walked.
+	 */
+	private static Stream<Entry> firstByName(Collection<Entry> range, Predicate<Entry> matching, Entry from,
+			boolean forward, long limit) {
+		Comparator<Entry> order = forward ? BY_LAST_NAME : BY_LAST_NAME.reversed();
+		PriorityQueue<Entry> first = new PriorityQueue<>(order.reversed());
+		for (Entry entry : range) {
+			if (matching.test(entry) && (from == null || order.compare(entry, from) > 0)) {
+				first.add(entry);
+				if (first.size() > limit) {
+					first.poll();
+				}
+			}
+		}
+		return first.stream().sorted(order);
+	}
+
+	private NavigableSet<Entry> byTelephonePrefix(String telephone) {
+		return this.byTelephone.subSet(probe(telephone, Integer.MIN_VALUE), true, upperBound(telephone), true);
+	}
+
+	private NavigableSet<Entry> byLastNamePrefix(String key) {
+		if (key.isEmpty()) {
+			return this.byLastName;
+		}
+		return this.byLastName.subSet(probe(key, Integer.MIN_VALUE), true, upperBound(key), true);
+	}
+
+	private static Predicate<Entry> matching(String telephone, String city) {
+		String cityKey = nameKey(city);
+		return entry -> (telephone == null || entry.telephone().startsWith(telephone))
+				&& (city == null || entry.cityKey().equals(cityKey));
+	}
+
+	/**
+	 * Probe entry for range queries: compares equal to entries with the given key and id
+	 * in both orders.
+	 */
+	private static Entry probe(String key, int id) {
+		return new Entry(id, key, key, key, key);
+	}
+
+	private static Entry upperBound(String prefix) {
+		return probe(prefix + Character.MAX_VALUE, Integer.MIN_VALUE);
+	}
+
+	private static String nameKey(String value) {
+		return nullToEmpty(value).trim().toLowerCase(Locale.ROOT);
+	}
+
+	private static String nullToEmpty(String value) {
+		return value != null ? value : "";
+	}
+
+	/**
+	 * Search keys of one owner.
+	 */
+	record Entry(int id, String lastName, String lastNameKey, String telephone, String cityKey) {
+	}
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Compact view of an owner and its pets, as returned by the JSON lookup API.
+ *
+ * @param id the owner's id
+ * @param firstName the owner's first name
+ * @param lastName the owner's last name
+ * @param telephone the owner's telephone
+ * @param city the owner's city
+ * @param pets the owner's pets, ordered by name
+ */
+public record OwnerSummary(Integer id, String firstName, String lastName, String telephone, String city,
+		List<PetSummary> pets) {
+
+	static OwnerSummary of(Owner owner) {
+		return new OwnerSummary(owner.getId(), owner.getFirstName(), owner.getLastName(), owner.getTelephone(),
+				owner.getCity(), owner.getPets().stream().map(PetSummary::of).toList());
+	}
+
+	/**
+	 * Compact view of a pet.
+	 *
+	 * @param id the pet's id
+	 * @param name the pet's name
+	 * @param type the name of the pet's type
+	 * @param birthDate the pet's birth date
+	 */
+	public record PetSummary(Integer id, String name, String type, LocalDate birthDate) {
+
+		static PetSummary of(Pet pet) {
+			return new PetSummary(pet.getId(), pet.getName(), pet.getType() != null ? pet.getType().getName() : null,
+					pet.getBirthDate());
+		}
+
+	}
+
+}
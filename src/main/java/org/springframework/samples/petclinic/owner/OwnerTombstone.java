@@ -0,0 +1,83 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.time.Instant;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Record of an owner removed by {@linkplain OwnerDeduplicationService merging} it into
+ * another owner. Delta exports only see owners that still exist, so clients syncing with
+ * them learn about removed owners from these records (see
+ * {@link OwnerController#exportRemovedOwnersCsv}).
+ */
+@Entity
+@Table(name = "owner_tombstones")
+@Immutable
+public class OwnerTombstone {
+
+	@Id
+	@Column(name = "owner_id")
+	private Integer ownerId;
+
+	@Column(name = "merged_into_id")
+	private Integer mergedIntoId;
+
+	@Column(name = "last_name")
+	private String lastName;
+
+	@Column(name = "removed_at")
+	private Instant removedAt;
+
+	protected OwnerTombstone() {
+	}
+
+	OwnerTombstone(Integer ownerId, Integer mergedIntoId, String lastName, Instant removedAt) {
+		this.ownerId = ownerId;
+		this.mergedIntoId = mergedIntoId;
+		this.lastName = lastName;
+		this.removedAt = removedAt;
+	}
+
+	/**
+	 * The ID the removed owner had.
+	 */
+	public Integer getOwnerId() {
+		return this.ownerId;
+	}
+
+	/**
+	 * The ID of the owner it was merged into, which took over its pets.
+	 */
+	public Integer getMergedIntoId() {
+		return this.mergedIntoId;
+	}
+
+	public String getLastName() {
+		return this.lastName;
+	}
+
+	public Instant getRemovedAt() {
+		return this.removedAt;
+	}
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.Repository;
+
+import jakarta.persistence.QueryHint;
+
+/**
+ * Repository class for {@link OwnerTombstone}s. They are written by
+ * {@link OwnerDeduplicationService} along with the merges, and only read here.
+ */
+public interface OwnerTombstoneRepository extends Repository<OwnerTombstone, Integer> {
+
+	/**
+	 * Stream the tombstones of owners whose last name <i>started</i> with the given name
+	 * and that were removed after the given instant. Must be consumed inside a
+	 * transaction and closed afterwards.
+	 * @param lastName Value to search for
+	 * @param since only owners removed strictly after this instant are returned
+	 * @return a {@link Stream} of matching {@link OwnerTombstone}s ordered by owner id
+	 */
+	@Query("SELECT t FROM OwnerTombstone t WHERE t.lastName LIKE CONCAT(?1, '%') AND t.removedAt > ?2 "
+			+ "ORDER BY t.ownerId")
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	Stream<OwnerTombstone> streamRemovedSince(String lastName, Instant since);
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.util.List;
+
+/**
+ * Repository fragment making {@link Owner} the unit of versioning for its pets and their
+ * visits. Hibernate only increments an entity's version when the entity itself or a
+ * collection it owns changes, so renaming a pet or booking a visit would otherwise leave
+ * the owner's version untouched.
+ */
+interface OwnerVersioning {
+
+	/**
+	 * Save the owner together with its pets and visits, and increment the owner's version
+	 * even if only a pet or a visit changed.
+	 * @param owner the owner to save
+	 * @return the saved owner
+	 */
+	<S extends Owner> S save(S owner);
+
+	/**
+	 * Save the owner as {@link #save} does and flush the changes.
+	 * @param owner the owner to save
+	 * @return the saved owner
+	 */
+	<S extends Owner> S saveAndFlush(S owner);
+
+	/**
+	 * Save the owners one by one as {@link #save} does.
+	 * @param owners the owners to save
+	 * @return the saved owners
+	 */
+	<S extends Owner> List<S> saveAll(Iterable<S> owners);
+
+	/**
+	 * Save the owners one by one as {@link #save} does and flush the changes.
+	 * @param owners the owners to save
+	 * @return the saved owners
+	 */
+	<S extends Owner> List<S> saveAllAndFlush(Iterable<S> owners);
+
+}
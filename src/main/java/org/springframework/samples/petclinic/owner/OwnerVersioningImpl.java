@@ -0,0 +1,102 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.hibernate.Session;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+
+/**
+ * Implementation of {@link OwnerVersioning}, replacing the default {@code save} methods
+ * of {@link OwnerRepository}.
+ */
+class OwnerVersioningImpl implements OwnerVersioning {
+
+	private final EntityManager entityManager;
+
+	private final ApplicationEventPublisher events;
+
+	OwnerVersioningImpl(EntityManager entityManager, ApplicationEventPublisher events) {
+		this.entityManager = entityManager;
+		this.events = events;
+	}
+
+	@Override
+	@Transactional
+	public <S extends Owner> S save(S owner) {
+		if (owner.isNew()) {
+			this.entityManager.persist(owner);
+			return owner;
+		}
+		S merged = this.entityManager.merge(owner);
+		Integer version = merged.getVersion();
+		this.entityManager.flush();
+		if (Objects.equals(version, merged.getVersion())) {
+			// Only pets or visits changed. The forced increment is an UPDATE of its own,
+			// run (and its row lock taken) right away, so it is only issued when the
+			// flush above left the version alone; an edit of the owner itself was
+			// versioned by its own UPDATE. Unbatched, as no later flush would send a
+			// batch holding nothing but this statement.
+			Session session = this.entityManager.unwrap(Session.class);
+			Integer batchSize = session.getJdbcBatchSize();
+			session.setJdbcBatchSize(0);
+			try {
+				this.entityManager.lock(merged, LockModeType.PESSIMISTIC_FORCE_INCREMENT);
+			}
+			finally {
+				session.setJdbcBatchSize(batchSize);
+			}
+			// The forced increment fires no @PostUpdate, so views that count the owner's
+			// pets would not hear of a change to a pet alone
+			this.events.publishEvent(OwnerChangedEvent.saved(merged));
+		}
+		return merged;
+	}
+
+	@Override
+	@Transactional
+	public <S extends Owner> S saveAndFlush(S owner) {
+		S saved = save(owner);
+		this.entityManager.flush();
+		return saved;
+	}
+
+	@Override
+	@Transactional
+	public <S extends Owner> List<S> saveAll(Iterable<S> owners) {
+		List<S> saved = new ArrayList<>();
+		for (S owner : owners) {
+			saved.add(save(owner));
+		}
+		return saved;
+	}
+
+	@Override
+	@Transactional
+	public <S extends Owner> List<S> saveAllAndFlush(Iterable<S> owners) {
+		List<S> saved = saveAll(owners);
+		this.entityManager.flush();
+		return saved;
+	}
+
+}
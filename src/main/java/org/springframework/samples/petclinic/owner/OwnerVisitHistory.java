@@ -0,0 +1,37 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.util.Optional;
+
+/**
+ * Repository fragment loading an {@link Owner} for pages that render whole visit
+ * histories. The pets and their visits are read with separate queries: fetched together,
+ * every visit row would repeat its pet in the owner's list of pets.
+ */
+interface OwnerVisitHistory {
+
+	/**
+	 * Retrieve an {@link Owner} together with its pets, their types and all their visits,
+	 * in two queries. Used for booking visits, which renders the visit history. The owner
+	 * details page only reads the latest visits of each pet (see
+	 * {@link VisitRepository#findLatestByPetId}).
+	 * @param id the id to search for
+	 * @return the owner with pets and visits loaded, or an empty {@link Optional}
+	 */
+	Optional<Owner> findWithPetsAndVisitsById(Integer id);
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.util.Optional;
+
+import org.hibernate.jpa.SpecHints;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Implementation of {@link OwnerVisitHistory}.
+ */
+class OwnerVisitHistoryImpl implements OwnerVisitHistory {
+
+	private static final String FIND_OWNER = "SELECT o FROM Owner o WHERE o.id = :id";
+
+	private static final String FETCH_VISITS = "SELECT DISTINCT p FROM Pet p LEFT JOIN FETCH p.visits WHERE p.owner.id = :ownerId";
+
+	private final EntityManager entityManager;
+
+	OwnerVisitHistoryImpl(EntityManager entityManager) {
+		this.entityManager = entityManager;
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Optional<Owner> findWithPetsAndVisitsById(Integer id) {
+		Optional<Owner> owner = this.entityManager.createQuery(FIND_OWNER, Owner.class)
+			.setParameter("id", id)
+			.setHint(SpecHints.HINT_SPEC_FETCH_GRAPH, this.entityManager.getEntityGraph(Owner.WITH_PETS))
+			.getResultStream()
+			.findFirst();
+		if (owner.isPresent()) {
+			// Initializes the visits of the pets already loaded with the owner
+			this.entityManager.createQuery(FETCH_VISITS, Pet.class).setParameter("ownerId", id).getResultList();
+		}
+		return owner;
+	}
+
+}
@@ -15,11 +15,14 @@
  */
 package org.springframework.samples.petclinic.owner;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.samples.petclinic.model.NamedEntity;
 
@@ -31,6 +34,8 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderBy;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 
 /**
@@ -43,6 +48,7 @@ import jakarta.persistence.Table;
  */
 @Entity
 @Table(name = "pets")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "pet")
 public class Pet extends NamedEntity {
 
 	@Column(name = "birth_date")
@@ -57,11 +63,31 @@ public class Pet extends NamedEntity {
 	@JoinColumn(name = "owner_id")
 	private Owner owner;
 
-	@OneToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+	/**
+	 * The whole visit history, only loaded when accessed or fetched explicitly. Pages
+	 * that show visits read the latest ones through {@link VisitRepository} instead.
+	 */
+	@OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
 	@JoinColumn(name = "pet_id")
 	@OrderBy("date ASC")
 	private final Set<Visit> visits = new LinkedHashSet<>();
 
+	/**
+	 * Lower-cased name, computed by the database. Duplicate-name checks look pets up by
+	 * owner and this column (see {@link PetRepository#existsByOwnerIdAndName}).
+	 */
+	@Column(name = "name_lower", insertable = false, updatable = false)
+	private String nameLower;
+
+	@Column(name = "created_at", updatable = false)
+	private Instant createdAt;
+
+	/**
+	 * When the pet was last saved; a changed pet puts its owner in the next delta export.
+	 */
+	@Column(name = "updated_at")
+	private Instant updatedAt;
+
 	public void setBirthDate(LocalDate birthDate) {
 		this.birthDate = birthDate;
 	}
@@ -94,4 +120,21 @@ public class Pet extends NamedEntity {
 		this.owner = owner;
 	}
 
+	public Instant getCreatedAt() {
+		return this.createdAt;
+	}
+
+	public Instant getUpdatedAt() {
+		return this.updatedAt;
+	}
+
+	@PrePersist
+	@PreUpdate
+	void updateTimestamps() {
+		this.updatedAt = Instant.now();
+		if (this.createdAt == null) {
+			this.createdAt = this.updatedAt;
+		}
+	}
+
 }
@@ -17,9 +17,9 @@ package org.springframework.samples.petclinic.owner;
 
 import java.time.LocalDate;
 import java.util.Collection;
-import java.util.Objects;
 import java.util.Optional;
 
+import org.springframework.samples.petclinic.referencedata.ReferenceData;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.ModelMap;
 import org.springframework.util.Assert;
@@ -51,21 +51,24 @@ class PetController {
 
 	private final OwnerRepository owners;
 
-	private final PetTypeRepository types;
+	private final ReferenceData referenceData;
 
-	public PetController(OwnerRepository owners, PetTypeRepository types) {
+	private final PetRepository pets;
+
+	public PetController(OwnerRepository owners, ReferenceData referenceData, PetRepository pets) {
 		this.owners = owners;
-		this.types = types;
+		this.referenceData = referenceData;
+		this.pets = pets;
 	}
 
 	@ModelAttribute("types")
 	public Collection<PetType> populatePetTypes() {
-		return this.types.findPetTypes();
+		return this.referenceData.petTypes();
 	}
 
 	@ModelAttribute("owner")
 	public Owner findOwner(@PathVariable("ownerId") int ownerId) {
-		Optional<Owner> optionalOwner = this.owners.findById(ownerId);
+		Optional<Owner> optionalOwner = this.owners.findWithPetsById(ownerId);
 		Owner owner = optionalOwner.orElseThrow(() -> new IllegalArgumentException(
 				"Owner not found with id: " + ownerId + ". Please ensure the ID is correct "));
 		return owner;
@@ -79,7 +82,7 @@ class PetController {
 			return new Pet();
 		}
 
-		Optional<Owner> optionalOwner = this.owners.findById(ownerId);
+		Optional<Owner> optionalOwner = this.owners.findWithPetsById(ownerId);
 		Owner owner = optionalOwner.orElseThrow(() -> new IllegalArgumentException(
 				"Owner not found with id: " + ownerId + ". Please ensure the ID is correct "));
 		Pet pet = owner.getPet(petId);
@@ -111,7 +114,8 @@ class PetController {
 	public String processCreationForm(Owner owner, @Valid Pet pet, BindingResult result,
 			RedirectAttributes redirectAttributes) {
 
-		if (StringUtils.hasText(pet.getName()) && pet.isNew() && owner.getPet(pet.getName(), true) != null)
+		if (StringUtils.hasText(pet.getName()) && pet.isNew()
+				&& this.pets.existsByOwnerIdAndName(owner.getId(), pet.getName(), null))
 			result.rejectValue("name", "duplicate", "already exists");
 
 		LocalDate currentDate = LocalDate.now();
@@ -141,11 +145,8 @@ class PetController {
 		String petName = pet.getName();
 
 		// checking if the pet name already exists for the owner
-		if (StringUtils.hasText(petName)) {
-			Pet existingPet = owner.getPet(petName, false);
-			if (existingPet != null && !Objects.equals(existingPet.getId(), pet.getId())) {
-				result.rejectValue("name", "duplicate", "already exists");
-			}
+		if (StringUtils.hasText(petName) && this.pets.existsByOwnerIdAndName(owner.getId(), petName, pet.getId())) {
+			result.rejectValue("name", "duplicate", "already exists");
 		}
 
 		LocalDate currentDate = LocalDate.now();
@@ -183,23 +184,4 @@ class PetController {
 		this.owners.save(owner);
 	}
 
-	@PostMapping("/pets/{petId}/delete")
-	public String processDeletionForm(@PathVariable("ownerId") int ownerId, @PathVariable("petId") int petId,
-			RedirectAttributes redirectAttributes) {
-		Owner owner = this.owners.findById(ownerId).orElseThrow(() -> new IllegalArgumentException("Owner not found"));
-
-		Pet pet = owner.getPet(petId);
-		if (pet == null) {
-			redirectAttributes.addFlashAttribute("error", "Pet not found");
-			return "redirect:/owners/{ownerId}";
-		}
-
-		String petName = pet.getName();
-		owner.removePet(pet);
-		this.owners.save(owner);
-
-		redirectAttributes.addFlashAttribute("message", "Pet \"" + petName + "\" has been successfully deleted");
-		return "redirect:/owners/{ownerId}";
-	}
-
 }
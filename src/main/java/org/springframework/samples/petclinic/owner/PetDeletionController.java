@@ -0,0 +1,81 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.util.List;
+
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+/**
+ * Controller for deleting pets. Kept apart from {@link PetController}, whose model
+ * attributes load the owner with all its pets on every request, so a deletion only runs
+ * the statements of {@link PetDeletionService}.
+ */
+@Controller
+@RequestMapping("/owners/{ownerId}/pets")
+class PetDeletionController {
+
+	private final PetDeletionService deletion;
+
+	public PetDeletionController(PetDeletionService deletion) {
+		this.deletion = deletion;
+	}
+
+	/**
+	 * Delete a pet and its visits.
+	 * @param ownerId the ID of the pet's owner
+	 * @param petId the ID of the pet
+	 * @param redirectAttributes flash attributes for the owner details page
+	 * @return a redirect to the owner details page
+	 * @throws IllegalArgumentException if the owner has no such pet
+	 */
+	@PostMapping("/{petId}/delete")
+	public String processDeletionForm(@PathVariable("ownerId") int ownerId, @PathVariable("petId") int petId,
+			RedirectAttributes redirectAttributes) {
+		String petName = this.deletion.delete(ownerId, petId)
+			.orElseThrow(() -> new IllegalArgumentException(
+					"Pet not found with id: " + petId + " for owner " + ownerId + ". Please ensure the ID is correct"));
+		redirectAttributes.addFlashAttribute("message", "Pet \"" + petName + "\" has been successfully deleted");
+		return "redirect:/owners/{ownerId}";
+	}
+
+	/**
+	 * Delete several pets of an owner and their visits. IDs of pets the owner does not
+	 * have are ignored.
+	 * @param ownerId the ID of the pets' owner
+	 * @param petIds the IDs of the pets
+	 * @param redirectAttributes flash attributes for the owner details page
+	 * @return a redirect to the owner details page
+	 */
+	@PostMapping("/delete")
+	public String processBulkDeletionForm(@PathVariable("ownerId") int ownerId, @RequestParam List<Integer> petIds,
+			RedirectAttributes redirectAttributes) {
+		List<String> petNames = this.deletion.delete(ownerId, petIds);
+		if (petNames.isEmpty()) {
+			redirectAttributes.addFlashAttribute("error", "Pet not found");
+		}
+		else {
+			redirectAttributes.addFlashAttribute("message", petNames.size() + " pet(s) have been successfully deleted");
+		}
+		return "redirect:/owners/{ownerId}";
+	}
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Deletes pets together with their visits without loading the owner aggregate.
+ * <p>
+ * A deletion is a fixed number of set-based JDBC statements in one transaction, whatever
+ * the number of pets the owner has or visits the pets have: the pets are looked up by id
+ * and owner, their visits and the pets themselves are deleted, and the owner's version is
+ * incremented so its pages and ETags change. Pets of other owners are never deleted: the
+ * pets are locked when they are looked up, and every statement checks their owner again,
+ * so a pet moved to another owner meanwhile (by a merge of duplicate owners) keeps its
+ * visits.
+ * <p>
+ * An {@link OwnerChangedEvent} for the owner is delivered once the deletion has
+ * committed, so views counting the owner's pets (such as the pet type facets of the
+ * search cache) drop them.
+ */
+@Service
+public class PetDeletionService {
+
+	private static final String SELECT_OWNER = "SELECT id, last_name, telephone, city FROM owners WHERE id = :ownerId";
+
+	private static final String SELECT_PETS = "SELECT id, name FROM pets WHERE id IN (:petIds) AND owner_id = :ownerId ORDER BY id FOR UPDATE";
+
+	private static final String DELETE_VISITS = "DELETE FROM visits WHERE pet_id IN (SELECT id FROM pets WHERE id IN (:petIds) AND owner_id = :ownerId)";
+
+	private static final String DELETE_PETS = "DELETE FROM pets WHERE id IN (:petIds) AND owner_id = :ownerId";
+
+	private static final String BUMP_VERSION = "UPDATE owners SET version = version + 1, updated_at = :now WHERE id = :ownerId";
+
+	private static final String OWNER_PETS = Owner.class.getName() + ".pets";
+
+	private final NamedParameterJdbcTemplate jdbc;
+
+	private final TransactionTemplate transactions;
+
+	private final ApplicationEventPublisher events;
+
+	private final EntityManagerFactory entityManagerFactory;
+
+	public PetDeletionService(NamedParameterJdbcTemplate jdbc, PlatformTransactionManager transactionManager,
+			ApplicationEventPublisher events, EntityManagerFactory entityManagerFactory) {
+		this.jdbc = jdbc;
+		this.transactions = new TransactionTemplate(transactionManager);
+		this.events = events;
+		this.entityManagerFactory = entityManagerFactory;
+	}
+
+	/**
+	 * Delete a pet of an owner and all its visits.
+	 * @param ownerId the ID of the pet's owner
+	 * @param petId the ID of the pet
+	 * @return the name of the deleted pet, empty if the owner has no such pet
+	 */
+	public Optional<String> delete(int ownerId, int petId) {
+		return delete(ownerId, List.of(petId)).stream().findFirst();
+	}
+
+	/**
+	 * Delete pets of an owner and all their visits. IDs of pets that do not exist or
+	 * belong to another owner are ignored.
+	 * @param ownerId the ID of the pets' owner
+	 * @param petIds the IDs of the pets
+	 * @return the names of the deleted pets, by pet ID
+	 */
+	public List<String> delete(int ownerId, Collection<Integer> petIds) {
+		if (petIds.isEmpty()) {
+			return List.of();
+		}
+		List<Integer> deletedIds = new ArrayList<>();
+		List<String> names = new ArrayList<>();
+		this.transactions.executeWithoutResult(status -> {
+			this.jdbc.query(SELECT_PETS, Map.of("petIds", petIds, "ownerId", ownerId), (RowCallbackHandler) rs -> {
+				deletedIds.add(rs.getInt(1));
+				names.add(rs.getString(2));
+			});
+			if (deletedIds.isEmpty()) {
+				return;
+			}
+			this.jdbc.update(DELETE_VISITS, Map.of("petIds", deletedIds, "ownerId", ownerId));
+			this.jdbc.update(DELETE_PETS, Map.of("petIds", deletedIds, "ownerId", ownerId));
+			// Same clock as the entities' timestamps, which delta exports compare against
+			this.jdbc.update(BUMP_VERSION, Map.of("ownerId", ownerId, "now", Timestamp.from(Instant.now())));
+			// Delivered to in-memory owner views once the deletion has committed
+			this.jdbc
+				.query(SELECT_OWNER, Map.of("ownerId", ownerId), (RowCallbackHandler) rs -> this.events.publishEvent(
+						new OwnerChangedEvent(rs.getInt(1), rs.getString(2), rs.getString(3), rs.getString(4), false)));
+		});
+		if (!deletedIds.isEmpty()) {
+			evictCached(ownerId, deletedIds);
+		}
+		return names;
+	}
+
+	/**
+	 * The statements bypass the entities, so drop what the second-level cache holds of
+	 * the owner and the deleted pets.
+	 */
+	private void evictCached(int ownerId, List<Integer> petIds) {
+		Cache cache = this.entityManagerFactory.unwrap(SessionFactory.class).getCache();
+		for (Integer petId : petIds) {
+			cache.evictEntityData(Pet.class, petId);
+		}
+		cache.evictEntityData(Owner.class, ownerId);
+		cache.evictCollectionData(OWNER_PETS, ownerId);
+	}
+
+}
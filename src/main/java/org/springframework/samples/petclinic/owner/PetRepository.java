@@ -0,0 +1,92 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Repository class for <code>Pet</code> domain objects. Looks pets up directly rather
+ * than through their owner, so owners with many pets need not load all of them.
+ */
+public interface PetRepository extends JpaRepository<Pet, Integer> {
+
+	/**
+	 * Check whether an owner has a pet with the given name, ignoring case. A probe of the
+	 * index on the owner and the lower-cased name.
+	 * @param ownerId the owner's id
+	 * @param name the name to look for
+	 * @param excludedPetId id of a pet to ignore, the one being renamed; {@code null} to
+	 * consider all pets
+	 * @return true if another pet of the owner has that name
+	 */
+	@Query("SELECT COUNT(p) > 0 FROM Pet p WHERE p.owner.id = :ownerId AND p.nameLower = LOWER(:name) "
+			+ "AND (:excludedPetId IS NULL OR p.id <> :excludedPetId)")
+	boolean existsByOwnerIdAndName(@Param("ownerId") Integer ownerId, @Param("name") String name,
+			@Param("excludedPetId") Integer excludedPetId);
+
+	/**
+	 * Retrieve a page of the ids of an owner's pets. Used with
+	 * {@link #findByIdIn(Collection, Sort)} so the page is counted and limited in the
+	 * database on the pets table alone.
+	 * @param ownerId the owner's id
+	 * @param pageable the page to read and its order
+	 * @return the page of pet ids
+	 */
+	@Query("SELECT p.id FROM Pet p WHERE p.owner.id = :ownerId")
+	Page<Integer> findIdsByOwnerId(@Param("ownerId") Integer ownerId, Pageable pageable);
+
+	/**
+	 * Retrieve the given pets with their types. Their visits are left unloaded; pages
+	 * showing them read only the latest ones through {@link VisitRepository}.
+	 * @param ids the ids of the pets
+	 * @param sort the order of the pets
+	 * @return the pets found
+	 */
+	@EntityGraph(attributePaths = "type")
+	List<Pet> findByIdIn(Collection<Integer> ids, Sort sort);
+
+	/**
+	 * Retrieve pets with the given name, ignoring case, together with their owners and
+	 * types, ordered by id. A probe of the index on the lower-cased name.
+	 * @param name the name to look for
+	 * @param limit the maximum number of pets to return
+	 * @return the pets found
+	 */
+	@Query("SELECT p FROM Pet p JOIN FETCH p.owner JOIN FETCH p.type WHERE p.nameLower = LOWER(:name) ORDER BY p.id")
+	List<Pet> findByNameIgnoringCase(@Param("name") String name, Limit limit);
+
+	/**
+	 * Retrieve the pets of the owners with the given last name, ignoring case, together
+	 * with their owners and types, ordered by owner and pet id. A probe of the index on
+	 * the owners' lower-cased last name, then of the pets' owner index per owner found.
+	 * @param lastName the owners' last name
+	 * @return the pets found
+	 */
+	@Query("SELECT p FROM Pet p JOIN FETCH p.owner o JOIN FETCH p.type WHERE o.lastNameLower = LOWER(:lastName) "
+			+ "ORDER BY o.id, p.id")
+	List<Pet> findByOwnerLastNameIgnoringCase(@Param("lastName") String lastName);
+
+}
@@ -15,9 +15,14 @@
  */
 package org.springframework.samples.petclinic.owner;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.samples.petclinic.model.NamedEntity;
+import org.springframework.samples.petclinic.referencedata.ReferenceDataChangeListener;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Table;
 
 /**
@@ -25,6 +30,15 @@ import jakarta.persistence.Table;
  */
 @Entity
 @Table(name = "types")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "pet-type")
+@EntityListeners(ReferenceDataChangeListener.class)
 public class PetType extends NamedEntity {
 
+	/**
+	 * Lower-cased name, computed by the database. Case-insensitive lookups by type name
+	 * compare against this indexed column instead of {@code LOWER(name)}.
+	 */
+	@Column(name = "name_lower", insertable = false, updatable = false)
+	private String nameLower;
+
 }
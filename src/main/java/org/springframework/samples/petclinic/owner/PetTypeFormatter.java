@@ -16,18 +16,20 @@
 package org.springframework.samples.petclinic.owner;
 
 import org.springframework.format.Formatter;
+import org.springframework.samples.petclinic.referencedata.ReferenceData;
 import org.springframework.stereotype.Component;
 
 import java.text.ParseException;
-import java.util.Collection;
 import java.util.Locale;
-import java.util.Objects;
 
 /**
  * Instructs Spring MVC on how to parse and print elements of type 'PetType'. Starting
  * from Spring 3.0, Formatters have come as an improvement in comparison to legacy
  * PropertyEditors. See the following links for more details: - The Spring ref doc:
  * https://docs.spring.io/spring-framework/docs/current/spring-framework-reference/core.html#format
+ * <p>
+ * Types are parsed by name, ignoring case, from the in-memory {@link ReferenceData}, so
+ * binding a pet form does not query the database.
  *
  * @author Mark Fisher
  * @author Juergen Hoeller
@@ -36,10 +38,10 @@ import java.util.Objects;
 @Component
 public class PetTypeFormatter implements Formatter<PetType> {
 
-	private final PetTypeRepository types;
+	private final ReferenceData referenceData;
 
-	public PetTypeFormatter(PetTypeRepository types) {
-		this.types = types;
+	public PetTypeFormatter(ReferenceData referenceData) {
+		this.referenceData = referenceData;
 	}
 
 	@Override
@@ -50,13 +52,7 @@ public class PetTypeFormatter implements Formatter<PetType> {
 
 	@Override
 	public PetType parse(String text, Locale locale) throws ParseException {
-		Collection<PetType> findPetTypes = this.types.findPetTypes();
-		for (PetType type : findPetTypes) {
-			if (Objects.equals(type.getName(), text)) {
-				return type;
-			}
-		}
-		throw new ParseException("type not found: " + text, 0);
+		return this.referenceData.petType(text).orElseThrow(() -> new ParseException("type not found: " + text, 0));
 	}
 
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.apache.commons.codec.language.DoubleMetaphone;
+
+/**
+ * Sound-alike keys for last names, computed with the Double Metaphone algorithm. Names
+ * that are spelled differently but pronounced alike, such as "Davis" and "Davies", share
+ * a key.
+ * <p>
+ * Owners store both the primary and the alternate key of their last name, and a search
+ * matches both keys of the name searched for against both, so names with an ambiguous
+ * pronunciation find each other in either direction: "Smith" (primary {@code SM0},
+ * alternate {@code XMT}) and "Schmidt" (primary {@code XMT}, alternate {@code SMT}) share
+ * only a key that is primary for one and alternate for the other.
+ */
+final class PhoneticKey {
+
+	private static final DoubleMetaphone ENCODER = new DoubleMetaphone();
+
+	private PhoneticKey() {
+	}
+
+	/**
+	 * Primary key of the given name, as stored with an owner.
+	 * @param name the name to encode, can be null
+	 * @return the key, or {@code null} if the name has nothing to encode
+	 */
+	static String of(String name) {
+		return name != null ? ENCODER.doubleMetaphone(name.trim()) : null;
+	}
+
+	/**
+	 * Alternate key of the given name, as stored with an owner.
+	 * @param name the name to encode, can be null
+	 * @return the key, the same as the primary key if the name has no alternate
+	 * pronunciation, or {@code null} if the name has nothing to encode
+	 */
+	static String alternateOf(String name) {
+		return name != null ? ENCODER.doubleMetaphone(name.trim(), true) : null;
+	}
+
+	/**
+	 * Keys an owner's stored keys are compared against when searching for the given name.
+	 * @param name the name searched for
+	 * @return the primary and, if it differs, the alternate key; empty if the name has
+	 * nothing to encode
+	 */
+	static Set<String> candidates(String name) {
+		Set<String> keys = new LinkedHashSet<>();
+		String primary = of(name);
+		if (primary != null) {
+			keys.add(primary);
+			keys.add(alternateOf(name));
+		}
+		return keys;
+	}
+
+}
@@ -19,6 +19,7 @@ import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.samples.petclinic.referencedata.ReferenceData;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -36,11 +37,11 @@ public class UpcomingVisitsController {
 
 	private final VisitRepository visitRepository;
 
-	private final PetTypeRepository petTypeRepository;
+	private final ReferenceData referenceData;
 
-	public UpcomingVisitsController(VisitRepository visitRepository, PetTypeRepository petTypeRepository) {
+	public UpcomingVisitsController(VisitRepository visitRepository, ReferenceData referenceData) {
 		this.visitRepository = visitRepository;
-		this.petTypeRepository = petTypeRepository;
+		this.referenceData = referenceData;
 	}
 
 	/**
@@ -74,7 +75,7 @@ public class UpcomingVisitsController {
 
 		// Add visits and pet types to model
 		model.addAttribute("visits", visits);
-		model.addAttribute("petTypes", this.petTypeRepository.findAll());
+		model.addAttribute("petTypes", this.referenceData.petTypes());
 
 		return "visits/upcomingVisits";
 	}
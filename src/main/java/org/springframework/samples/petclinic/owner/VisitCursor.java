@@ -0,0 +1,77 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a pet's visit history, ordered newest first by {@code (date, id)} with
+ * visits without a date last. Used for keyset pagination: the next page of older visits
+ * is read starting right after the visit the cursor points at, so loading more of a long
+ * history costs the same however far back it goes.
+ * <p>
+ * Cursors are handed to the browser as opaque URL-safe tokens.
+ *
+ * @param date date of the last visit shown, {@code null} if it has none
+ * @param id id of the last visit shown
+ */
+record VisitCursor(LocalDate date, int id) {
+
+	private static final String SEPARATOR = ":";
+
+	/**
+	 * Cursor for the visits older than the given one.
+	 * @param visit the last (oldest) visit on the current page
+	 * @return the cursor
+	 */
+	static VisitCursor after(Visit visit) {
+		return new VisitCursor(visit.getDate(), visit.getId());
+	}
+
+	/**
+	 * Encode this cursor as an opaque token that can be used as a request parameter.
+	 * @return the URL-safe token
+	 */
+	String encode() {
+		String raw = ((this.date != null) ? this.date.toString() : "") + SEPARATOR + this.id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Decode a token produced by {@link #encode()}.
+	 * @param token the token to decode
+	 * @return the decoded cursor
+	 * @throws IllegalStateException if the token is malformed
+	 */
+	static VisitCursor decode(String token) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			String[] parts = raw.split(SEPARATOR, 2);
+			if (parts.length != 2) {
+				throw new IllegalStateException("Malformed visit cursor: " + token);
+			}
+			LocalDate date = parts[0].isEmpty() ? null : LocalDate.parse(parts[0]);
+			return new VisitCursor(date, Integer.parseInt(parts[1]));
+		}
+		catch (IllegalArgumentException | DateTimeParseException ex) {
+			throw new IllegalStateException("Malformed visit cursor: " + token, ex);
+		}
+	}
+
+}
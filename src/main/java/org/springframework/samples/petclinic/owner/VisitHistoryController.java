@@ -0,0 +1,101 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Controller for the visit history of a pet, newest first, read a page at a time with a
+ * keyset cursor (see {@link VisitCursor}). The owner details page only shows the latest
+ * visits of each pet and links here to load more, so a pet's history is never loaded
+ * whole.
+ */
+@Controller
+class VisitHistoryController {
+
+	static final int PAGE_SIZE = 20;
+
+	private final PetRepository pets;
+
+	private final VisitRepository visits;
+
+	public VisitHistoryController(PetRepository pets, VisitRepository visits) {
+		this.pets = pets;
+		this.visits = visits;
+	}
+
+	/**
+	 * Show a page of a pet's visits.
+	 * @param ownerId the ID of the pet's owner
+	 * @param petId the ID of the pet
+	 * @param before optional cursor of the last visit already shown; the page starts with
+	 * the visit preceding it
+	 * @param model the Spring MVC model
+	 * @return the view name for the visit history page
+	 * @throws IllegalArgumentException if the owner has no such pet
+	 * @throws ResponseStatusException with HTTP 400 if the cursor is malformed
+	 */
+	@GetMapping("/owners/{ownerId}/pets/{petId}/visits")
+	public String showVisitHistory(@PathVariable("ownerId") int ownerId, @PathVariable("petId") int petId,
+			@RequestParam(required = false) String before, Model model) {
+		Pet pet = this.pets.findById(petId)
+			.filter(candidate -> candidate.getOwner() != null && Objects.equals(candidate.getOwner().getId(), ownerId))
+			.orElseThrow(() -> new IllegalArgumentException(
+					"Pet with id " + petId + " not found for owner with id " + ownerId + "."));
+		// one extra row tells whether there are older visits
+		Limit limit = Limit.of(PAGE_SIZE + 1);
+		List<Visit> page;
+		if (StringUtils.hasText(before)) {
+			VisitCursor cursor = decodeCursor(before);
+			page = (cursor.date() != null)
+					? this.visits.findLatestByPetIdBefore(petId, cursor.date(), cursor.id(), limit)
+					: this.visits.findUndatedByPetIdBefore(petId, cursor.id(), limit);
+		}
+		else {
+			page = this.visits.findLatestByPetId(petId, limit);
+		}
+		List<Visit> shown = page.size() > PAGE_SIZE ? page.subList(0, PAGE_SIZE) : page;
+		model.addAttribute("owner", pet.getOwner());
+		model.addAttribute("pet", pet);
+		model.addAttribute("visits", shown);
+		if (page.size() > PAGE_SIZE) {
+			model.addAttribute("nextCursor", VisitCursor.after(shown.get(PAGE_SIZE - 1)).encode());
+		}
+		return "pets/visitHistory";
+	}
+
+	private VisitCursor decodeCursor(String cursor) {
+		try {
+			return VisitCursor.decode(cursor);
+		}
+		catch (IllegalStateException ex) {
+			// not chained: the IllegalArgumentException cause would be rendered as a 404
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid page cursor");
+		}
+	}
+
+}
@@ -16,8 +16,10 @@
 package org.springframework.samples.petclinic.owner;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Param;
@@ -71,8 +73,8 @@ public interface VisitRepository extends Repository<Visit, Integer> {
 	 */
 	@Query("SELECT v FROM Visit v JOIN FETCH v.pet p JOIN FETCH p.owner o JOIN FETCH p.type t "
 			+ "WHERE v.date >= :fromDate " + "AND (:toDate IS NULL OR v.date <= :toDate) "
-			+ "AND (:petType IS NULL OR LOWER(t.name) = LOWER(:petType)) "
-			+ "AND (:ownerLastName IS NULL OR LOWER(o.lastName) LIKE LOWER(CONCAT('%', :ownerLastName, '%'))) "
+			+ "AND (:petType IS NULL OR t.nameLower = LOWER(:petType)) "
+			+ "AND (:ownerLastName IS NULL OR o.lastNameLower LIKE CONCAT('%', LOWER(:ownerLastName), '%')) "
 			+ "ORDER BY v.date ASC")
 	List<Visit> findUpcomingVisitsWithFilters(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate,
 			@Param("petType") String petType, @Param("ownerLastName") String ownerLastName);
@@ -88,4 +90,63 @@ public interface VisitRepository extends Repository<Visit, Integer> {
 	@Query("SELECT v FROM Visit v JOIN FETCH v.pet p JOIN FETCH p.owner JOIN FETCH p.type WHERE v.status = :status ORDER BY v.date ASC")
 	List<Visit> findByStatusOrderByDateAsc(@Param("status") VisitStatus status);
 
+	/**
+	 * Retrieve the most recent {@link Visit}s of a pet, newest first, visits without a
+	 * date last. A range read of the index on the pet, the date and the id, stopping
+	 * after {@code limit} rows.
+	 * @param petId the pet's id
+	 * @param limit the maximum number of visits to read
+	 * @return the latest visits of the pet
+	 */
+	@Query("SELECT v FROM Visit v WHERE v.pet.id = :petId ORDER BY v.date DESC NULLS LAST, v.id DESC")
+	List<Visit> findLatestByPetId(@Param("petId") Integer petId, Limit limit);
+
+	/**
+	 * Keyset variant of {@link #findLatestByPetId} for loading more of a pet's history:
+	 * returns the visits that come strictly <i>after</i> the given key in newest-first
+	 * {@code (date, id)} order, that is the older ones followed by those without a date.
+	 * @param petId the pet's id
+	 * @param beforeDate date of the last visit already shown
+	 * @param beforeId id of the last visit already shown
+	 * @param limit the maximum number of visits to read
+	 * @return the next older visits of the pet
+	 * @see #findUndatedByPetIdBefore
+	 */
+	@Query("SELECT v FROM Visit v WHERE v.pet.id = :petId "
+			+ "AND (v.date < :beforeDate OR (v.date = :beforeDate AND v.id < :beforeId) OR v.date IS NULL) "
+			+ "ORDER BY v.date DESC NULLS LAST, v.id DESC")
+	List<Visit> findLatestByPetIdBefore(@Param("petId") Integer petId, @Param("beforeDate") LocalDate beforeDate,
+			@Param("beforeId") Integer beforeId, Limit limit);
+
+	/**
+	 * Keyset variant of {@link #findLatestByPetId} for a last visit shown that has no
+	 * date: returns the visits without a date that come after it, by descending id.
+	 * @param petId the pet's id
+	 * @param beforeId id of the last visit already shown
+	 * @param limit the maximum number of visits to read
+	 * @return the next visits of the pet without a date
+	 */
+	@Query("SELECT v FROM Visit v WHERE v.pet.id = :petId AND v.date IS NULL AND v.id < :beforeId ORDER BY v.id DESC")
+	List<Visit> findUndatedByPetIdBefore(@Param("petId") Integer petId, @Param("beforeId") Integer beforeId,
+			Limit limit);
+
+	/**
+	 * Count the visits of each of the given pets. Pets without visits are left out.
+	 * @param petIds the ids of the pets
+	 * @return the number of visits per pet
+	 */
+	@Query("SELECT v.pet.id AS petId, COUNT(v) AS visits FROM Visit v WHERE v.pet.id IN :petIds GROUP BY v.pet.id")
+	List<PetVisitCount> countByPetIdIn(@Param("petIds") Collection<Integer> petIds);
+
+	/**
+	 * Number of visits of a pet, as returned by {@link #countByPetIdIn(Collection)}.
+	 */
+	interface PetVisitCount {
+
+		Integer getPetId();
+
+		long getVisits();
+
+	}
+
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.referencedata;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.samples.petclinic.model.NamedEntity;
+import org.springframework.samples.petclinic.owner.PetType;
+import org.springframework.samples.petclinic.owner.PetTypeRepository;
+import org.springframework.samples.petclinic.vet.Specialty;
+import org.springframework.samples.petclinic.vet.SpecialtyRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory registry of the reference data: pet types and vet specialties. Form binding,
+ * the pet forms and the visit and vet filters read them on nearly every request, yet they
+ * hardly ever change, so they are loaded once into immutable lists and maps indexed by id
+ * and by lower-cased name, and served without a database round trip.
+ * <p>
+ * The registry is loaded on first use and dropped whenever a pet type or specialty is
+ * saved or removed (see {@link ReferenceDataChangeListener}), including by
+ * {@link org.springframework.samples.petclinic.system.DataInitializer}; the next lookup
+ * loads it again.
+ */
+@Component
+public class ReferenceData {
+
+	private final PetTypeRepository petTypes;
+
+	private final SpecialtyRepository specialties;
+
+	private volatile Snapshot snapshot;
+
+	public ReferenceData(PetTypeRepository petTypes, SpecialtyRepository specialties) {
+		this.petTypes = petTypes;
+		this.specialties = specialties;
+	}
+
+	/**
+	 * All pet types.
+	 * @return an immutable list of the pet types, ordered by name
+	 */
+	public List<PetType> petTypes() {
+		return snapshot().petTypes().all();
+	}
+
+	/**
+	 * Look a pet type up by name, ignoring case.
+	 * @param name the name of the pet type
+	 * @return the pet type, or an empty {@link Optional} if there is none by that name
+	 */
+	public Optional<PetType> petType(String name) {
+		return snapshot().petTypes().byName(name);
+	}
+
+	/**
+	 * Look a pet type up by id.
+	 * @param id the id of the pet type
+	 * @return the pet type, or an empty {@link Optional} if there is none with that id
+	 */
+	public Optional<PetType> petType(Integer id) {
+		return snapshot().petTypes().byId(id);
+	}
+
+	/**
+	 * All vet specialties.
+	 * @return an immutable list of the specialties, ordered by name
+	 */
+	public List<Specialty> specialties() {
+		return snapshot().specialties().all();
+	}
+
+	/**
+	 * Look a vet specialty up by name, ignoring case.
+	 * @param name the name of the specialty
+	 * @return the specialty, or an empty {@link Optional} if there is none by that name
+	 */
+	public Optional<Specialty> specialty(String name) {
+		return snapshot().specialties().byName(name);
+	}
+
+	/**
+	 * Drop the loaded reference data once a change to it has been committed.
+	 * @param event the change
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+		// waits for a load in progress, which may have read the data before the change
+		synchronized (this) {
+			this.snapshot = null;
+		}
+	}
+
+	private Snapshot snapshot() {
+		Snapshot current = this.snapshot;
+		if (current == null) {
+			synchronized (this) {
+				current = this.snapshot;
+				if (current == null) {
+					current = new Snapshot(Index.of(this.petTypes.findPetTypes()),
+							Index.of(this.specialties.findSpecialties()));
+					this.snapshot = current;
+				}
+			}
+		}
+		return current;
+	}
+
+	private record Snapshot(Index<PetType> petTypes, Index<Specialty> specialties) {
+
+	}
+
+	/**
+	 * Immutable list of named entities with lookups by id and by lower-cased name.
+	 */
+	private record Index<T extends NamedEntity>(List<T> all, Map<Integer, T> ids, Map<String, T> names) {
+
+		static <T extends NamedEntity> Index<T> of(List<T> entities) {
+			return new Index<>(List.copyOf(entities),
+					entities.stream()
+						.filter(entity -> entity.getId() != null)
+						.collect(Collectors.toUnmodifiableMap(T::getId, Function.identity())),
+					entities.stream()
+						.filter(entity -> entity.getName() != null)
+						.collect(Collectors.toUnmodifiableMap(entity -> key(entity.getName()), Function.identity(),
+								(first, second) -> first)));
+		}
+
+		Optional<T> byId(Integer id) {
+			return Optional.ofNullable(id != null ? this.ids.get(id) : null);
+		}
+
+		Optional<T> byName(String name) {
+			return Optional.ofNullable(name != null ? this.names.get(key(name)) : null);
+		}
+
+		private static String key(String name) {
+			return name.trim().toLowerCase(Locale.ROOT);
+		}
+
+	}
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.referencedata;
+
+import org.springframework.context.ApplicationEventPublisher;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA entity listener that turns lifecycle callbacks of reference data entities (pet
+ * types, specialties) into {@link ReferenceDataChangedEvent}s. Instantiated by Hibernate
+ * through Spring's bean container, so it can publish application events.
+ */
+public class ReferenceDataChangeListener {
+
+	private final ApplicationEventPublisher publisher;
+
+	ReferenceDataChangeListener(ApplicationEventPublisher publisher) {
+		this.publisher = publisher;
+	}
+
+	@PostPersist
+	@PostUpdate
+	@PostRemove
+	void onChange(Object entity) {
+		this.publisher.publishEvent(new ReferenceDataChangedEvent(entity.getClass()));
+	}
+
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.referencedata;
+
+/**
+ * Published whenever a pet type or specialty row is inserted, updated or deleted. The
+ * {@link ReferenceData} registry listens for it after the surrounding transaction has
+ * committed.
+ *
+ * @param type the class of the changed entity
+ */
+record ReferenceDataChangedEvent(Class<?> type) {
+
+}
@@ -16,25 +16,77 @@
 
 package org.springframework.samples.petclinic.system;
 
+import java.util.OptionalLong;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.cache.autoconfigure.JCacheManagerCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+
+import javax.cache.CacheManager;
 import javax.cache.configuration.MutableConfiguration;
 
 /**
  * Cache configuration intended for caches providing the JCache API. This configuration
  * creates the used cache for the application and enables statistics that become
  * accessible via JMX.
+ * <p>
+ * When {@code petclinic.jpa.cache.enabled} is set, the same cache manager also backs the
+ * Hibernate second-level cache: one region is created per configured
+ * {@code petclinic.jpa.cache.regions.<name>} entry, bounded in size and time-to-live, and
+ * Hibernate statistics are collected alongside the per-region JCache statistics.
  */
 @Configuration(proxyBeanMethods = false)
 @EnableCaching
+@EnableConfigurationProperties(EntityCacheProperties.class)
 class CacheConfiguration {
 
 	@Bean
-	public JCacheManagerCustomizer petclinicCacheConfigurationCustomizer() {
-		return cm -> cm.createCache("vets", cacheConfiguration());
+	public JCacheManagerCustomizer petclinicCacheConfigurationCustomizer(EntityCacheProperties entityCache) {
+		return cm -> {
+			createCacheIfAbsent(cm, "vets", cacheConfiguration());
+			if (entityCache.enabled()) {
+				entityCache.regions()
+					.forEach((name, region) -> createCacheIfAbsent(cm, name, regionConfiguration(region)));
+			}
+		};
+	}
+
+	/**
+	 * The JCache provider hands out one cache manager per class loader, which is shared
+	 * by all application contexts started in the same JVM (as in tests).
+	 */
+	private static void createCacheIfAbsent(CacheManager cacheManager, String name,
+			javax.cache.configuration.Configuration<Object, Object> configuration) {
+		if (cacheManager.getCache(name) == null) {
+			cacheManager.createCache(name, configuration);
+		}
+	}
+
+	/**
+	 * Enable the Hibernate second-level cache on top of the application's JCache
+	 * {@link CacheManager}. It is switched off in {@code application.properties}
+	 * otherwise, so that contexts without this configuration do not have Hibernate pick
+	 * up the JCache region factory on its own.
+	 */
+	@Bean
+	public HibernatePropertiesCustomizer entityCacheHibernatePropertiesCustomizer(EntityCacheProperties entityCache,
+			ObjectProvider<CacheManager> cacheManager) {
+		return properties -> {
+			if (entityCache.enabled()) {
+				properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+				properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+				properties.put(ConfigSettings.CACHE_MANAGER, cacheManager.getObject());
+				properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+			}
+		};
 	}
 
 	/**
@@ -50,4 +102,19 @@ class CacheConfiguration {
 		return new MutableConfiguration<>().setStatisticsEnabled(true);
 	}
 
+	/**
+	 * Create the configuration of a second-level cache region. Size and expiry are not
+	 * part of the JCache standard, so they are set through Caffeine's own configuration.
+	 */
+	private javax.cache.configuration.Configuration<Object, Object> regionConfiguration(
+			EntityCacheProperties.Region region) {
+		CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+		configuration.setStatisticsEnabled(true);
+		configuration.setMaximumSize(OptionalLong.of(region.maximumSize()));
+		if (region.timeToLive() != null) {
+			configuration.setExpireAfterWrite(OptionalLong.of(region.timeToLive().toNanos()));
+		}
+		return configuration;
+	}
+
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.system;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the Hibernate second-level cache for entities and collections.
+ *
+ * @param enabled whether entities and collections marked cacheable are kept in the
+ * second-level cache
+ * @param regions size and time-to-live per cache region, keyed by region name
+ */
+@ConfigurationProperties("petclinic.jpa.cache")
+record EntityCacheProperties(boolean enabled, Map<String, Region> regions) {
+
+	EntityCacheProperties {
+		regions = (regions != null) ? regions : Map.of();
+	}
+
+	/**
+	 * Settings of one cache region.
+	 *
+	 * @param maximumSize maximum number of entries kept in the region
+	 * @param timeToLive how long an entry is kept after it was written
+	 */
+	record Region(long maximumSize, Duration timeToLive) {
+	}
+
+}
@@ -15,9 +15,14 @@
  */
 package org.springframework.samples.petclinic.vet;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.samples.petclinic.model.NamedEntity;
+import org.springframework.samples.petclinic.referencedata.ReferenceDataChangeListener;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Table;
 
 /**
@@ -27,6 +32,15 @@ import jakarta.persistence.Table;
  */
 @Entity
 @Table(name = "specialties")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "specialty")
+@EntityListeners(ReferenceDataChangeListener.class)
 public class Specialty extends NamedEntity {
 
+	/**
+	 * Lower-cased name, computed by the database. Case-insensitive lookups by specialty
+	 * name compare against this indexed column instead of {@code LOWER(name)}.
+	 */
+	@Column(name = "name_lower", insertable = false, updatable = false)
+	private String nameLower;
+
 }
@@ -20,6 +20,7 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.samples.petclinic.referencedata.ReferenceData;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -37,8 +38,11 @@ class VetController {
 
 	private final VetRepository vetRepository;
 
-	public VetController(VetRepository vetRepository) {
+	private final ReferenceData referenceData;
+
+	public VetController(VetRepository vetRepository, ReferenceData referenceData) {
 		this.vetRepository = vetRepository;
+		this.referenceData = referenceData;
 	}
 
 	@GetMapping("/vets.html")
@@ -68,6 +72,10 @@ class VetController {
 		int pageSize = 5;
 		Pageable pageable = PageRequest.of(page - 1, pageSize);
 		if (specialty != null && !specialty.isEmpty()) {
+			// no vet can have a specialty that does not exist
+			if (this.referenceData.specialty(specialty).isEmpty()) {
+				return Page.empty(pageable);
+			}
 			return vetRepository.findBySpecialtiesNameIgnoreCase(specialty, pageable);
 		}
 		return vetRepository.findAll(pageable);
@@ -65,7 +65,7 @@ public interface VetRepository extends Repository<Vet, Integer> {
 	 * @throws DataAccessException if there is a problem retrieving the vets
 	 */
 	@Transactional(readOnly = true)
-	@Query("SELECT DISTINCT v FROM Vet v JOIN v.specialties s WHERE LOWER(s.name) = LOWER(:specialtyName)")
+	@Query("SELECT DISTINCT v FROM Vet v JOIN v.specialties s WHERE s.nameLower = LOWER(:specialtyName)")
 	Page<Vet> findBySpecialtiesNameIgnoreCase(@Param("specialtyName") String specialtyName, Pageable pageable)
 			throws DataAccessException;
 
@@ -5,20 +5,31 @@ DROP TABLE visits IF EXISTS;
 DROP TABLE pets IF EXISTS;
 DROP TABLE types IF EXISTS;
 DROP TABLE owners IF EXISTS;
+DROP TABLE owner_tombstones IF EXISTS;
+DROP SEQUENCE IF EXISTS vets_seq;
+DROP SEQUENCE IF EXISTS specialties_seq;
+DROP SEQUENCE IF EXISTS types_seq;
+DROP SEQUENCE IF EXISTS owners_seq;
+DROP SEQUENCE IF EXISTS pets_seq;
+DROP SEQUENCE IF EXISTS visits_seq;
 
 
+CREATE SEQUENCE vets_seq START WITH 1 INCREMENT BY 50;
 CREATE TABLE vets (
-  id         INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+  id         INTEGER DEFAULT NEXT VALUE FOR vets_seq PRIMARY KEY,
   first_name VARCHAR(30),
   last_name  VARCHAR(30)
 );
 CREATE INDEX vets_last_name ON vets (last_name);
 
+CREATE SEQUENCE specialties_seq START WITH 1 INCREMENT BY 50;
 CREATE TABLE specialties (
-  id   INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
-  name VARCHAR(80)
+  id   INTEGER DEFAULT NEXT VALUE FOR specialties_seq PRIMARY KEY,
+  name VARCHAR(80),
+  name_lower VARCHAR(80) GENERATED ALWAYS AS (LOWER(name))
 );
 CREATE INDEX specialties_name ON specialties (name);
+CREATE INDEX specialties_name_lower ON specialties (name_lower);
 
 CREATE TABLE vet_specialties (
   vet_id       INTEGER NOT NULL,
@@ -27,36 +38,62 @@ CREATE TABLE vet_specialties (
 ALTER TABLE vet_specialties ADD CONSTRAINT fk_vet_specialties_vets FOREIGN KEY (vet_id) REFERENCES vets (id);
 ALTER TABLE vet_specialties ADD CONSTRAINT fk_vet_specialties_specialties FOREIGN KEY (specialty_id) REFERENCES specialties (id);
 
+CREATE SEQUENCE types_seq START WITH 1 INCREMENT BY 50;
 CREATE TABLE types (
-  id   INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
-  name VARCHAR(80)
+  id   INTEGER DEFAULT NEXT VALUE FOR types_seq PRIMARY KEY,
+  name VARCHAR(80),
+  name_lower VARCHAR(80) GENERATED ALWAYS AS (LOWER(name))
 );
 CREATE INDEX types_name ON types (name);
+CREATE INDEX types_name_lower ON types (name_lower);
 
+CREATE SEQUENCE owners_seq START WITH 1 INCREMENT BY 50;
 CREATE TABLE owners (
-  id         INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+  id         INTEGER DEFAULT NEXT VALUE FOR owners_seq PRIMARY KEY,
   first_name VARCHAR(30),
   last_name  VARCHAR_IGNORECASE(30),
   address    VARCHAR(255),
   city       VARCHAR(80),
-  telephone  VARCHAR(20)
+  telephone  VARCHAR(20),
+  version    INTEGER DEFAULT 0 NOT NULL,
+  last_name_phonetic VARCHAR(10),
+  last_name_phonetic_alt VARCHAR(10),
+  identity_fingerprint CHAR(64),
+  created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL,
+  updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL,
+  last_name_lower VARCHAR(30) GENERATED ALWAYS AS (LOWER(last_name)),
+  city_lower      VARCHAR(80) GENERATED ALWAYS AS (LOWER(city))
 );
 CREATE INDEX owners_last_name ON owners (last_name);
-CREATE INDEX idx_owner_duplicate_check ON owners (first_name, last_name, telephone);
+CREATE INDEX owners_last_name_lower ON owners (last_name_lower);
+CREATE INDEX owners_city_lower ON owners (city_lower);
+CREATE INDEX owners_last_name_phonetic ON owners (last_name_phonetic);
+CREATE INDEX owners_last_name_phonetic_alt ON owners (last_name_phonetic_alt);
+CREATE INDEX owners_last_name_lower_id ON owners (last_name_lower, id);
+CREATE UNIQUE INDEX owners_identity_fingerprint ON owners (identity_fingerprint);
+CREATE INDEX owners_telephone ON owners (telephone);
+CREATE INDEX owners_updated_at ON owners (updated_at);
 
+CREATE SEQUENCE pets_seq START WITH 1 INCREMENT BY 50;
 CREATE TABLE pets (
-  id         INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+  id         INTEGER DEFAULT NEXT VALUE FOR pets_seq PRIMARY KEY,
   name       VARCHAR(30),
   birth_date DATE,
   type_id    INTEGER NOT NULL,
-  owner_id   INTEGER
+  owner_id   INTEGER,
+  created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL,
+  updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL,
+  name_lower VARCHAR(30) GENERATED ALWAYS AS (LOWER(name))
 );
 ALTER TABLE pets ADD CONSTRAINT fk_pets_owners FOREIGN KEY (owner_id) REFERENCES owners (id);
 ALTER TABLE pets ADD CONSTRAINT fk_pets_types FOREIGN KEY (type_id) REFERENCES types (id);
-CREATE INDEX pets_name ON pets (name);
+CREATE INDEX pets_name_lower ON pets (name_lower);
+CREATE INDEX pets_updated_at ON pets (updated_at);
+CREATE INDEX pets_owner_id_name_lower ON pets (owner_id, name_lower);
 
+CREATE SEQUENCE visits_seq START WITH 1 INCREMENT BY 50;
 CREATE TABLE visits (
-  id               INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+  id               INTEGER DEFAULT NEXT VALUE FOR visits_seq PRIMARY KEY,
   pet_id           INTEGER,
   visit_date       DATE,
   description      VARCHAR(255),
@@ -67,6 +104,15 @@ CREATE TABLE visits (
   version          INTEGER
 );
 ALTER TABLE visits ADD CONSTRAINT fk_visits_pets FOREIGN KEY (pet_id) REFERENCES pets (id);
-CREATE INDEX visits_pet_id ON visits (pet_id);
+CREATE INDEX visits_pet_id_visit_date ON visits (pet_id, visit_date, id);
 CREATE INDEX visits_status ON visits (status);
 CREATE INDEX visits_visit_date ON visits (visit_date);
+
+-- Owners removed by merging them into another owner, for delta exports
+CREATE TABLE owner_tombstones (
+  owner_id       INTEGER PRIMARY KEY,
+  merged_into_id INTEGER NOT NULL,
+  last_name      VARCHAR_IGNORECASE(30),
+  removed_at     TIMESTAMP WITH TIME ZONE NOT NULL
+);
+CREATE INDEX owner_tombstones_removed_at ON owner_tombstones (removed_at);
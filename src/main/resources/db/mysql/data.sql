@@ -5,9 +5,9 @@ INSERT IGNORE INTO vets VALUES (4, 'Rafael', 'Ortega');
 INSERT IGNORE INTO vets VALUES (5, 'Henry', 'Stevens');
 INSERT IGNORE INTO vets VALUES (6, 'Sharon', 'Jenkins');
 
-INSERT IGNORE INTO specialties VALUES (1, 'radiology');
-INSERT IGNORE INTO specialties VALUES (2, 'surgery');
-INSERT IGNORE INTO specialties VALUES (3, 'dentistry');
+INSERT IGNORE INTO specialties (id, name) VALUES (1, 'radiology');
+INSERT IGNORE INTO specialties (id, name) VALUES (2, 'surgery');
+INSERT IGNORE INTO specialties (id, name) VALUES (3, 'dentistry');
 
 INSERT IGNORE INTO vet_specialties VALUES (2, 1);
 INSERT IGNORE INTO vet_specialties VALUES (3, 2);
@@ -15,37 +15,37 @@ INSERT IGNORE INTO vet_specialties VALUES (3, 3);
 INSERT IGNORE INTO vet_specialties VALUES (4, 2);
 INSERT IGNORE INTO vet_specialties VALUES (5, 1);
 
-INSERT IGNORE INTO types VALUES (1, 'cat');
-INSERT IGNORE INTO types VALUES (2, 'dog');
-INSERT IGNORE INTO types VALUES (3, 'lizard');
-INSERT IGNORE INTO types VALUES (4, 'snake');
-INSERT IGNORE INTO types VALUES (5, 'bird');
-INSERT IGNORE INTO types VALUES (6, 'hamster');
-
-INSERT IGNORE INTO owners VALUES (1, 'George', 'Franklin', '110 W. Liberty St.', 'Madison', '6085551023');
-INSERT IGNORE INTO owners VALUES (2, 'Betty', 'Davis', '638 Cardinal Ave.', 'Sun Prairie', '6085551749');
-INSERT IGNORE INTO owners VALUES (3, 'Eduardo', 'Rodriquez', '2693 Commerce St.', 'McFarland', '6085558763');
-INSERT IGNORE INTO owners VALUES (4, 'Harold', 'Davis', '563 Friendly St.', 'Windsor', '6085553198');
-INSERT IGNORE INTO owners VALUES (5, 'Peter', 'McTavish', '2387 S. Fair Way', 'Madison', '6085552765');
-INSERT IGNORE INTO owners VALUES (6, 'Jean', 'Coleman', '105 N. Lake St.', 'Monona', '6085552654');
-INSERT IGNORE INTO owners VALUES (7, 'Jeff', 'Black', '1450 Oak Blvd.', 'Monona', '6085555387');
-INSERT IGNORE INTO owners VALUES (8, 'Maria', 'Escobito', '345 Maple St.', 'Madison', '6085557683');
-INSERT IGNORE INTO owners VALUES (9, 'David', 'Schroeder', '2749 Blackhawk Trail', 'Madison', '6085559435');
-INSERT IGNORE INTO owners VALUES (10, 'Carlos', 'Estaban', '2335 Independence La.', 'Waunakee', '6085555487');
-
-INSERT IGNORE INTO pets VALUES (1, 'Leo', '2000-09-07', 1, 1);
-INSERT IGNORE INTO pets VALUES (2, 'Basil', '2002-08-06', 6, 2);
-INSERT IGNORE INTO pets VALUES (3, 'Rosy', '2001-04-17', 2, 3);
-INSERT IGNORE INTO pets VALUES (4, 'Jewel', '2000-03-07', 2, 3);
-INSERT IGNORE INTO pets VALUES (5, 'Iggy', '2000-11-30', 3, 4);
-INSERT IGNORE INTO pets VALUES (6, 'George', '2000-01-20', 4, 5);
-INSERT IGNORE INTO pets VALUES (7, 'Samantha', '1995-09-04', 1, 6);
-INSERT IGNORE INTO pets VALUES (8, 'Max', '1995-09-04', 1, 6);
-INSERT IGNORE INTO pets VALUES (9, 'Lucky', '1999-08-06', 5, 7);
-INSERT IGNORE INTO pets VALUES (10, 'Mulligan', '1997-02-24', 2, 8);
-INSERT IGNORE INTO pets VALUES (11, 'Freddy', '2000-03-09', 5, 9);
-INSERT IGNORE INTO pets VALUES (12, 'Lucky', '2000-06-24', 2, 10);
-INSERT IGNORE INTO pets VALUES (13, 'Sly', '2002-06-08', 1, 10);
+INSERT IGNORE INTO types (id, name) VALUES (1, 'cat');
+INSERT IGNORE INTO types (id, name) VALUES (2, 'dog');
+INSERT IGNORE INTO types (id, name) VALUES (3, 'lizard');
+INSERT IGNORE INTO types (id, name) VALUES (4, 'snake');
+INSERT IGNORE INTO types (id, name) VALUES (5, 'bird');
+INSERT IGNORE INTO types (id, name) VALUES (6, 'hamster');
+
+INSERT IGNORE INTO owners (id, first_name, last_name, address, city, telephone, last_name_phonetic, last_name_phonetic_alt, identity_fingerprint) VALUES (1, 'George', 'Franklin', '110 W. Liberty St.', 'Madison', '6085551023', 'FRNK', 'FRNK', '2704a0228e41a380b0363e9ad2fdb1b0a23481973d56d00de0171e9210da1fc7');
+INSERT IGNORE INTO owners (id, first_name, last_name, address, city, telephone, last_name_phonetic, last_name_phonetic_alt, identity_fingerprint) VALUES (2, 'Betty', 'Davis', '638 Cardinal Ave.', 'Sun Prairie', '6085551749', 'TFS', 'TFS', '2e4c332cd2cb4f33e4622c69fe9e0f6e133cf118e744e6cda125a19a68246dc8');
+INSERT IGNORE INTO owners (id, first_name, last_name, address, city, telephone, last_name_phonetic, last_name_phonetic_alt, identity_fingerprint) VALUES (3, 'Eduardo', 'Rodriquez', '2693 Commerce St.', 'McFarland', '6085558763', 'RTRK', 'RTRK', '81b6becb114eba81ca02c705cedc1a7ed8eb9eacbf326db908109dd939933922');
+INSERT IGNORE INTO owners (id, first_name, last_name, address, city, telephone, last_name_phonetic, last_name_phonetic_alt, identity_fingerprint) VALUES (4, 'Harold', 'Davis', '563 Friendly St.', 'Windsor', '6085553198', 'TFS', 'TFS', 'e244f7c7f8aeb414d338d2571b059b5f80af154cc7950066aa0720ad528916cc');
+INSERT IGNORE INTO owners (id, first_name, last_name, address, city, telephone, last_name_phonetic, last_name_phonetic_alt, identity_fingerprint) VALUES (5, 'Peter', 'McTavish', '2387 S. Fair Way', 'Madison', '6085552765', 'MKTF', 'MKTF', '6f1ca7956aeebf2779b16b51f0678d4016be3430f1428cc99ad7f335ff5ef999');
+INSERT IGNORE INTO owners (id, first_name, last_name, address, city, telephone, last_name_phonetic, last_name_phonetic_alt, identity_fingerprint) VALUES (6, 'Jean', 'Coleman', '105 N. Lake St.', 'Monona', '6085552654', 'KLMN', 'KLMN', 'ea748b178c94c37cb0564723c2bfb6c6b1bc24cf32c16e853732c73c01073b43');
+INSERT IGNORE INTO owners (id, first_name, last_name, address, city, telephone, last_name_phonetic, last_name_phonetic_alt, identity_fingerprint) VALUES (7, 'Jeff', 'Black', '1450 Oak Blvd.', 'Monona', '6085555387', 'PLK', 'PLK', 'fa2db4290b5a903cde76192b324f6a8af7ffd35e17a063ea4266fdb9941d2224');
+INSERT IGNORE INTO owners (id, first_name, last_name, address, city, telephone, last_name_phonetic, last_name_phonetic_alt, identity_fingerprint) VALUES (8, 'Maria', 'Escobito', '345 Maple St.', 'Madison', '6085557683', 'ASKP', 'ASKP', 'b384eb4bb57f4bc95bcb3271bf9884204f28001ae02b34e57c365d9bbca472b8');
+INSERT IGNORE INTO owners (id, first_name, last_name, address, city, telephone, last_name_phonetic, last_name_phonetic_alt, identity_fingerprint) VALUES (9, 'David', 'Schroeder', '2749 Blackhawk Trail', 'Madison', '6085559435', 'XRTR', 'SRTR', 'e226f487f8da152d7b6e4d996bc198f790d78edc2fc96ca1d4361b7cb592a8fa');
+INSERT IGNORE INTO owners (id, first_name, last_name, address, city, telephone, last_name_phonetic, last_name_phonetic_alt, identity_fingerprint) VALUES (10, 'Carlos', 'Estaban', '2335 Independence La.', 'Waunakee', '6085555487', 'ASTP', 'ASTP', '3627ef49a3cc52a28ae56f3dfe9d0ba2c4ec34782c7a9a0e9490e951d5c7fcf1');
+
+INSERT IGNORE INTO pets (id, name, birth_date, type_id, owner_id) VALUES (1, 'Leo', '2000-09-07', 1, 1);
+INSERT IGNORE INTO pets (id, name, birth_date, type_id, owner_id) VALUES (2, 'Basil', '2002-08-06', 6, 2);
+INSERT IGNORE INTO pets (id, name, birth_date, type_id, owner_id) VALUES (3, 'Rosy', '2001-04-17', 2, 3);
+INSERT IGNORE INTO pets (id, name, birth_date, type_id, owner_id) VALUES (4, 'Jewel', '2000-03-07', 2, 3);
+INSERT IGNORE INTO pets (id, name, birth_date, type_id, owner_id) VALUES (5, 'Iggy', '2000-11-30', 3, 4);
+INSERT IGNORE INTO pets (id, name, birth_date, type_id, owner_id) VALUES (6, 'George', '2000-01-20', 4, 5);
+INSERT IGNORE INTO pets (id, name, birth_date, type_id, owner_id) VALUES (7, 'Samantha', '1995-09-04', 1, 6);
+INSERT IGNORE INTO pets (id, name, birth_date, type_id, owner_id) VALUES (8, 'Max', '1995-09-04', 1, 6);
+INSERT IGNORE INTO pets (id, name, birth_date, type_id, owner_id) VALUES (9, 'Lucky', '1999-08-06', 5, 7);
+INSERT IGNORE INTO pets (id, name, birth_date, type_id, owner_id) VALUES (10, 'Mulligan', '1997-02-24', 2, 8);
+INSERT IGNORE INTO pets (id, name, birth_date, type_id, owner_id) VALUES (11, 'Freddy', '2000-03-09', 5, 9);
+INSERT IGNORE INTO pets (id, name, birth_date, type_id, owner_id) VALUES (12, 'Lucky', '2000-06-24', 2, 10);
+INSERT IGNORE INTO pets (id, name, birth_date, type_id, owner_id) VALUES (13, 'Sly', '2002-06-08', 1, 10);
 
 INSERT IGNORE INTO visits VALUES (1, 7, '2010-03-04', 'rabies shot', NULL, 'COMPLETED', 'VACCINATION', NULL, 0);
 INSERT IGNORE INTO visits VALUES (2, 8, '2011-03-04', 'rabies shot', NULL, 'COMPLETED', 'VACCINATION', NULL, 0);
@@ -58,3 +58,17 @@ INSERT IGNORE INTO visits VALUES (6, 2, '2026-03-20', 'vaccination booster', NUL
 INSERT IGNORE INTO visits VALUES (7, 3, '2026-03-25', 'dental cleaning', NULL, 'PENDING', 'DENTAL', 'Routine dental cleaning', 0);
 INSERT IGNORE INTO visits VALUES (8, 4, '2026-04-01', 'follow-up exam', NULL, 'PENDING', 'FOLLOW_UP', 'Post-surgery follow-up', 0);
 INSERT IGNORE INTO visits VALUES (9, 5, '2026-04-10', 'consultation appointment', NULL, 'PENDING', 'CONSULTATION', 'General health consultation', 0);
+
+-- Start the id counters after the sample rows, keeping any that are already further
+INSERT INTO vets_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT * FROM vets_seq);
+UPDATE vets_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 1 FROM vets));
+INSERT INTO specialties_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT * FROM specialties_seq);
+UPDATE specialties_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 1 FROM specialties));
+INSERT INTO types_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT * FROM types_seq);
+UPDATE types_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 1 FROM types));
+INSERT INTO owners_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT * FROM owners_seq);
+UPDATE owners_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 1 FROM owners));
+INSERT INTO pets_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT * FROM pets_seq);
+UPDATE pets_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 1 FROM pets));
+INSERT INTO visits_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT * FROM visits_seq);
+UPDATE visits_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 1 FROM visits));
@@ -8,7 +8,9 @@ CREATE TABLE IF NOT EXISTS vets (
 CREATE TABLE IF NOT EXISTS specialties (
   id INT(4) UNSIGNED NOT NULL AUTO_INCREMENT PRIMARY KEY,
   name VARCHAR(80),
-  INDEX(name)
+  name_lower VARCHAR(80) GENERATED ALWAYS AS (LOWER(name)) STORED,
+  INDEX(name),
+  INDEX(name_lower)
 ) engine=InnoDB;
 
 CREATE TABLE IF NOT EXISTS vet_specialties (
@@ -22,7 +24,9 @@ CREATE TABLE IF NOT EXISTS vet_specialties (
 CREATE TABLE IF NOT EXISTS types (
   id INT(4) UNSIGNED NOT NULL AUTO_INCREMENT PRIMARY KEY,
   name VARCHAR(80),
-  INDEX(name)
+  name_lower VARCHAR(80) GENERATED ALWAYS AS (LOWER(name)) STORED,
+  INDEX(name),
+  INDEX(name_lower)
 ) engine=InnoDB;
 
 CREATE TABLE IF NOT EXISTS owners (
@@ -32,8 +36,22 @@ CREATE TABLE IF NOT EXISTS owners (
   address VARCHAR(255),
   city VARCHAR(80),
   telephone VARCHAR(20),
+  version INT NOT NULL DEFAULT 0,
+  last_name_phonetic VARCHAR(10),
+  last_name_phonetic_alt VARCHAR(10),
+  identity_fingerprint CHAR(64),
+  created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+  updated_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+  last_name_lower VARCHAR(30) GENERATED ALWAYS AS (LOWER(last_name)) STORED,
+  city_lower VARCHAR(80) GENERATED ALWAYS AS (LOWER(city)) STORED,
   INDEX(last_name),
-  INDEX idx_owner_duplicate_check (first_name, last_name, telephone)
+  INDEX last_name_lower_id (last_name_lower, id),
+  INDEX(city_lower),
+  INDEX(last_name_phonetic),
+  INDEX(last_name_phonetic_alt),
+  UNIQUE INDEX owners_identity_fingerprint (identity_fingerprint),
+  INDEX(telephone),
+  INDEX(updated_at)
 ) engine=InnoDB;
 
 CREATE TABLE IF NOT EXISTS pets (
@@ -42,7 +60,12 @@ CREATE TABLE IF NOT EXISTS pets (
   birth_date DATE,
   type_id INT(4) UNSIGNED NOT NULL,
   owner_id INT(4) UNSIGNED,
-  INDEX(name),
+  created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+  updated_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+  name_lower VARCHAR(30) GENERATED ALWAYS AS (LOWER(name)) STORED,
+  INDEX(name_lower),
+  INDEX(updated_at),
+  INDEX pets_owner_id_name_lower (owner_id, name_lower),
   FOREIGN KEY (owner_id) REFERENCES owners(id),
   FOREIGN KEY (type_id) REFERENCES types(id)
 ) engine=InnoDB;
@@ -57,7 +80,176 @@ CREATE TABLE IF NOT EXISTS visits (
   visit_type VARCHAR(20),
   request_notes VARCHAR(500),
   version INT,
+  INDEX visits_pet_id_visit_date (pet_id, visit_date, id),
   FOREIGN KEY (pet_id) REFERENCES pets(id),
   INDEX(status),
   INDEX(visit_date)
 ) engine=InnoDB;
+
+-- Owners removed by merging them into another owner, for delta exports
+CREATE TABLE IF NOT EXISTS owner_tombstones (
+  owner_id INT(4) UNSIGNED NOT NULL PRIMARY KEY,
+  merged_into_id INT(4) UNSIGNED NOT NULL,
+  last_name VARCHAR(30),
+  removed_at TIMESTAMP(6) NOT NULL,
+  INDEX(removed_at)
+) engine=InnoDB;
+
+-- Databases created before the columns and indexes above were added get them here. MySQL
+-- has no ADD COLUMN IF NOT EXISTS, so each one is checked in the information schema first.
+SET @ddl = IF(EXISTS (SELECT * FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = 'specialties' AND column_name = 'name_lower'), 'SELECT 1', 'ALTER TABLE specialties ADD COLUMN name_lower VARCHAR(80) GENERATED ALWAYS AS (LOWER(name)) STORED');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+SET @ddl = IF(EXISTS (SELECT * FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'specialties' AND index_name = 'name_lower'), 'SELECT 1', 'CREATE INDEX name_lower ON specialties (name_lower)');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+SET @ddl = IF(EXISTS (SELECT * FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = 'types' AND column_name = 'name_lower'), 'SELECT 1', 'ALTER TABLE types ADD COLUMN name_lower VARCHAR(80) GENERATED ALWAYS AS (LOWER(name)) STORED');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+SET @ddl = IF(EXISTS (SELECT * FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'types' AND index_name = 'name_lower'), 'SELECT 1', 'CREATE INDEX name_lower ON types (name_lower)');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+SET @ddl = IF(EXISTS (SELECT * FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = 'owners' AND column_name = 'version'), 'SELECT 1', 'ALTER TABLE owners ADD COLUMN version INT NOT NULL DEFAULT 0');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+SET @ddl = IF(EXISTS (SELECT * FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = 'owners' AND column_name = 'last_name_phonetic'), 'SELECT 1', 'ALTER TABLE owners ADD COLUMN last_name_phonetic VARCHAR(10)');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+SET @ddl = IF(EXISTS (SELECT * FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = 'owners' AND column_name = 'last_name_phonetic_alt'), 'SELECT 1', 'ALTER TABLE owners ADD COLUMN last_name_phonetic_alt VARCHAR(10)');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+SET @ddl = IF(EXISTS (SELECT * FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = 'owners' AND column_name = 'identity_fingerprint'), 'SELECT 1', 'ALTER TABLE owners ADD COLUMN identity_fingerprint CHAR(64)');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+SET @ddl = IF(EXISTS (SELECT * FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = 'owners' AND column_name = 'created_at'), 'SELECT 1', 'ALTER TABLE owners ADD COLUMN created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+SET @ddl = IF(EXISTS (SELECT * FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = 'owners' AND column_name = 'updated_at'), 'SELECT 1', 'ALTER TABLE owners ADD COLUMN updated_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+SET @ddl = IF(EXISTS (SELECT * FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = 'owners' AND column_name = 'last_name_lower'), 'SELECT 1', 'ALTER TABLE owners ADD COLUMN last_name_lower VARCHAR(30) GENERATED ALWAYS AS (LOWER(last_name)) STORED');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+SET @ddl = IF(EXISTS (SELECT * FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = 'owners' AND column_name = 'city_lower'), 'SELECT 1', 'ALTER TABLE owners ADD COLUMN city_lower VARCHAR(80) GENERATED ALWAYS AS (LOWER(city)) STORED');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+-- Fingerprints of owners saved before the column existed, computed as OwnerFingerprint
+-- does. An owner with the identity of another owner keeps none, so the unique index can
+-- be built; the duplicate owners job finds such owners.
+UPDATE owners o
+JOIN (
+  SELECT id, fingerprint, ROW_NUMBER() OVER (PARTITION BY fingerprint ORDER BY id) AS occurrence
+  FROM (
+    SELECT id, SHA2(CONCAT(LOWER(TRIM(COALESCE(first_name, ''))), CHAR(0 USING utf8mb4),
+      LOWER(TRIM(COALESCE(last_name, ''))), CHAR(0 USING utf8mb4),
+      REGEXP_REPLACE(COALESCE(telephone, ''), '[^0-9]', '')), 256) AS fingerprint
+    FROM owners
+    WHERE identity_fingerprint IS NULL
+  ) computed
+) f ON o.id = f.id
+LEFT JOIN owners e ON e.identity_fingerprint = f.fingerprint
+SET o.identity_fingerprint = f.fingerprint
+WHERE f.occurrence = 1 AND e.id IS NULL;
+SET @ddl = IF(EXISTS (SELECT * FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'owners' AND index_name = 'last_name_lower_id'), 'SELECT 1', 'CREATE INDEX last_name_lower_id ON owners (last_name_lower, id)');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+-- Replaced by last_name_lower_id
+SET @ddl = IF(EXISTS (SELECT * FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'owners' AND index_name = 'last_name_lower'), 'DROP INDEX last_name_lower ON owners', 'SELECT 1');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+SET @ddl = IF(EXISTS (SELECT * FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'owners' AND index_name = 'city_lower'), 'SELECT 1', 'CREATE INDEX city_lower ON owners (city_lower)');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+SET @ddl = IF(EXISTS (SELECT * FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'owners' AND index_name = 'last_name_phonetic'), 'SELECT 1', 'CREATE INDEX last_name_phonetic ON owners (last_name_phonetic)');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+SET @ddl = IF(EXISTS (SELECT * FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'owners' AND index_name = 'last_name_phonetic_alt'), 'SELECT 1', 'CREATE INDEX last_name_phonetic_alt ON owners (last_name_phonetic_alt)');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+SET @ddl = IF(EXISTS (SELECT * FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'owners' AND index_name = 'owners_identity_fingerprint'), 'SELECT 1', 'CREATE UNIQUE INDEX owners_identity_fingerprint ON owners (identity_fingerprint)');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+SET @ddl = IF(EXISTS (SELECT * FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'owners' AND index_name = 'telephone'), 'SELECT 1', 'CREATE INDEX telephone ON owners (telephone)');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+SET @ddl = IF(EXISTS (SELECT * FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'owners' AND index_name = 'updated_at'), 'SELECT 1', 'CREATE INDEX updated_at ON owners (updated_at)');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+-- Replaced by owners_identity_fingerprint
+SET @ddl = IF(EXISTS (SELECT * FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'owners' AND index_name = 'idx_owner_duplicate_check'), 'DROP INDEX idx_owner_duplicate_check ON owners', 'SELECT 1');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+SET @ddl = IF(EXISTS (SELECT * FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = 'pets' AND column_name = 'created_at'), 'SELECT 1', 'ALTER TABLE pets ADD COLUMN created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+SET @ddl = IF(EXISTS (SELECT * FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = 'pets' AND column_name = 'updated_at'), 'SELECT 1', 'ALTER TABLE pets ADD COLUMN updated_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+SET @ddl = IF(EXISTS (SELECT * FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = 'pets' AND column_name = 'name_lower'), 'SELECT 1', 'ALTER TABLE pets ADD COLUMN name_lower VARCHAR(30) GENERATED ALWAYS AS (LOWER(name)) STORED');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+SET @ddl = IF(EXISTS (SELECT * FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'pets' AND index_name = 'name_lower'), 'SELECT 1', 'CREATE INDEX name_lower ON pets (name_lower)');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+SET @ddl = IF(EXISTS (SELECT * FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'pets' AND index_name = 'updated_at'), 'SELECT 1', 'CREATE INDEX updated_at ON pets (updated_at)');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+SET @ddl = IF(EXISTS (SELECT * FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'pets' AND index_name = 'pets_owner_id_name_lower'), 'SELECT 1', 'CREATE INDEX pets_owner_id_name_lower ON pets (owner_id, name_lower)');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+SET @ddl = IF(EXISTS (SELECT * FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'visits' AND index_name = 'visits_pet_id_visit_date'), 'SELECT 1', 'CREATE INDEX visits_pet_id_visit_date ON visits (pet_id, visit_date, id)');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+
+-- MySQL has no sequences, so Hibernate keeps each table's id counter in a one-row table
+CREATE TABLE IF NOT EXISTS vets_seq (
+  next_val BIGINT
+) engine=InnoDB;
+
+CREATE TABLE IF NOT EXISTS specialties_seq (
+  next_val BIGINT
+) engine=InnoDB;
+
+CREATE TABLE IF NOT EXISTS types_seq (
+  next_val BIGINT
+) engine=InnoDB;
+
+CREATE TABLE IF NOT EXISTS owners_seq (
+  next_val BIGINT
+) engine=InnoDB;
+
+CREATE TABLE IF NOT EXISTS pets_seq (
+  next_val BIGINT
+) engine=InnoDB;
+
+CREATE TABLE IF NOT EXISTS visits_seq (
+  next_val BIGINT
+) engine=InnoDB;
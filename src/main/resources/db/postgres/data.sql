@@ -1,13 +1,13 @@
-INSERT INTO vets (first_name, last_name) SELECT 'James', 'Carter' WHERE NOT EXISTS (SELECT * FROM vets WHERE id=1);
-INSERT INTO vets (first_name, last_name) SELECT 'Helen', 'Leary' WHERE NOT EXISTS (SELECT * FROM vets WHERE id=2);
-INSERT INTO vets (first_name, last_name) SELECT 'Linda', 'Douglas' WHERE NOT EXISTS (SELECT * FROM vets WHERE id=3);
-INSERT INTO vets (first_name, last_name) SELECT 'Rafael', 'Ortega' WHERE NOT EXISTS (SELECT * FROM vets WHERE id=4);
-INSERT INTO vets (first_name, last_name) SELECT 'Henry', 'Stevens' WHERE NOT EXISTS (SELECT * FROM vets WHERE id=5);
-INSERT INTO vets (first_name, last_name) SELECT 'Sharon', 'Jenkins' WHERE NOT EXISTS (SELECT * FROM vets WHERE id=6);
+INSERT INTO vets (id, first_name, last_name) SELECT 1, 'James', 'Carter' WHERE NOT EXISTS (SELECT * FROM vets WHERE id=1);
+INSERT INTO vets (id, first_name, last_name) SELECT 2, 'Helen', 'Leary' WHERE NOT EXISTS (SELECT * FROM vets WHERE id=2);
+INSERT INTO vets (id, first_name, last_name) SELECT 3, 'Linda', 'Douglas' WHERE NOT EXISTS (SELECT * FROM vets WHERE id=3);
+INSERT INTO vets (id, first_name, last_name) SELECT 4, 'Rafael', 'Ortega' WHERE NOT EXISTS (SELECT * FROM vets WHERE id=4);
+INSERT INTO vets (id, first_name, last_name) SELECT 5, 'Henry', 'Stevens' WHERE NOT EXISTS (SELECT * FROM vets WHERE id=5);
+INSERT INTO vets (id, first_name, last_name) SELECT 6, 'Sharon', 'Jenkins' WHERE NOT EXISTS (SELECT * FROM vets WHERE id=6);
 
-INSERT INTO specialties (name) SELECT 'radiology' WHERE NOT EXISTS (SELECT * FROM specialties WHERE name='radiology');
-INSERT INTO specialties (name) SELECT 'surgery' WHERE NOT EXISTS (SELECT * FROM specialties WHERE name='surgery');
-INSERT INTO specialties (name) SELECT 'dentistry' WHERE NOT EXISTS (SELECT * FROM specialties WHERE name='dentistry');
+INSERT INTO specialties (id, name) SELECT 1, 'radiology' WHERE NOT EXISTS (SELECT * FROM specialties WHERE name='radiology');
+INSERT INTO specialties (id, name) SELECT 2, 'surgery' WHERE NOT EXISTS (SELECT * FROM specialties WHERE name='surgery');
+INSERT INTO specialties (id, name) SELECT 3, 'dentistry' WHERE NOT EXISTS (SELECT * FROM specialties WHERE name='dentistry');
 
 INSERT INTO vet_specialties VALUES (2, 1) ON CONFLICT (vet_id, specialty_id) DO NOTHING;
 INSERT INTO vet_specialties VALUES (3, 2) ON CONFLICT (vet_id, specialty_id) DO NOTHING;
@@ -15,53 +15,56 @@ INSERT INTO vet_specialties VALUES (3, 3) ON CONFLICT (vet_id, specialty_id) DO
 INSERT INTO vet_specialties VALUES (4, 2) ON CONFLICT (vet_id, specialty_id) DO NOTHING;
 INSERT INTO vet_specialties VALUES (5, 1) ON CONFLICT (vet_id, specialty_id) DO NOTHING;
 
-INSERT INTO types (name) SELECT 'cat' WHERE NOT EXISTS (SELECT * FROM types WHERE name='cat');
-INSERT INTO types (name) SELECT 'dog' WHERE NOT EXISTS (SELECT * FROM types WHERE name='dog');
-INSERT INTO types (name) SELECT 'lizard' WHERE NOT EXISTS (SELECT * FROM types WHERE name='lizard');
-INSERT INTO types (name) SELECT 'snake' WHERE NOT EXISTS (SELECT * FROM types WHERE name='snake');
-INSERT INTO types (name) SELECT 'bird' WHERE NOT EXISTS (SELECT * FROM types WHERE name='bird');
-INSERT INTO types (name) SELECT 'hamster' WHERE NOT EXISTS (SELECT * FROM types WHERE name='hamster');
+INSERT INTO types (id, name) SELECT 1, 'cat' WHERE NOT EXISTS (SELECT * FROM types WHERE name='cat');
+INSERT INTO types (id, name) SELECT 2, 'dog' WHERE NOT EXISTS (SELECT * FROM types WHERE name='dog');
+INSERT INTO types (id, name) SELECT 3, 'lizard' WHERE NOT EXISTS (SELECT * FROM types WHERE name='lizard');
+INSERT INTO types (id, name) SELECT 4, 'snake' WHERE NOT EXISTS (SELECT * FROM types WHERE name='snake');
+INSERT INTO types (id, name) SELECT 5, 'bird' WHERE NOT EXISTS (SELECT * FROM types WHERE name='bird');
+INSERT INTO types (id, name) SELECT 6, 'hamster' WHERE NOT EXISTS (SELECT * FROM types WHERE name='hamster');
 
-INSERT INTO owners (first_name, last_name, address, city, telephone) SELECT 'George', 'Franklin', '110 W. Liberty St.', 'Madison', '6085551023' WHERE NOT EXISTS (SELECT * FROM owners WHERE id=1);
-INSERT INTO owners (first_name, last_name, address, city, telephone) SELECT 'Betty', 'Davis', '638 Cardinal Ave.', 'Sun Prairie', '6085551749' WHERE NOT EXISTS (SELECT * FROM owners WHERE id=2);
-INSERT INTO owners (first_name, last_name, address, city, telephone) SELECT 'Eduardo', 'Rodriquez', '2693 Commerce St.', 'McFarland', '6085558763' WHERE NOT EXISTS (SELECT * FROM owners WHERE id=3);
-INSERT INTO owners (first_name, last_name, address, city, telephone) SELECT 'Harold', 'Davis', '563 Friendly St.', 'Windsor', '6085553198' WHERE NOT EXISTS (SELECT * FROM owners WHERE id=4);
-INSERT INTO owners (first_name, last_name, address, city, telephone) SELECT 'Peter', 'McTavish', '2387 S. Fair Way', 'Madison', '6085552765' WHERE NOT EXISTS (SELECT * FROM owners WHERE id=5);
-INSERT INTO owners (first_name, last_name, address, city, telephone) SELECT 'Jean', 'Coleman', '105 N. Lake St.', 'Monona', '6085552654' WHERE NOT EXISTS (SELECT * FROM owners WHERE id=6);
-INSERT INTO owners (first_name, last_name, address, city, telephone) SELECT 'Jeff', 'Black', '1450 Oak Blvd.', 'Monona', '6085555387' WHERE NOT EXISTS (SELECT * FROM owners WHERE id=7);
-INSERT INTO owners (first_name, last_name, address, city, telephone) SELECT 'Maria', 'Escobito', '345 Maple St.', 'Madison', '6085557683' WHERE NOT EXISTS (SELECT * FROM owners WHERE id=8);
-INSERT INTO owners (first_name, last_name, address, city, telephone) SELECT 'David', 'Schroeder', '2749 Blackhawk Trail', 'Madison', '6085559435' WHERE NOT EXISTS (SELECT * FROM owners WHERE id=9);
-INSERT INTO owners (first_name, last_name, address, city, telephone) SELECT 'Carlos', 'Estaban', '2335 Independence La.', 'Waunakee', '6085555487' WHERE NOT EXISTS (SELECT * FROM owners WHERE id=10);
+INSERT INTO owners (id, first_name, last_name, address, city, telephone, last_name_phonetic, last_name_phonetic_alt, identity_fingerprint) SELECT 1, 'George', 'Franklin', '110 W. Liberty St.', 'Madison', '6085551023', 'FRNK', 'FRNK', '2704a0228e41a380b0363e9ad2fdb1b0a23481973d56d00de0171e9210da1fc7' WHERE NOT EXISTS (SELECT * FROM owners WHERE id=1);
+INSERT INTO owners (id, first_name, last_name, address, city, telephone, last_name_phonetic, last_name_phonetic_alt, identity_fingerprint) SELECT 2, 'Betty', 'Davis', '638 Cardinal Ave.', 'Sun Prairie', '6085551749', 'TFS', 'TFS', '2e4c332cd2cb4f33e4622c69fe9e0f6e133cf118e744e6cda125a19a68246dc8' WHERE NOT EXISTS (SELECT * FROM owners WHERE id=2);
+INSERT INTO owners (id, first_name, last_name, address, city, telephone, last_name_phonetic, last_name_phonetic_alt, identity_fingerprint) SELECT 3, 'Eduardo', 'Rodriquez', '2693 Commerce St.', 'McFarland', '6085558763', 'RTRK', 'RTRK', '81b6becb114eba81ca02c705cedc1a7ed8eb9eacbf326db908109dd939933922' WHERE NOT EXISTS (SELECT * FROM owners WHERE id=3);
+INSERT INTO owners (id, first_name, last_name, address, city, telephone, last_name_phonetic, last_name_phonetic_alt, identity_fingerprint) SELECT 4, 'Harold', 'Davis', '563 Friendly St.', 'Windsor', '6085553198', 'TFS', 'TFS', 'e244f7c7f8aeb414d338d2571b059b5f80af154cc7950066aa0720ad528916cc' WHERE NOT EXISTS (SELECT * FROM owners WHERE id=4);
+INSERT INTO owners (id, first_name, last_name, address, city, telephone, last_name_phonetic, last_name_phonetic_alt, identity_fingerprint) SELECT 5, 'Peter', 'McTavish', '2387 S. Fair Way', 'Madison', '6085552765', 'MKTF', 'MKTF', '6f1ca7956aeebf2779b16b51f0678d4016be3430f1428cc99ad7f335ff5ef999' WHERE NOT EXISTS (SELECT * FROM owners WHERE id=5);
+INSERT INTO owners (id, first_name, last_name, address, city, telephone, last_name_phonetic, last_name_phonetic_alt, identity_fingerprint) SELECT 6, 'Jean', 'Coleman', '105 N. Lake St.', 'Monona', '6085552654', 'KLMN', 'KLMN', 'ea748b178c94c37cb0564723c2bfb6c6b1bc24cf32c16e853732c73c01073b43' WHERE NOT EXISTS (SELECT * FROM owners WHERE id=6);
+INSERT INTO owners (id, first_name, last_name, address, city, telephone, last_name_phonetic, last_name_phonetic_alt, identity_fingerprint) SELECT 7, 'Jeff', 'Black', '1450 Oak Blvd.', 'Monona', '6085555387', 'PLK', 'PLK', 'fa2db4290b5a903cde76192b324f6a8af7ffd35e17a063ea4266fdb9941d2224' WHERE NOT EXISTS (SELECT * FROM owners WHERE id=7);
+INSERT INTO owners (id, first_name, last_name, address, city, telephone, last_name_phonetic, last_name_phonetic_alt, identity_fingerprint) SELECT 8, 'Maria', 'Escobito', '345 Maple St.', 'Madison', '6085557683', 'ASKP', 'ASKP', 'b384eb4bb57f4bc95bcb3271bf9884204f28001ae02b34e57c365d9bbca472b8' WHERE NOT EXISTS (SELECT * FROM owners WHERE id=8);
+INSERT INTO owners (id, first_name, last_name, address, city, telephone, last_name_phonetic, last_name_phonetic_alt, identity_fingerprint) SELECT 9, 'David', 'Schroeder', '2749 Blackhawk Trail', 'Madison', '6085559435', 'XRTR', 'SRTR', 'e226f487f8da152d7b6e4d996bc198f790d78edc2fc96ca1d4361b7cb592a8fa' WHERE NOT EXISTS (SELECT * FROM owners WHERE id=9);
+INSERT INTO owners (id, first_name, last_name, address, city, telephone, last_name_phonetic, last_name_phonetic_alt, identity_fingerprint) SELECT 10, 'Carlos', 'Estaban', '2335 Independence La.', 'Waunakee', '6085555487', 'ASTP', 'ASTP', '3627ef49a3cc52a28ae56f3dfe9d0ba2c4ec34782c7a9a0e9490e951d5c7fcf1' WHERE NOT EXISTS (SELECT * FROM owners WHERE id=10);
 
-INSERT INTO pets (name, birth_date, type_id, owner_id) SELECT 'Leo', '2000-09-07', 1, 1 WHERE NOT EXISTS (SELECT * FROM pets WHERE id=1);
-INSERT INTO pets (name, birth_date, type_id, owner_id) SELECT 'Basil', '2002-08-06', 6, 2 WHERE NOT EXISTS (SELECT * FROM pets WHERE id=2);
-INSERT INTO pets (name, birth_date, type_id, owner_id) SELECT 'Rosy', '2001-04-17', 2, 3 WHERE NOT EXISTS (SELECT * FROM pets WHERE id=3);
-INSERT INTO pets (name, birth_date, type_id, owner_id) SELECT 'Jewel', '2000-03-07', 2, 3 WHERE NOT EXISTS (SELECT * FROM pets WHERE id=4);
-INSERT INTO pets (name, birth_date, type_id, owner_id) SELECT 'Iggy', '2000-11-30', 3, 4 WHERE NOT EXISTS (SELECT * FROM pets WHERE id=5);
-INSERT INTO pets (name, birth_date, type_id, owner_id) SELECT 'George', '2000-01-20', 4, 5 WHERE NOT EXISTS (SELECT * FROM pets WHERE id=6);
-INSERT INTO pets (name, birth_date, type_id, owner_id) SELECT 'Samantha', '1995-09-04', 1, 6 WHERE NOT EXISTS (SELECT * FROM pets WHERE id=7);
-INSERT INTO pets (name, birth_date, type_id, owner_id) SELECT 'Max', '1995-09-04', 1, 6 WHERE NOT EXISTS (SELECT * FROM pets WHERE id=8);
-INSERT INTO pets (name, birth_date, type_id, owner_id) SELECT 'Lucky', '1999-08-06', 5, 7 WHERE NOT EXISTS (SELECT * FROM pets WHERE id=9);
-INSERT INTO pets (name, birth_date, type_id, owner_id) SELECT 'Mulligan', '1997-02-24', 2, 8 WHERE NOT EXISTS (SELECT * FROM pets WHERE id=10);
-INSERT INTO pets (name, birth_date, type_id, owner_id) SELECT 'Freddy', '2000-03-09', 5, 9 WHERE NOT EXISTS (SELECT * FROM pets WHERE id=11);
-INSERT INTO pets (name, birth_date, type_id, owner_id) SELECT 'Lucky', '2000-06-24', 2, 10 WHERE NOT EXISTS (SELECT * FROM pets WHERE id=12);
-INSERT INTO pets (name, birth_date, type_id, owner_id) SELECT 'Sly', '2002-06-08', 1, 10 WHERE NOT EXISTS (SELECT * FROM pets WHERE id=13);
+INSERT INTO pets (id, name, birth_date, type_id, owner_id) SELECT 1, 'Leo', '2000-09-07', 1, 1 WHERE NOT EXISTS (SELECT * FROM pets WHERE id=1);
+INSERT INTO pets (id, name, birth_date, type_id, owner_id) SELECT 2, 'Basil', '2002-08-06', 6, 2 WHERE NOT EXISTS (SELECT * FROM pets WHERE id=2);
+INSERT INTO pets (id, name, birth_date, type_id, owner_id) SELECT 3, 'Rosy', '2001-04-17', 2, 3 WHERE NOT EXISTS (SELECT * FROM pets WHERE id=3);
+INSERT INTO pets (id, name, birth_date, type_id, owner_id) SELECT 4, 'Jewel', '2000-03-07', 2, 3 WHERE NOT EXISTS (SELECT * FROM pets WHERE id=4);
+INSERT INTO pets (id, name, birth_date, type_id, owner_id) SELECT 5, 'Iggy', '2000-11-30', 3, 4 WHERE NOT EXISTS (SELECT * FROM pets WHERE id=5);
+INSERT INTO pets (id, name, birth_date, type_id, owner_id) SELECT 6, 'George', '2000-01-20', 4, 5 WHERE NOT EXISTS (SELECT * FROM pets WHERE id=6);
+INSERT INTO pets (id, name, birth_date, type_id, owner_id) SELECT 7, 'Samantha', '1995-09-04', 1, 6 WHERE NOT EXISTS (SELECT * FROM pets WHERE id=7);
+INSERT INTO pets (id, name, birth_date, type_id, owner_id) SELECT 8, 'Max', '1995-09-04', 1, 6 WHERE NOT EXISTS (SELECT * FROM pets WHERE id=8);
+INSERT INTO pets (id, name, birth_date, type_id, owner_id) SELECT 9, 'Lucky', '1999-08-06', 5, 7 WHERE NOT EXISTS (SELECT * FROM pets WHERE id=9);
+INSERT INTO pets (id, name, birth_date, type_id, owner_id) SELECT 10, 'Mulligan', '1997-02-24', 2, 8 WHERE NOT EXISTS (SELECT * FROM pets WHERE id=10);
+INSERT INTO pets (id, name, birth_date, type_id, owner_id) SELECT 11, 'Freddy', '2000-03-09', 5, 9 WHERE NOT EXISTS (SELECT * FROM pets WHERE id=11);
+INSERT INTO pets (id, name, birth_date, type_id, owner_id) SELECT 12, 'Lucky', '2000-06-24', 2, 10 WHERE NOT EXISTS (SELECT * FROM pets WHERE id=12);
+INSERT INTO pets (id, name, birth_date, type_id, owner_id) SELECT 13, 'Sly', '2002-06-08', 1, 10 WHERE NOT EXISTS (SELECT * FROM pets WHERE id=13);
 
-INSERT INTO visits (pet_id, visit_date, description, appointment_time, status, visit_type, request_notes, version) SELECT 7, '2010-03-04', 'rabies shot', NULL, 'COMPLETED', 'VACCINATION', NULL, 0 WHERE NOT EXISTS (SELECT * FROM visits WHERE id=1);
-INSERT INTO visits (pet_id, visit_date, description, appointment_time, status, visit_type, request_notes, version) SELECT 8, '2011-03-04', 'rabies shot', NULL, 'COMPLETED', 'VACCINATION', NULL, 0 WHERE NOT EXISTS (SELECT * FROM visits WHERE id=2);
-INSERT INTO visits (pet_id, visit_date, description, appointment_time, status, visit_type, request_notes, version) SELECT 8, '2009-06-04', 'neutered', NULL, 'COMPLETED', 'SURGERY', NULL, 0 WHERE NOT EXISTS (SELECT * FROM visits WHERE id=3);
-INSERT INTO visits (pet_id, visit_date, description, appointment_time, status, visit_type, request_notes, version) SELECT 7, '2008-09-04', 'spayed', NULL, 'COMPLETED', 'SURGERY', NULL, 0 WHERE NOT EXISTS (SELECT * FROM visits WHERE id=4);
+INSERT INTO visits (id, pet_id, visit_date, description, appointment_time, status, visit_type, request_notes, version) SELECT 1, 7, '2010-03-04', 'rabies shot', NULL, 'COMPLETED', 'VACCINATION', NULL, 0 WHERE NOT EXISTS (SELECT * FROM visits WHERE id=1);
+INSERT INTO visits (id, pet_id, visit_date, description, appointment_time, status, visit_type, request_notes, version) SELECT 2, 8, '2011-03-04', 'rabies shot', NULL, 'COMPLETED', 'VACCINATION', NULL, 0 WHERE NOT EXISTS (SELECT * FROM visits WHERE id=2);
+INSERT INTO visits (id, pet_id, visit_date, description, appointment_time, status, visit_type, request_notes, version) SELECT 3, 8, '2009-06-04', 'neutered', NULL, 'COMPLETED', 'SURGERY', NULL, 0 WHERE NOT EXISTS (SELECT * FROM visits WHERE id=3);
+INSERT INTO visits (id, pet_id, visit_date, description, appointment_time, status, visit_type, request_notes, version) SELECT 4, 7, '2008-09-04', 'spayed', NULL, 'COMPLETED', 'SURGERY', NULL, 0 WHERE NOT EXISTS (SELECT * FROM visits WHERE id=4);
 
 -- Add upcoming visits for testing the "Upcoming Visits" feature
-INSERT INTO visits (pet_id, visit_date, description, appointment_time, status, visit_type, request_notes, version) SELECT 1, '2026-03-15', 'annual checkup', NULL, 'PENDING', 'CHECKUP', 'Regular wellness exam', 0 WHERE NOT EXISTS (SELECT * FROM visits WHERE id=5);
-INSERT INTO visits (pet_id, visit_date, description, appointment_time, status, visit_type, request_notes, version) SELECT 2, '2026-03-20', 'vaccination booster', NULL, 'PENDING', 'VACCINATION', 'Rabies booster shot', 0 WHERE NOT EXISTS (SELECT * FROM visits WHERE id=6);
-INSERT INTO visits (pet_id, visit_date, description, appointment_time, status, visit_type, request_notes, version) SELECT 3, '2026-03-25', 'dental cleaning', NULL, 'PENDING', 'DENTAL', 'Routine dental cleaning', 0 WHERE NOT EXISTS (SELECT * FROM visits WHERE id=7);
-INSERT INTO visits (pet_id, visit_date, description, appointment_time, status, visit_type, request_notes, version) SELECT 4, '2026-04-01', 'follow-up exam', NULL, 'PENDING', 'FOLLOW_UP', 'Post-surgery follow-up', 0 WHERE NOT EXISTS (SELECT * FROM visits WHERE id=8);
-INSERT INTO visits (pet_id, visit_date, description, appointment_time, status, visit_type, request_notes, version) SELECT 5, '2026-04-10', 'consultation appointment', NULL, 'PENDING', 'CONSULTATION', 'General health consultation', 0 WHERE NOT EXISTS (SELECT * FROM visits WHERE id=9);
+INSERT INTO visits (id, pet_id, visit_date, description, appointment_time, status, visit_type, request_notes, version) SELECT 5, 1, '2026-03-15', 'annual checkup', NULL, 'PENDING', 'CHECKUP', 'Regular wellness exam', 0 WHERE NOT EXISTS (SELECT * FROM visits WHERE id=5);
+INSERT INTO visits (id, pet_id, visit_date, description, appointment_time, status, visit_type, request_notes, version) SELECT 6, 2, '2026-03-20', 'vaccination booster', NULL, 'PENDING', 'VACCINATION', 'Rabies booster shot', 0 WHERE NOT EXISTS (SELECT * FROM visits WHERE id=6);
+INSERT INTO visits (id, pet_id, visit_date, description, appointment_time, status, visit_type, request_notes, version) SELECT 7, 3, '2026-03-25', 'dental cleaning', NULL, 'PENDING', 'DENTAL', 'Routine dental cleaning', 0 WHERE NOT EXISTS (SELECT * FROM visits WHERE id=7);
+INSERT INTO visits (id, pet_id, visit_date, description, appointment_time, status, visit_type, request_notes, version) SELECT 8, 4, '2026-04-01', 'follow-up exam', NULL, 'PENDING', 'FOLLOW_UP', 'Post-surgery follow-up', 0 WHERE NOT EXISTS (SELECT * FROM visits WHERE id=8);
+INSERT INTO visits (id, pet_id, visit_date, description, appointment_time, status, visit_type, request_notes, version) SELECT 9, 5, '2026-04-10', 'consultation appointment', NULL, 'PENDING', 'CONSULTATION', 'General health consultation', 0 WHERE NOT EXISTS (SELECT * FROM visits WHERE id=9);
 
-SELECT setval(pg_get_serial_sequence('vets', 'id'), COALESCE((SELECT MAX(id) FROM vets), 0));
-SELECT setval(pg_get_serial_sequence('specialties', 'id'), COALESCE((SELECT MAX(id) FROM specialties), 0));
-SELECT setval(pg_get_serial_sequence('types', 'id'), COALESCE((SELECT MAX(id) FROM types), 0));
-SELECT setval(pg_get_serial_sequence('owners', 'id'), COALESCE((SELECT MAX(id) FROM owners), 0));
-SELECT setval(pg_get_serial_sequence('pets', 'id'), COALESCE((SELECT MAX(id) FROM pets), 0));
-SELECT setval(pg_get_serial_sequence('visits', 'id'), COALESCE((SELECT MAX(id) FROM visits), 0));
+-- Start the id counters after the sample rows, only ever moving them forward: other
+-- instances may still be handing out ids from blocks of 50 they reserved, which are past
+-- the largest id in the table but not past the sequence
+SELECT setval('vets_seq', m, false) FROM (SELECT COALESCE(MAX(id), 0) + 1 AS m FROM vets) x WHERE m > (SELECT CASE WHEN is_called THEN last_value + 50 ELSE last_value END FROM vets_seq);
+SELECT setval('specialties_seq', m, false) FROM (SELECT COALESCE(MAX(id), 0) + 1 AS m FROM specialties) x WHERE m > (SELECT CASE WHEN is_called THEN last_value + 50 ELSE last_value END FROM specialties_seq);
+SELECT setval('types_seq', m, false) FROM (SELECT COALESCE(MAX(id), 0) + 1 AS m FROM types) x WHERE m > (SELECT CASE WHEN is_called THEN last_value + 50 ELSE last_value END FROM types_seq);
+SELECT setval('owners_seq', m, false) FROM (SELECT COALESCE(MAX(id), 0) + 1 AS m FROM owners) x WHERE m > (SELECT CASE WHEN is_called THEN last_value + 50 ELSE last_value END FROM owners_seq);
+SELECT setval('pets_seq', m, false) FROM (SELECT COALESCE(MAX(id), 0) + 1 AS m FROM pets) x WHERE m > (SELECT CASE WHEN is_called THEN last_value + 50 ELSE last_value END FROM pets_seq);
+SELECT setval('visits_seq', m, false) FROM (SELECT COALESCE(MAX(id), 0) + 1 AS m FROM visits) x WHERE m > (SELECT CASE WHEN is_called THEN last_value + 50 ELSE last_value END FROM visits_seq);
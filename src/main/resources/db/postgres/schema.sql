@@ -1,15 +1,19 @@
 CREATE TABLE IF NOT EXISTS vets (
-  id         INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+  id         INT GENERATED BY DEFAULT AS IDENTITY (SEQUENCE NAME vets_seq INCREMENT BY 50) PRIMARY KEY,
   first_name TEXT,
   last_name  TEXT
 );
 CREATE INDEX ON vets (last_name);
 
 CREATE TABLE IF NOT EXISTS specialties (
-  id   INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
-  name TEXT
+  id   INT GENERATED BY DEFAULT AS IDENTITY (SEQUENCE NAME specialties_seq INCREMENT BY 50) PRIMARY KEY,
+  name TEXT,
+  name_lower TEXT GENERATED ALWAYS AS (lower(name)) STORED
 );
+-- Columns added since the table was first created, for databases that already have it
+ALTER TABLE specialties ADD COLUMN IF NOT EXISTS name_lower TEXT GENERATED ALWAYS AS (lower(name)) STORED;
 CREATE INDEX ON specialties (name);
+CREATE INDEX IF NOT EXISTS specialties_name_lower ON specialties (name_lower);
 
 CREATE TABLE IF NOT EXISTS vet_specialties (
   vet_id       INT NOT NULL REFERENCES vets (id),
@@ -18,34 +22,91 @@ CREATE TABLE IF NOT EXISTS vet_specialties (
 );
 
 CREATE TABLE IF NOT EXISTS types (
-  id   INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
-  name TEXT
+  id   INT GENERATED BY DEFAULT AS IDENTITY (SEQUENCE NAME types_seq INCREMENT BY 50) PRIMARY KEY,
+  name TEXT,
+  name_lower TEXT GENERATED ALWAYS AS (lower(name)) STORED
 );
+ALTER TABLE types ADD COLUMN IF NOT EXISTS name_lower TEXT GENERATED ALWAYS AS (lower(name)) STORED;
 CREATE INDEX ON types (name);
+CREATE INDEX IF NOT EXISTS types_name_lower ON types (name_lower);
 
 CREATE TABLE IF NOT EXISTS owners (
-  id         INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+  id         INT GENERATED BY DEFAULT AS IDENTITY (SEQUENCE NAME owners_seq INCREMENT BY 50) PRIMARY KEY,
   first_name TEXT,
   last_name  TEXT,
   address    TEXT,
   city       TEXT,
-  telephone  TEXT
+  telephone  TEXT,
+  version    INT NOT NULL DEFAULT 0,
+  last_name_phonetic TEXT,
+  last_name_phonetic_alt TEXT,
+  identity_fingerprint CHAR(64),
+  created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  last_name_lower TEXT GENERATED ALWAYS AS (lower(last_name)) STORED,
+  city_lower      TEXT GENERATED ALWAYS AS (lower(city)) STORED
 );
+ALTER TABLE owners ADD COLUMN IF NOT EXISTS version INT NOT NULL DEFAULT 0;
+ALTER TABLE owners ADD COLUMN IF NOT EXISTS last_name_phonetic TEXT;
+ALTER TABLE owners ADD COLUMN IF NOT EXISTS last_name_phonetic_alt TEXT;
+ALTER TABLE owners ADD COLUMN IF NOT EXISTS identity_fingerprint CHAR(64);
+ALTER TABLE owners ADD COLUMN IF NOT EXISTS created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE owners ADD COLUMN IF NOT EXISTS updated_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE owners ADD COLUMN IF NOT EXISTS last_name_lower TEXT GENERATED ALWAYS AS (lower(last_name)) STORED;
+ALTER TABLE owners ADD COLUMN IF NOT EXISTS city_lower TEXT GENERATED ALWAYS AS (lower(city)) STORED;
 CREATE INDEX ON owners (last_name);
-CREATE INDEX IF NOT EXISTS idx_owner_duplicate_check ON owners (first_name, last_name, telephone);
+-- Fingerprints of owners saved before the column existed, computed as OwnerFingerprint
+-- does. An owner with the identity of another owner keeps none, so the unique index can
+-- be built; the duplicate owners job finds such owners.
+UPDATE owners o SET identity_fingerprint = f.fingerprint
+FROM (
+  SELECT id, fingerprint, ROW_NUMBER() OVER (PARTITION BY fingerprint ORDER BY id) AS occurrence
+  FROM (
+    SELECT id, encode(sha256(
+      convert_to(lower(btrim(coalesce(first_name, ''))), 'UTF8') || '\x00'::bytea
+      || convert_to(lower(btrim(coalesce(last_name, ''))), 'UTF8') || '\x00'::bytea
+      || convert_to(regexp_replace(coalesce(telephone, ''), '\D', '', 'g'), 'UTF8')), 'hex') AS fingerprint
+    FROM owners
+    WHERE identity_fingerprint IS NULL
+  ) computed
+) f
+WHERE o.id = f.id AND f.occurrence = 1
+  AND NOT EXISTS (SELECT 1 FROM owners e WHERE e.identity_fingerprint = f.fingerprint);
+-- text_pattern_ops lets LIKE 'prefix%' use the index regardless of the collation
+CREATE INDEX IF NOT EXISTS owners_last_name_lower ON owners (last_name_lower text_pattern_ops);
+CREATE INDEX IF NOT EXISTS owners_city_lower ON owners (city_lower);
+CREATE INDEX IF NOT EXISTS owners_last_name_phonetic ON owners (last_name_phonetic);
+CREATE INDEX IF NOT EXISTS owners_last_name_phonetic_alt ON owners (last_name_phonetic_alt);
+-- Keyset pages seek and sort on (last_name_lower, id) in the collation's order
+CREATE INDEX IF NOT EXISTS owners_last_name_lower_id ON owners (last_name_lower, id);
+-- Replaced by owners_last_name_lower_id
+DROP INDEX IF EXISTS owners_last_name_id;
+CREATE UNIQUE INDEX IF NOT EXISTS owners_identity_fingerprint ON owners (identity_fingerprint);
+CREATE INDEX IF NOT EXISTS owners_telephone ON owners (telephone);
+CREATE INDEX IF NOT EXISTS owners_updated_at ON owners (updated_at);
+-- Replaced by owners_identity_fingerprint
+DROP INDEX IF EXISTS idx_owner_duplicate_check;
 
 CREATE TABLE IF NOT EXISTS pets (
-  id         INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+  id         INT GENERATED BY DEFAULT AS IDENTITY (SEQUENCE NAME pets_seq INCREMENT BY 50) PRIMARY KEY,
   name       TEXT,
   birth_date DATE,
   type_id    INT NOT NULL REFERENCES types (id),
-  owner_id   INT REFERENCES owners (id)
+  owner_id   INT REFERENCES owners (id),
+  created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  name_lower TEXT GENERATED ALWAYS AS (lower(name)) STORED
 );
-CREATE INDEX ON pets (name);
+ALTER TABLE pets ADD COLUMN IF NOT EXISTS created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE pets ADD COLUMN IF NOT EXISTS updated_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE pets ADD COLUMN IF NOT EXISTS name_lower TEXT GENERATED ALWAYS AS (lower(name)) STORED;
+CREATE INDEX IF NOT EXISTS pets_name_lower ON pets (name_lower);
 CREATE INDEX ON pets (owner_id);
+CREATE INDEX IF NOT EXISTS pets_updated_at ON pets (updated_at);
+CREATE INDEX IF NOT EXISTS pets_owner_id_name_lower ON pets (owner_id, name_lower);
 
 CREATE TABLE IF NOT EXISTS visits (
-  id               INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+  id               INT GENERATED BY DEFAULT AS IDENTITY (SEQUENCE NAME visits_seq INCREMENT BY 50) PRIMARY KEY,
   pet_id           INT REFERENCES pets (id),
   visit_date       DATE,
   description      TEXT,
@@ -55,6 +116,30 @@ CREATE TABLE IF NOT EXISTS visits (
   request_notes    VARCHAR(500),
   version          INT
 );
-CREATE INDEX ON visits (pet_id);
+-- NULLS FIRST so a backward scan returns the newest visits first and undated ones last
+CREATE INDEX IF NOT EXISTS visits_pet_id_visit_date ON visits (pet_id, visit_date NULLS FIRST, id);
 CREATE INDEX ON visits (status);
 CREATE INDEX ON visits (visit_date);
+
+-- Owners removed by merging them into another owner, for delta exports
+CREATE TABLE IF NOT EXISTS owner_tombstones (
+  owner_id       INT PRIMARY KEY,
+  merged_into_id INT NOT NULL,
+  last_name      TEXT,
+  removed_at     TIMESTAMPTZ NOT NULL
+);
+CREATE INDEX IF NOT EXISTS owner_tombstones_removed_at ON owner_tombstones (removed_at);
+
+-- Databases created before ids came from pooled sequences have <table>_id_seq stepping by 1
+ALTER SEQUENCE IF EXISTS vets_id_seq RENAME TO vets_seq;
+ALTER TABLE vets ALTER COLUMN id SET INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS specialties_id_seq RENAME TO specialties_seq;
+ALTER TABLE specialties ALTER COLUMN id SET INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS types_id_seq RENAME TO types_seq;
+ALTER TABLE types ALTER COLUMN id SET INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS owners_id_seq RENAME TO owners_seq;
+ALTER TABLE owners ALTER COLUMN id SET INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS pets_id_seq RENAME TO pets_seq;
+ALTER TABLE pets ALTER COLUMN id SET INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS visits_id_seq RENAME TO visits_seq;
+ALTER TABLE visits ALTER COLUMN id SET INCREMENT BY 50;
@@ -17,6 +17,17 @@
 package org.springframework.samples.petclinic;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -56,6 +67,96 @@ public class PetClinicIntegrationTests {
 		assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
 	}
 
+	@Test
+	void testOwnersListShowsPets() {
+		RestTemplate template = builder.rootUri("http://localhost:" + port).build();
+		ResponseEntity<String> result = template.exchange(RequestEntity.get("/owners?lastName=Davis").build(),
+				String.class);
+		assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(result.getBody()).contains("Basil").contains("Iggy").contains("Windsor (1)").contains("hamster (1)");
+	}
+
+	@Test
+	void testOwnerCallerIdLookup() {
+		RestTemplate template = builder.rootUri("http://localhost:" + port).build();
+		ResponseEntity<String> result = template
+			.exchange(RequestEntity.get("/api/owners/by-phone/608-555-1023").build(), String.class);
+		assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(result.getBody()).contains("\"lastName\":\"Franklin\"").contains("\"name\":\"Leo\"");
+	}
+
+	@Test
+	void testOwnerSearchCacheHitRatioIsExposed() {
+		RestTemplate template = builder.rootUri("http://localhost:" + port).build();
+		template.exchange(RequestEntity.get("/owners?lastName=Davis").build(), String.class);
+		template.exchange(RequestEntity.get("/owners?lastName=davis").build(), String.class);
+
+		ResponseEntity<String> result = template.exchange(
+				RequestEntity.get("/actuator/metrics/cache.gets?tag=cache:owner-search-pages&tag=result:hit").build(),
+				String.class);
+		assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(result.getBody()).doesNotContain("\"value\":0.0");
+		result = template.exchange(
+				RequestEntity.get("/actuator/metrics/cache.hit.ratio?tag=cache:owner-search-pages").build(),
+				String.class);
+		assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+	}
+
+	@Test
+	void testPetAndVisitFormsLoadTheirFetchPlans() {
+		RestTemplate template = builder.rootUri("http://localhost:" + port).build();
+		for (String path : new String[] { "/owners/1/pets/1/edit", "/owners/6/pets/7/visits/new" }) {
+			ResponseEntity<String> result = template.exchange(RequestEntity.get(path).build(), String.class);
+			assertThat(result.getStatusCode()).as(path).isEqualTo(HttpStatus.OK);
+		}
+	}
+
+	@Test
+	void testOwnersCsvExportRunsAsJob() {
+		RestTemplate template = builder.rootUri("http://localhost:" + port).build();
+		ResponseEntity<String> started = template.exchange(RequestEntity.post("/owners/exports?lastName=Davis").build(),
+				String.class);
+		assertThat(started.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+		assertThat(started.getBody()).contains("\"totalRows\":2");
+		String status = started.getHeaders().getLocation().getPath();
+
+		await().atMost(Duration.ofSeconds(10))
+			.until(() -> template.getForObject(status, String.class), body -> body.contains("COMPLETED"));
+		ResponseEntity<String> file = template.exchange(RequestEntity.get(status + "/file").build(), String.class);
+		assertThat(file.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(file.getBody()).startsWith("First Name,Last Name,Address,City,Telephone\n")
+			.contains("Betty,Davis")
+			.contains("Harold,Davis");
+	}
+
+	@Test
+	void testOwnersNdjsonExportIsCompressed() throws Exception {
+		// A plain JDK client, which neither asks for nor undoes compression by itself
+		HttpRequest request = HttpRequest
+			.newBuilder(URI.create("http://localhost:" + port + "/owners.ndjson?lastName=Davis"))
+			.header("Accept-Encoding", "gzip")
+			.build();
+		HttpResponse<byte[]> result = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofByteArray());
+		assertThat(result.statusCode()).isEqualTo(200);
+		assertThat(result.headers().firstValue("Content-Encoding")).hasValue("gzip");
+		try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(result.body()))) {
+			assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).contains("\"lastName\":\"Davis\"")
+				.contains("\"name\":\"Basil\"")
+				.contains("\"type\":\"hamster\"");
+		}
+	}
+
+	@Test
+	void testOwnersCsvExportIsStreamed() {
+		RestTemplate template = builder.rootUri("http://localhost:" + port).build();
+		ResponseEntity<String> result = template.exchange(RequestEntity.get("/owners.csv?lastName=Davis").build(),
+				String.class);
+		assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(result.getBody()).startsWith("First Name,Last Name,Address,City,Telephone\n")
+			.contains("Betty,Davis")
+			.contains("Harold,Davis");
+	}
+
 	public static void main(String[] args) {
 		SpringApplication.run(PetClinicApplication.class, args);
 	}
@@ -33,6 +33,8 @@ import org.springframework.boot.testcontainers.service.connection.ServiceConnect
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.samples.petclinic.owner.Owner;
+import org.springframework.samples.petclinic.owner.OwnerRepository;
 import org.springframework.test.context.ActiveProfiles;
 import org.testcontainers.DockerClientFactory;
 import org.testcontainers.containers.PostgreSQLContainer;
@@ -57,6 +59,9 @@ class PostgresSequenceResetIntegrationTests {
 	@Autowired
 	private JdbcTemplate jdbcTemplate;
 
+	@Autowired
+	private OwnerRepository owners;
+
 	@BeforeAll
 	static void available() {
 		assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "Docker not available");
@@ -91,6 +96,15 @@ class PostgresSequenceResetIntegrationTests {
 				() -> jdbcTemplate.update("INSERT INTO visits (pet_id, visit_date, description) VALUES (?, ?, ?)", 1,
 						Date.valueOf(LocalDate.of(2026, 1, 26)), "Routine checkup"))
 			.doesNotThrowAnyException();
+
+		// Hibernate takes its id blocks from the same sequences
+		Owner owner = new Owner();
+		owner.setFirstName("Robin");
+		owner.setLastName("Harper");
+		owner.setAddress("42 Juniper Way");
+		owner.setCity("Madison");
+		owner.setTelephone("6085554445");
+		assertThatCode(() -> owners.saveAndFlush(owner)).doesNotThrowAnyException();
 	}
 
 	private void resetSequence(String tableName) {
@@ -7,15 +7,20 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.samples.petclinic.owner.Owner;
 import org.springframework.samples.petclinic.owner.OwnerRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.samples.petclinic.owner.Pet;
+import org.springframework.samples.petclinic.owner.PetRepository;
 import org.springframework.samples.petclinic.owner.PetType;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 
 /**
@@ -27,6 +32,9 @@ class PetQueryServiceTests {
 	@Mock
 	private OwnerRepository ownerRepository;
 
+	@Mock
+	private PetRepository petRepository;
+
 	private PetQueryService petQueryService;
 
 	private Owner testOwner1;
@@ -41,7 +49,7 @@ class PetQueryServiceTests {
 
 	@BeforeEach
 	void setUp() {
-		petQueryService = new PetQueryService(ownerRepository);
+		petQueryService = new PetQueryService(ownerRepository, petRepository);
 
 		// Setup test owner 1 with pet "Leo"
 		testOwner1 = new Owner();
@@ -97,8 +105,7 @@ class PetQueryServiceTests {
 	@Test
 	void testFindPetByName_Found() {
 		// Arrange
-		List<Owner> owners = List.of(testOwner1, testOwner2);
-		given(ownerRepository.findAll()).willReturn(owners);
+		givenPetsFoundByName(testPet1, testPet2, testPet3);
 
 		// Act
 		Optional<PetWithOwner> result = petQueryService.findPetByName("Leo");
@@ -114,8 +121,7 @@ class PetQueryServiceTests {
 	@Test
 	void testFindPetByName_CaseInsensitive() {
 		// Arrange
-		List<Owner> owners = List.of(testOwner1, testOwner2);
-		given(ownerRepository.findAll()).willReturn(owners);
+		givenPetsFoundByName(testPet1, testPet2, testPet3);
 
 		// Act
 		Optional<PetWithOwner> resultLowerCase = petQueryService.findPetByName("leo");
@@ -134,8 +140,7 @@ class PetQueryServiceTests {
 	@Test
 	void testFindPetByName_NotFound() {
 		// Arrange
-		List<Owner> owners = List.of(testOwner1, testOwner2);
-		given(ownerRepository.findAll()).willReturn(owners);
+		givenPetsFoundByName(testPet1, testPet2, testPet3);
 
 		// Act
 		Optional<PetWithOwner> result = petQueryService.findPetByName("NonExistentPet");
@@ -147,7 +152,7 @@ class PetQueryServiceTests {
 	@Test
 	void testFindPetByName_EmptyDatabase() {
 		// Arrange
-		given(ownerRepository.findAll()).willReturn(new ArrayList<>());
+		givenPetsFoundByName();
 
 		// Act
 		Optional<PetWithOwner> result = petQueryService.findPetByName("Leo");
@@ -181,8 +186,7 @@ class PetQueryServiceTests {
 	@Test
 	void testFindPetsByOwnerLastName_Found() {
 		// Arrange
-		List<Owner> owners = List.of(testOwner1, testOwner2);
-		given(ownerRepository.findAll()).willReturn(owners);
+		givenPetsFoundByOwnerLastName(testPet1, testPet2, testPet3);
 
 		// Act
 		List<PetWithOwner> results = petQueryService.findPetsByOwnerLastName("Davis");
@@ -197,8 +201,7 @@ class PetQueryServiceTests {
 	@Test
 	void testFindPetsByOwnerLastName_CaseInsensitive() {
 		// Arrange
-		List<Owner> owners = List.of(testOwner1, testOwner2);
-		given(ownerRepository.findAll()).willReturn(owners);
+		givenPetsFoundByOwnerLastName(testPet1, testPet2, testPet3);
 
 		// Act
 		List<PetWithOwner> results = petQueryService.findPetsByOwnerLastName("davis");
@@ -211,8 +214,7 @@ class PetQueryServiceTests {
 	@Test
 	void testFindPetsByOwnerLastName_NotFound() {
 		// Arrange
-		List<Owner> owners = List.of(testOwner1, testOwner2);
-		given(ownerRepository.findAll()).willReturn(owners);
+		givenPetsFoundByOwnerLastName(testPet1, testPet2, testPet3);
 
 		// Act
 		List<PetWithOwner> results = petQueryService.findPetsByOwnerLastName("NonExistent");
@@ -267,8 +269,7 @@ class PetQueryServiceTests {
 	@Test
 	void testInputSanitization_SQLInjection() {
 		// Arrange
-		List<Owner> owners = List.of(testOwner1);
-		given(ownerRepository.findAll()).willReturn(owners);
+		givenPetsFoundByName(testPet1);
 
 		// Act - try SQL injection patterns
 		Optional<PetWithOwner> result1 = petQueryService.findPetByName("Leo'; DROP TABLE pets; --");
@@ -293,8 +294,7 @@ class PetQueryServiceTests {
 	@Test
 	void testInputSanitization_WhitespaceHandling() {
 		// Arrange
-		List<Owner> owners = List.of(testOwner1);
-		given(ownerRepository.findAll()).willReturn(owners);
+		givenPetsFoundByName(testPet1);
 
 		// Act - try with leading/trailing whitespace
 		Optional<PetWithOwner> result = petQueryService.findPetByName("  Leo  ");
@@ -308,7 +308,7 @@ class PetQueryServiceTests {
 	void testFindAllPets() {
 		// Arrange
 		List<Owner> owners = List.of(testOwner1, testOwner2);
-		given(ownerRepository.findAll()).willReturn(owners);
+		given(ownerRepository.findAllWithPets()).willReturn(owners);
 
 		// Act
 		List<PetWithOwner> results = petQueryService.findAllPets();
@@ -321,7 +321,7 @@ class PetQueryServiceTests {
 	@Test
 	void testFindAllPets_EmptyDatabase() {
 		// Arrange
-		given(ownerRepository.findAll()).willReturn(new ArrayList<>());
+		given(ownerRepository.findAllWithPets()).willReturn(new ArrayList<>());
 
 		// Act
 		List<PetWithOwner> results = petQueryService.findAllPets();
@@ -330,4 +330,25 @@ class PetQueryServiceTests {
 		assertThat(results).isEmpty();
 	}
 
+	/**
+	 * Answer name lookups like the database would, from the given pets.
+	 */
+	private void givenPetsFoundByName(Pet... pets) {
+		given(petRepository.findByNameIgnoringCase(anyString(), any(Limit.class))).willAnswer(invocation -> {
+			String name = invocation.getArgument(0);
+			Limit limit = invocation.getArgument(1);
+			return Stream.of(pets).filter(pet -> pet.getName().equalsIgnoreCase(name)).limit(limit.max()).toList();
+		});
+	}
+
+	/**
+	 * Answer owner last name lookups like the database would, from the given pets.
+	 */
+	private void givenPetsFoundByOwnerLastName(Pet... pets) {
+		given(petRepository.findByOwnerLastNameIgnoringCase(anyString())).willAnswer(invocation -> {
+			String lastName = invocation.getArgument(0);
+			return Stream.of(pets).filter(pet -> pet.getOwner().getLastName().equalsIgnoreCase(lastName)).toList();
+		});
+	}
+
 }
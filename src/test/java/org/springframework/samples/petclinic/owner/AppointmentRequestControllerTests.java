@@ -80,7 +80,7 @@ class AppointmentRequestControllerTests {
 		george.addPet(max);
 		max.setId(TEST_PET_ID);
 
-		given(this.owners.findById(TEST_OWNER_ID)).willReturn(Optional.of(george));
+		given(this.owners.findWithPetsAndVisitsById(TEST_OWNER_ID)).willReturn(Optional.of(george));
 	}
 
 	@Test
@@ -151,7 +151,7 @@ class AppointmentRequestControllerTests {
 	@Test
 	@DisplayName("should handle owner not found")
 	void shouldHandleOwnerNotFound() throws Exception {
-		given(this.owners.findById(anyInt())).willReturn(Optional.empty());
+		given(this.owners.findWithPetsAndVisitsById(anyInt())).willReturn(Optional.empty());
 
 		mockMvc.perform(get("/owners/{ownerId}/pets/{petId}/appointments/request", 999, TEST_PET_ID))
 			.andExpect(status().is4xxClientError());
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link CsvReader}.
+ */
+class CsvReaderTests {
+
+	@Test
+	void shouldReadPlainRecords() throws Exception {
+		CsvReader csv = new CsvReader(new StringReader("a,b,c\n1,,3\n"));
+		assertThat(csv.next()).containsExactly("a", "b", "c");
+		assertThat(csv.next()).containsExactly("1", "", "3");
+		assertThat(csv.next()).isNull();
+	}
+
+	@Test
+	void shouldReadQuotedFields() throws Exception {
+		CsvReader csv = new CsvReader(new StringReader("\"638 Cardinal Ave., Apt 2B\",\"Test\"\"Name\"\n"));
+		assertThat(csv.next()).containsExactly("638 Cardinal Ave., Apt 2B", "Test\"Name");
+	}
+
+	@Test
+	void shouldReadWhatCsvBuilderWrites() throws Exception {
+		Owner owner = new Owner();
+		owner.setFirstName("Jane");
+		owner.setLastName("Test\"Name");
+		owner.setAddress("1 Main St.,\nSuite 2");
+		owner.setCity("Madison");
+		owner.setTelephone("6085555678");
+		CsvReader csv = new CsvReader(new StringReader(CsvBuilder.buildOwnersCsv(List.of(owner))));
+		csv.next();
+		assertThat(csv.next()).containsExactly("Jane", "Test\"Name", "1 Main St.,\nSuite 2", "Madison", "6085555678");
+		assertThat(csv.next()).isNull();
+	}
+
+	@Test
+	void shouldAcceptCrLfAndMissingFinalLineBreak() throws Exception {
+		CsvReader csv = new CsvReader(new StringReader("a,b\r\nc,d"));
+		assertThat(csv.next()).containsExactly("a", "b");
+		assertThat(csv.next()).containsExactly("c", "d");
+		assertThat(csv.next()).isNull();
+	}
+
+	@Test
+	void shouldTrackLineOnWhichRecordStarts() throws Exception {
+		CsvReader csv = new CsvReader(new StringReader("h\n\"multi\nline\"\nlast\n"));
+		csv.next();
+		assertThat(csv.recordLine()).isEqualTo(1);
+		csv.next();
+		assertThat(csv.recordLine()).isEqualTo(2);
+		assertThat(csv.next()).containsExactly("last");
+		assertThat(csv.recordLine()).isEqualTo(4);
+	}
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.github.luben.zstd.ZstdInputStream;
+
+/**
+ * Tests for {@link ExportEncoding}.
+ */
+class ExportEncodingTests {
+
+	private static final String CONTENT = "First Name,Last Name,Address,City,Telephone\n".repeat(100);
+
+	@Test
+	void shouldNotCompressWithoutAcceptEncoding() {
+		assertThat(ExportEncoding.negotiate(null)).isEqualTo(ExportEncoding.IDENTITY);
+		assertThat(ExportEncoding.negotiate("br, identity")).isEqualTo(ExportEncoding.IDENTITY);
+		assertThat(ExportEncoding.negotiate("gzip;q=0")).isEqualTo(ExportEncoding.IDENTITY);
+	}
+
+	@Test
+	void shouldChooseAcceptedCodingWithHighestWeight() {
+		assertThat(ExportEncoding.negotiate("gzip, deflate")).isEqualTo(ExportEncoding.GZIP);
+		assertThat(ExportEncoding.negotiate("GZIP;q=0.8, br")).isEqualTo(ExportEncoding.GZIP);
+		assertThat(ExportEncoding.negotiate("*;q=0.5, zstd;q=0")).isEqualTo(ExportEncoding.GZIP);
+	}
+
+	@Test
+	void shouldPreferZstdWhenAvailable() {
+		assumeTrue(ExportEncoding.ZSTD.isAvailable());
+		assertThat(ExportEncoding.negotiate("gzip, deflate, br, zstd")).isEqualTo(ExportEncoding.ZSTD);
+		assertThat(ExportEncoding.negotiate("zstd;q=0.5, gzip")).isEqualTo(ExportEncoding.GZIP);
+	}
+
+	@Test
+	void shouldCompressWithGzipWithoutClosingResponse() throws Exception {
+		ClosingAwareOutputStream out = new ClosingAwareOutputStream();
+		ExportEncoding.GZIP.encode(body()).writeTo(out);
+
+		assertThat(out.closed).isFalse();
+		assertThat(out.size()).isLessThan(CONTENT.length());
+		assertThat(decode(new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())))).isEqualTo(CONTENT);
+	}
+
+	@Test
+	void shouldCompressWithZstd() throws Exception {
+		assumeTrue(ExportEncoding.ZSTD.isAvailable());
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ExportEncoding.ZSTD.encode(body()).writeTo(out);
+
+		assertThat(out.size()).isLessThan(CONTENT.length());
+		assertThat(decode(new ZstdInputStream(new ByteArrayInputStream(out.toByteArray())))).isEqualTo(CONTENT);
+	}
+
+	private static StreamingResponseBody body() {
+		return (OutputStream out) -> out.write(CONTENT.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String decode(InputStream in) throws Exception {
+		try (in) {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+	private static final class ClosingAwareOutputStream extends ByteArrayOutputStream {
+
+		private boolean closed;
+
+		@Override
+		public void close() {
+			this.closed = true;
+		}
+
+	}
+
+}
@@ -21,34 +21,69 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledInNativeImage;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
-import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasProperty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.matchesPattern;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -71,6 +106,23 @@ class OwnerControllerTests {
 	@MockitoBean
 	private OwnerRepository owners;
 
+	@MockitoBean
+	private OwnerExportService exporter;
+
+	@MockitoBean
+	private OwnerImportService importer;
+
+	@MockitoBean
+	private PetRepository pets;
+
+	@MockitoBean
+	private VisitRepository visits;
+
+	/**
+	 * Owners created by the fixtures, returned when a result page is reloaded with pets.
+	 */
+	private final Map<Integer, Owner> knownOwners = new HashMap<>();
+
 	private Owner george() {
 		Owner george = new Owner();
 		george.setId(TEST_OWNER_ID);
@@ -87,6 +139,7 @@ class OwnerControllerTests {
 		max.setBirthDate(LocalDate.now());
 		george.addPet(max);
 		max.setId(1);
+		this.knownOwners.put(george.getId(), george);
 		return george;
 	}
 
@@ -98,10 +151,36 @@ class OwnerControllerTests {
 			.willReturn(new PageImpl<>(List.of(george)));
 
 		given(this.owners.findById(TEST_OWNER_ID)).willReturn(Optional.of(george));
+		given(this.pets.findIdsByOwnerId(eq(TEST_OWNER_ID), any(Pageable.class)))
+			.willReturn(new PageImpl<>(george.getPets().stream().map(Pet::getId).toList()));
+		given(this.pets.findByIdIn(anyCollection(), any(Sort.class))).willReturn(george.getPets());
+		given(this.owners.findListItemsByIdIn(anyCollection())).willAnswer(invocation -> {
+			Collection<Integer> ids = invocation.getArgument(0);
+			return ids.stream().map(this.knownOwners::get).filter(Objects::nonNull).map(this::listItem).toList();
+		});
 		Visit visit = new Visit();
+		visit.setId(1);
 		visit.setDate(LocalDate.now());
 		george.getPet("Max").getVisits().add(visit);
+		given(this.visits.countByPetIdIn(anyCollection())).willReturn(List.of(visitCount(1, 1)));
+		given(this.visits.findLatestByPetId(eq(1), any(Limit.class))).willReturn(List.of(visit));
+
+	}
+
+	private static VisitRepository.PetVisitCount visitCount(int petId, long visits) {
+		return new VisitRepository.PetVisitCount() {
 
+			@Override
+			public Integer getPetId() {
+				return petId;
+			}
+
+			@Override
+			public long getVisits() {
+				return visits;
+			}
+
+		};
 	}
 
 	@Test
@@ -159,6 +238,50 @@ class OwnerControllerTests {
 			.andExpect(view().name("redirect:/owners/" + TEST_OWNER_ID));
 	}
 
+	@Test
+	void testProcessFindFormShowsFacets() throws Exception {
+		Owner betty = new Owner();
+		betty.setId(2);
+		betty.setLastName("Davis");
+		this.knownOwners.put(2, betty);
+		when(this.owners.findByMultipleCriteria(eq("Davis"), isNull(), isNull(), any(Pageable.class)))
+			.thenReturn(new SliceImpl<>(List.of(george(), betty)));
+		given(this.owners.countFacets("Davis", null))
+			.willReturn(List.of(new Object[] { "city", "Madison", 1L }, new Object[] { "city", "Sun Prairie", 1L },
+					new Object[] { "petType", "hamster", 1L }, new Object[] { "city", "Windsor", 2L }));
+
+		mockMvc.perform(get("/owners").param("lastName", "Davis"))
+			.andExpect(status().isOk())
+			.andExpect(model().attribute("facets",
+					new OwnerFacets(
+							List.of(new OwnerFacets.Facet("Windsor", 2), new OwnerFacets.Facet("Madison", 1),
+									new OwnerFacets.Facet("Sun Prairie", 1)),
+							List.of(new OwnerFacets.Facet("hamster", 1)))))
+			.andExpect(content().string(containsString("city=Windsor")));
+	}
+
+	@Test
+	void testProcessFindFormSoundsLike() throws Exception {
+		Owner harold = new Owner();
+		harold.setId(4);
+		harold.setLastName("Davis");
+		Owner betty = new Owner();
+		betty.setId(2);
+		betty.setLastName("Davis");
+		this.knownOwners.put(4, harold);
+		this.knownOwners.put(2, betty);
+		given(this.owners.findBySoundAlikeCriteria(eq(Set.of("TFS")), isNull(), isNull(), any(Pageable.class)))
+			.willReturn(new SliceImpl<>(List.of(betty, harold)));
+
+		mockMvc.perform(get("/owners").param("lastName", "Davies").param("soundsLike", "true"))
+			.andExpect(status().isOk())
+			.andExpect(model().attribute("soundsLike", true))
+			.andExpect(model().attribute("listOwners", List.of(listItem(betty), listItem(harold))))
+			.andExpect(model().attributeDoesNotExist("nextCursor"))
+			.andExpect(view().name("owners/ownersList"));
+		verify(this.owners, never()).findByMultipleCriteria(any(), any(), any(), any());
+	}
+
 	@Test
 	void testProcessFindFormNoOwnersFound() throws Exception {
 		Page<Owner> tasks = new PageImpl<>(List.of());
@@ -227,12 +350,57 @@ class OwnerControllerTests {
 			.andExpect(model().attribute("owner", hasProperty("address", is("110 W. Liberty St."))))
 			.andExpect(model().attribute("owner", hasProperty("city", is("Madison"))))
 			.andExpect(model().attribute("owner", hasProperty("telephone", is("6085551023"))))
-			.andExpect(model().attribute("owner", hasProperty("pets", not(empty()))))
-			.andExpect(model().attribute("owner",
-					hasProperty("pets", hasItem(hasProperty("visits", hasSize(greaterThan(0)))))))
+			.andExpect(model().attribute("pets", not(empty())))
+			.andExpect(model().attribute("latestVisits", hasEntry(is(1), hasSize(1))))
+			.andExpect(model().attribute("visitCounts", hasEntry(1, 1L)))
+			.andExpect(model().attribute("olderVisits", anEmptyMap()))
+			.andExpect(model().attribute("totalPages", 1))
 			.andExpect(view().name("owners/ownerDetails"));
 	}
 
+	@Test
+	void testShowOwnerShowsLatestVisitsOfEachPet() throws Exception {
+		List<Visit> latest = new ArrayList<>();
+		for (int i = 0; i < OwnerController.LATEST_VISITS; i++) {
+			Visit visit = new Visit();
+			visit.setId(100 - i);
+			visit.setDate(LocalDate.of(2024, 12, 31).minusDays(i));
+			visit.setDescription("checkup " + i);
+			latest.add(visit);
+		}
+		given(this.visits.countByPetIdIn(List.of(1))).willReturn(List.of(visitCount(1, 200)));
+		given(this.visits.findLatestByPetId(1, Limit.of(OwnerController.LATEST_VISITS))).willReturn(latest);
+		String older = new VisitCursor(LocalDate.of(2024, 12, 27), 96).encode();
+
+		mockMvc.perform(get("/owners/{ownerId}", TEST_OWNER_ID))
+			.andExpect(status().isOk())
+			.andExpect(model().attribute("latestVisits", hasEntry(is(1), hasSize(OwnerController.LATEST_VISITS))))
+			.andExpect(model().attribute("olderVisits", hasEntry(1, older)))
+			.andExpect(content().string(containsString("1/pets/1/visits?before=" + older)))
+			.andExpect(content().string(containsString("data-visit-count=\"200\"")));
+	}
+
+	@Test
+	void testShowOwnerListsPetsOnePageAtATime() throws Exception {
+		given(this.pets.findIdsByOwnerId(eq(TEST_OWNER_ID), any(Pageable.class))).willAnswer(invocation -> {
+			Pageable pageable = invocation.getArgument(1);
+			return new PageImpl<>(List.of(21, 22), pageable, 22);
+		});
+		Pet pet = new Pet();
+		pet.setId(21);
+		pet.setName("Rex");
+		given(this.pets.findByIdIn(eq(List.of(21, 22)), any(Sort.class))).willReturn(List.of(pet));
+
+		mockMvc.perform(get("/owners/{ownerId}", TEST_OWNER_ID).param("page", "3"))
+			.andExpect(status().isOk())
+			.andExpect(model().attribute("pets", hasItem(hasProperty("name", is("Rex")))))
+			.andExpect(model().attribute("currentPage", 3))
+			.andExpect(model().attribute("totalPages", 3))
+			.andExpect(content().string(containsString("page=2")));
+		verify(this.pets).findIdsByOwnerId(TEST_OWNER_ID, PageRequest.of(2, 10, Sort.by("name", "id")));
+		verify(this.owners, never()).findWithPetsAndVisitsById(anyInt());
+	}
+
 	@Test
 	public void testProcessUpdateOwnerFormWithIdMismatch() throws Exception {
 		int pathOwnerId = 1;
@@ -264,6 +432,40 @@ class OwnerControllerTests {
 			.andExpect(model().attributeExists("errorMessage"));
 	}
 
+	@Test
+	void testShowOwnerAnswersNotModifiedWhileVersionIsUnchanged() throws Exception {
+		given(this.owners.findVersionById(TEST_OWNER_ID)).willReturn(Optional.of(3));
+
+		String etag = mockMvc.perform(get("/owners/{ownerId}", TEST_OWNER_ID))
+			.andExpect(status().isOk())
+			.andExpect(header().string("Cache-Control", "private, no-cache"))
+			.andReturn()
+			.getResponse()
+			.getHeader("ETag");
+		assertThat(etag).startsWith("\"1-3-en-");
+
+		mockMvc.perform(get("/owners/{ownerId}", TEST_OWNER_ID).header("If-None-Match", etag))
+			.andExpect(status().isNotModified())
+			.andExpect(header().string("ETag", etag))
+			.andExpect(content().string(""));
+		verify(this.owners, times(1)).findById(TEST_OWNER_ID);
+		verify(this.pets, times(1)).findIdsByOwnerId(eq(TEST_OWNER_ID), any(Pageable.class));
+
+		given(this.owners.findVersionById(TEST_OWNER_ID)).willReturn(Optional.of(4));
+		mockMvc.perform(get("/owners/{ownerId}", TEST_OWNER_ID).header("If-None-Match", etag))
+			.andExpect(status().isOk())
+			.andExpect(header().string("ETag", not(etag)));
+	}
+
+	@Test
+	void testShowOwnerWithFlashMessageIsNotCached() throws Exception {
+		given(this.owners.findVersionById(TEST_OWNER_ID)).willReturn(Optional.of(3));
+
+		mockMvc.perform(get("/owners/{ownerId}", TEST_OWNER_ID).flashAttr("message", "Owner Values Updated"))
+			.andExpect(status().isOk())
+			.andExpect(header().doesNotExist("ETag"));
+	}
+
 	@Test
 	void testShowOwnerNotFoundInEdit() throws Exception {
 		int nonExistentOwnerId = 999;
@@ -279,11 +481,9 @@ class OwnerControllerTests {
 
 	@Test
 	void shouldRejectDuplicateOwnerCreation() throws Exception {
-		// Arrange: Mock repository to return existing owner (duplicate found)
-		Owner george = george();
-		given(this.owners.findByFirstNameIgnoreCaseAndLastNameIgnoreCaseAndTelephone(eq("George"), eq("Franklin"),
-				eq("6085551023")))
-			.willReturn(List.of(george));
+		// Arrange: Mock repository to report the owner's identity as taken
+		given(this.owners.existsByIdentityFingerprint(OwnerFingerprint.of("George", "Franklin", "6085551023")))
+			.willReturn(true);
 
 		// Act & Assert
 		mockMvc
@@ -299,11 +499,9 @@ class OwnerControllerTests {
 
 	@Test
 	void shouldRejectDuplicateWithDifferentCase() throws Exception {
-		// Arrange: Mock repository to return existing owner (case-insensitive match)
-		Owner george = george();
-		given(this.owners.findByFirstNameIgnoreCaseAndLastNameIgnoreCaseAndTelephone(eq("george"), eq("franklin"),
-				eq("6085551023")))
-			.willReturn(List.of(george));
+		// Arrange: the fingerprint ignores case, so the existing owner's is looked up
+		given(this.owners.existsByIdentityFingerprint(OwnerFingerprint.of("George", "Franklin", "6085551023")))
+			.willReturn(true);
 
 		// Act & Assert: Submit with lowercase names
 		mockMvc
@@ -318,9 +516,8 @@ class OwnerControllerTests {
 
 	@Test
 	void shouldAllowNonDuplicateOwnerCreation() throws Exception {
-		// Arrange: Mock repository to return empty list (no duplicates)
-		given(this.owners.findByFirstNameIgnoreCaseAndLastNameIgnoreCaseAndTelephone(any(), any(), any()))
-			.willReturn(List.of());
+		// Arrange: Mock repository to report no owner with the same identity
+		given(this.owners.existsByIdentityFingerprint(any())).willReturn(false);
 
 		// Act & Assert: Submit unique owner
 		mockMvc
@@ -334,10 +531,9 @@ class OwnerControllerTests {
 
 	@Test
 	void shouldAllowOwnerWithSameNameDifferentPhone() throws Exception {
-		// Arrange: Mock repository to return empty list (different phone = no duplicate)
-		given(this.owners.findByFirstNameIgnoreCaseAndLastNameIgnoreCaseAndTelephone(eq("George"), eq("Franklin"),
-				eq("9999999999")))
-			.willReturn(List.of());
+		// Arrange: only George Franklin's current number is taken
+		given(this.owners.existsByIdentityFingerprint(OwnerFingerprint.of("George", "Franklin", "6085551023")))
+			.willReturn(true);
 
 		// Act & Assert: Submit owner with same name, different phone
 		mockMvc
@@ -351,11 +547,9 @@ class OwnerControllerTests {
 
 	@Test
 	void shouldNormalizeTelephoneForDuplicateCheck() throws Exception {
-		// Arrange: Mock expects normalized phone (no spaces/dashes)
-		Owner george = george();
-		given(this.owners.findByFirstNameIgnoreCaseAndLastNameIgnoreCaseAndTelephone(eq("George"), eq("Franklin"),
-				eq("6085551023")))
-			.willReturn(List.of(george));
+		// Arrange: the fingerprint only keeps the digits of the telephone
+		given(this.owners.existsByIdentityFingerprint(OwnerFingerprint.of("George", "Franklin", "608-555 1023")))
+			.willReturn(true);
 
 		// Act & Assert: Submit with normalized phone
 		// Note: @Pattern validation requires exactly 10 digits, so this verifies
@@ -371,14 +565,69 @@ class OwnerControllerTests {
 			.andExpect(model().attributeHasErrors("owner"));
 	}
 
+	@Test
+	void shouldRejectOwnerCreatedConcurrentlyWithSameIdentity() throws Exception {
+		// The duplicate check passes, but the unique index rejects the insert
+		given(this.owners.save(any(Owner.class))).willAnswer(invocation -> {
+			invocation.<Owner>getArgument(0).setId(99);
+			throw new DataIntegrityViolationException("owners_identity_fingerprint");
+		});
+
+		mockMvc
+			.perform(post("/owners/new").param("firstName", "Jane")
+				.param("lastName", "Doe")
+				.param("address", "456 Elm St.")
+				.param("city", "Springfield")
+				.param("telephone", "5551234567"))
+			.andExpect(status().isOk())
+			.andExpect(model().attributeHasErrors("owner"))
+			.andExpect(model().attribute("owner", hasProperty("id", nullValue())))
+			.andExpect(view().name("owners/createOrUpdateOwnerForm"));
+	}
+
+	@Test
+	void shouldRejectUpdateMakingOwnerDuplicate() throws Exception {
+		given(this.owners.save(any(Owner.class)))
+			.willThrow(new DataIntegrityViolationException("owners_identity_fingerprint"));
+
+		mockMvc
+			.perform(post("/owners/{ownerId}/edit", TEST_OWNER_ID).param("id", String.valueOf(TEST_OWNER_ID))
+				.param("firstName", "Betty")
+				.param("lastName", "Davis")
+				.param("address", "638 Cardinal Ave.")
+				.param("city", "Sun Prairie")
+				.param("telephone", "6085551749"))
+			.andExpect(status().isOk())
+			.andExpect(model().attributeHasErrors("owner"))
+			.andExpect(view().name("owners/createOrUpdateOwnerForm"));
+	}
+
 	// CSV Export Tests
 
+	private void givenExportedOwners(String lastName, Owner... owners) throws Exception {
+		given(this.owners.existsByLastNameStartingWith(lastName)).willReturn(owners.length > 0);
+		willAnswer(invocation -> {
+			Writer writer = new OutputStreamWriter(invocation.getArgument(1, OutputStream.class),
+					StandardCharsets.UTF_8);
+			CsvBuilder.writeHeader(writer);
+			for (Owner owner : owners) {
+				CsvBuilder.writeRow(writer, owner);
+			}
+			writer.flush();
+			return (long) owners.length;
+		}).given(this.exporter).writeOwnersCsv(eq(lastName), any(OutputStream.class));
+	}
+
+	private ResultActions performCsvExport(MockHttpServletRequestBuilder requestBuilder) throws Exception {
+		MvcResult result = mockMvc.perform(requestBuilder).andExpect(request().asyncStarted()).andReturn();
+		return mockMvc.perform(asyncDispatch(result));
+	}
+
 	@Test
 	void shouldReturnCsvFormatWhenAccessingCsvEndpoint() throws Exception {
-		given(this.owners.findByLastNameStartingWith("")).willReturn(List.of(george()));
+		givenExportedOwners("", george());
 
-		mockMvc.perform(get("/owners.csv"))
-			.andExpect(status().isOk())
+		performCsvExport(get("/owners.csv")).andExpect(status().isOk())
 			.andExpect(content().contentType("text/csv; charset=UTF-8"))
 			.andExpect(header().string("Content-Disposition", containsString("attachment")))
 			.andExpect(content().string(containsString("First Name,Last Name,Address,City,Telephone")))
@@ -387,38 +636,36 @@ class OwnerControllerTests {
 
 	@Test
 	void shouldFilterCsvByLastNameParameter() throws Exception {
-		Owner george = george();
-		given(this.owners.findByLastNameStartingWith("Franklin")).willReturn(List.of(george));
-		given(this.owners.findByLastNameStartingWith("Davis")).willReturn(List.of());
+		givenExportedOwners("Franklin", george());
+		givenExportedOwners("Davis");
 
-		mockMvc.perform(get("/owners.csv").param("lastName", "Franklin"))
-			.andExpect(status().isOk())
+		performCsvExport(get("/owners.csv").param("lastName", "Franklin")).andExpect(status().isOk())
 			.andExpect(content().string(containsString("George,Franklin")));
 	}
 
 	@Test
 	void shouldReturn404WhenNoCsvResultsFound() throws Exception {
-		given(this.owners.findByLastNameStartingWith("NonExistent")).willReturn(List.of());
+		given(this.owners.existsByLastNameStartingWith("NonExistent")).willReturn(false);
 
 		mockMvc.perform(get("/owners.csv").param("lastName", "NonExistent")).andExpect(status().isNotFound());
+		verifyNoInteractions(this.exporter);
 	}
 
 	@Test
 	void shouldSetContentDispositionHeader() throws Exception {
-		given(this.owners.findByLastNameStartingWith("")).willReturn(List.of(george()));
+		givenExportedOwners("", george());
 
-		mockMvc.perform(get("/owners.csv"))
+		performCsvExport(get("/owners.csv"))
 			.andExpect(header().string("Content-Disposition", containsString("attachment")))
 			.andExpect(header().string("Content-Disposition", containsString("filename=")));
 	}
 
 	@Test
 	void shouldGenerateFilenameWithCurrentDate() throws Exception {
-		given(this.owners.findByLastNameStartingWith("")).willReturn(List.of(george()));
+		givenExportedOwners("", george());
 
-		mockMvc.perform(get("/owners.csv"))
-			.andExpect(header().string("Content-Disposition",
-					matchesPattern(".*owners-export-\\d{4}-\\d{2}-\\d{2}\\.csv.*")));
+		performCsvExport(get("/owners.csv")).andExpect(
+				header().string("Content-Disposition", matchesPattern(".*owners-export-\\d{4}-\\d{2}-\\d{2}\\.csv.*")));
 	}
 
 	@Test
@@ -431,54 +678,279 @@ class OwnerControllerTests {
 		betty.setCity("Sun Prairie");
 		betty.setTelephone("6085551749");
 
-		given(this.owners.findByLastNameStartingWith("")).willReturn(List.of(george, betty));
+		givenExportedOwners("", george, betty);
 
-		mockMvc.perform(get("/owners.csv"))
-			.andExpect(status().isOk())
+		performCsvExport(get("/owners.csv")).andExpect(status().isOk())
 			.andExpect(content().string(containsString("George,Franklin")))
 			.andExpect(content().string(containsString("Betty,Davis")));
 	}
 
-	// Rate Limiting Tests (CRITICAL-2: DoS Prevention)
-
 	@Test
-	void shouldReturn413WhenCsvExportExceedsMaxSize() throws Exception {
-		// Create a list exceeding MAX_CSV_EXPORT_SIZE (5000)
-		List<Owner> largeList = new java.util.ArrayList<>();
-		for (int i = 0; i < 5001; i++) {
+	void shouldStreamCsvExportBeyondFormerMaxSize() throws Exception {
+		// Exports used to be capped at 5000 rows with HTTP 413; streaming removes the cap
+		Owner[] largeList = new Owner[5001];
+		for (int i = 0; i < largeList.length; i++) {
 			Owner owner = new Owner();
 			owner.setFirstName("Owner" + i);
 			owner.setLastName("Test" + i);
 			owner.setAddress("Address " + i);
 			owner.setCity("City " + i);
 			owner.setTelephone(String.format("%010d", i));
-			largeList.add(owner);
+			largeList[i] = owner;
 		}
 
-		given(this.owners.findByLastNameStartingWith("")).willReturn(largeList);
+		givenExportedOwners("", largeList);
 
-		mockMvc.perform(get("/owners.csv"))
-			.andExpect(status().isPayloadTooLarge())
-			.andExpect(status().reason(containsString("Maximum export size")));
+		performCsvExport(get("/owners.csv")).andExpect(status().isOk())
+			.andExpect(content().string(containsString("Owner5000,Test5000")));
 	}
 
 	@Test
-	void shouldAllowCsvExportAtMaxSize() throws Exception {
-		// Create a list at exactly MAX_CSV_EXPORT_SIZE (5000)
-		List<Owner> maxSizeList = new java.util.ArrayList<>();
-		for (int i = 0; i < 5000; i++) {
-			Owner owner = new Owner();
-			owner.setFirstName("Owner" + i);
-			owner.setLastName("Test" + i);
-			owner.setAddress("Address " + i);
-			owner.setCity("City " + i);
-			owner.setTelephone(String.format("%010d", i));
-			maxSizeList.add(owner);
+	void shouldReturnWatermarkWithFullExport() throws Exception {
+		givenExportedOwners("", george());
+		Instant before = Instant.now().minus(OwnerController.WATERMARK_OVERLAP);
+
+		String watermark = performCsvExport(get("/owners.csv")).andExpect(status().isOk())
+			.andReturn()
+			.getResponse()
+			.getHeader(OwnerController.WATERMARK_HEADER);
+
+		assertThat(Instant.parse(watermark)).isBetween(before, Instant.now());
+	}
+
+	@Test
+	void shouldExportOnlyOwnersChangedSinceWatermark() throws Exception {
+		Instant since = Instant.parse("2025-06-01T12:00:00Z");
+		willAnswer(invocation -> {
+			Writer writer = new OutputStreamWriter(invocation.getArgument(2, OutputStream.class),
+					StandardCharsets.UTF_8);
+			CsvBuilder.writeHeader(writer);
+			CsvBuilder.writeRow(writer, george());
+			writer.flush();
+			return 1L;
+		}).given(this.exporter).writeChangedOwnersCsv(eq(""), eq(since), any(OutputStream.class));
+
+		performCsvExport(get("/owners.csv").param("since", since.toString())).andExpect(status().isOk())
+			.andExpect(header().exists(OwnerController.WATERMARK_HEADER))
+			.andExpect(content().string(containsString("George,Franklin")));
+		verify(this.exporter, never()).writeOwnersCsv(any(), any(OutputStream.class));
+	}
+
+	@Test
+	void shouldExportEmptyDeltaWithoutNotFound() throws Exception {
+		Instant since = Instant.now().plusSeconds(3600);
+
+		performCsvExport(get("/owners.csv").param("since", since.toString())).andExpect(status().isOk())
+			.andExpect(header().string(OwnerController.WATERMARK_HEADER, since.toString()));
+		verify(this.owners, never()).existsByLastNameStartingWith(any());
+	}
+
+	@Test
+	void shouldExportOwnersRemovedSinceWatermark() throws Exception {
+		Instant since = Instant.parse("2025-06-01T12:00:00Z");
+		willAnswer(invocation -> {
+			Writer writer = new OutputStreamWriter(invocation.getArgument(2, OutputStream.class),
+					StandardCharsets.UTF_8);
+			writer.write("Id,Merged Into Id,Removed At\n11,1,2025-06-02T08:30:00Z\n");
+			writer.flush();
+			return 1L;
+		}).given(this.exporter).writeRemovedOwnersCsv(eq("Fr"), eq(since), any(OutputStream.class));
+
+		performCsvExport(get("/owners/removed.csv").param("lastName", "Fr").param("since", since.toString()))
+			.andExpect(status().isOk())
+			.andExpect(header().exists(OwnerController.WATERMARK_HEADER))
+			.andExpect(content().string(containsString("11,1,2025-06-02T08:30:00Z")));
+	}
+
+	@Test
+	void shouldRequireWatermarkForRemovedOwners() throws Exception {
+		mockMvc.perform(get("/owners/removed.csv")).andExpect(status().isBadRequest());
+		verifyNoInteractions(this.exporter);
+	}
+
+	@Test
+	void shouldRejectMalformedWatermark() throws Exception {
+		mockMvc.perform(get("/owners.csv").param("since", "yesterday")).andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void shouldCompressCsvExportWhenClientAcceptsGzip() throws Exception {
+		givenExportedOwners("", george());
+
+		MvcResult result = performCsvExport(get("/owners.csv").header("Accept-Encoding", "gzip, deflate"))
+			.andExpect(status().isOk())
+			.andExpect(header().string("Content-Encoding", "gzip"))
+			.andExpect(header().string("Vary", containsString("Accept-Encoding")))
+			.andReturn();
+
+		try (InputStream in = new GZIPInputStream(
+				new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+			assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).contains("George,Franklin");
 		}
+	}
+
+	@Test
+	void shouldNotCompressCsvExportByDefault() throws Exception {
+		givenExportedOwners("", george());
+
+		performCsvExport(get("/owners.csv")).andExpect(status().isOk())
+			.andExpect(header().doesNotExist("Content-Encoding"))
+			.andExpect(content().string(containsString("George,Franklin")));
+	}
+
+	@Test
+	void shouldExportOwnersWithPetsAsNdjson() throws Exception {
+		given(this.owners.existsByLastNameStartingWith("Fr")).willReturn(true);
+		willAnswer(invocation -> {
+			invocation.getArgument(2, OutputStream.class)
+				.write("{\"id\":1,\"lastName\":\"Franklin\"}\n".getBytes(StandardCharsets.UTF_8));
+			return 1L;
+		}).given(this.exporter).writeOwnersNdjson(eq("Fr"), isNull(), any(OutputStream.class));
+
+		performCsvExport(get("/owners.ndjson").param("lastName", "Fr")).andExpect(status().isOk())
+			.andExpect(content().contentType("application/x-ndjson"))
+			.andExpect(header().string("Content-Disposition", matchesPattern(".*owners-export-.*\\.ndjson.*")))
+			.andExpect(header().exists(OwnerController.WATERMARK_HEADER))
+			.andExpect(content().string("{\"id\":1,\"lastName\":\"Franklin\"}\n"));
+	}
+
+	@Test
+	void shouldReturn404WhenNoNdjsonResultsFound() throws Exception {
+		mockMvc.perform(get("/owners.ndjson").param("lastName", "NonExistent")).andExpect(status().isNotFound());
+		verifyNoInteractions(this.exporter);
+	}
+
+	// Keyset pagination
+
+	private OwnerListItem listItem(Owner owner) {
+		String petNames = owner.getPets()
+			.stream()
+			.map(Pet::getName)
+			.sorted()
+			.reduce((a, b) -> a + ", " + b)
+			.orElse(null);
+		return new OwnerListItem(owner.getId(), owner.getFirstName(), owner.getLastName(), owner.getAddress(),
+				owner.getCity(), owner.getTelephone(), petNames);
+	}
+
+	private Owner owner(int id, String lastName) {
+		Owner owner = new Owner();
+		owner.setId(id);
+		owner.setFirstName("First" + id);
+		owner.setLastName(lastName);
+		this.knownOwners.put(id, owner);
+		return owner;
+	}
+
+	@Test
+	void shouldExposeCursorsForAdjacentPages() throws Exception {
+		List<Owner> content = List.of(owner(6, "Coleman"), owner(2, "Davis"), owner(4, "Davis"), owner(8, "Escobito"),
+				owner(10, "Estaban"));
+		Page<Owner> secondPage = new PageImpl<>(content, PageRequest.of(1, 5), 12);
+		when(this.owners.findByMultipleCriteria(eq(""), isNull(), isNull(), any(Pageable.class)))
+			.thenReturn(secondPage);
+
+		mockMvc.perform(get("/owners?page=2"))
+			.andExpect(status().isOk())
+			.andExpect(model().attribute("nextCursor", new OwnerCursor(true, "estaban", 10).encode()))
+			.andExpect(model().attribute("previousCursor", new OwnerCursor(false, "coleman", 6).encode()));
+	}
+
+	@Test
+	void shouldReadNextPageAfterCursor() throws Exception {
+		String cursor = new OwnerCursor(true, "estaban", 10).encode();
+		given(this.owners.findByMultipleCriteriaAfter(eq(""), isNull(), isNull(), eq("estaban"), eq(10),
+				any(Limit.class)))
+			.willReturn(List.of(owner(1, "Franklin"), owner(5, "McTavish")));
+
+		mockMvc.perform(get("/owners").param("page", "2").param("cursor", cursor))
+			.andExpect(status().isOk())
+			.andExpect(view().name("owners/ownersList"))
+			.andExpect(model().attribute("currentPage", 2))
+			.andExpect(model().attribute("hasNext", false))
+			.andExpect(model().attribute("totalItems", 7L))
+			.andExpect(model().attribute("totalPages", 2))
+			.andExpect(model().attribute("listOwners", hasSize(2)))
+			.andExpect(model().attributeDoesNotExist("nextCursor"));
+		verify(this.owners, never()).findByMultipleCriteria(any(), any(), any(), any(Pageable.class));
+		verify(this.owners, never()).countByMultipleCriteria(any(), any(), any());
+	}
 
-		given(this.owners.findByLastNameStartingWith("")).willReturn(maxSizeList);
+	@Test
+	void shouldTrimLookaheadRowFromCursorPage() throws Exception {
+		String cursor = new OwnerCursor(true, "black", 7).encode();
+		given(this.owners.findByMultipleCriteriaAfter(eq(""), isNull(), isNull(), eq("black"), eq(7), any(Limit.class)))
+			.willReturn(List.of(owner(6, "Coleman"), owner(2, "Davis"), owner(4, "Davis"), owner(8, "Escobito"),
+					owner(10, "Estaban"), owner(1, "Franklin")));
+
+		mockMvc.perform(get("/owners").param("page", "2").param("cursor", cursor))
+			.andExpect(status().isOk())
+			.andExpect(model().attribute("listOwners", hasSize(5)))
+			.andExpect(model().attribute("hasNext", true))
+			.andExpect(model().attribute("nextCursor", new OwnerCursor(true, "estaban", 10).encode()));
+	}
+
+	@Test
+	void shouldReadPreviousPageBeforeCursorInAscendingOrder() throws Exception {
+		String cursor = new OwnerCursor(false, "franklin", 1).encode();
+		given(this.owners.findByMultipleCriteriaBefore(eq(""), isNull(), isNull(), eq("franklin"), eq(1),
+				any(Limit.class)))
+			.willReturn(List.of(owner(10, "Estaban"), owner(8, "Escobito")));
+		given(this.owners.countByMultipleCriteria("", null, null)).willReturn(7L);
+
+		mockMvc.perform(get("/owners").param("page", "1").param("cursor", cursor))
+			.andExpect(status().isOk())
+			.andExpect(model().attribute("listOwners",
+					List.of(listItem(this.knownOwners.get(8)), listItem(this.knownOwners.get(10)))))
+			.andExpect(model().attribute("hasNext", true))
+			.andExpect(model().attribute("nextCursor", new OwnerCursor(true, "estaban", 10).encode()));
+	}
+
+	// Count-free search
+
+	@Test
+	void shouldNotCountOwnersWhenMorePagesFollow() throws Exception {
+		List<Owner> content = List.of(owner(7, "Black"), owner(6, "Coleman"), owner(2, "Davis"), owner(4, "Davis"),
+				owner(8, "Escobito"));
+		when(this.owners.findByMultipleCriteria(eq(""), isNull(), isNull(), any(Pageable.class)))
+			.thenReturn(new SliceImpl<>(content, PageRequest.of(0, 5), true));
+
+		mockMvc.perform(get("/owners?page=1"))
+			.andExpect(status().isOk())
+			.andExpect(model().attribute("hasNext", true))
+			.andExpect(model().attributeDoesNotExist("totalItems", "totalPages"));
+		verify(this.owners, never()).countByMultipleCriteria(any(), any(), any());
+	}
+
+	@Test
+	void shouldCountOwnersOnRequest() throws Exception {
+		List<Owner> content = List.of(owner(7, "Black"), owner(6, "Coleman"), owner(2, "Davis"), owner(4, "Davis"),
+				owner(8, "Escobito"));
+		when(this.owners.findByMultipleCriteria(eq(""), isNull(), isNull(), any(Pageable.class)))
+			.thenReturn(new SliceImpl<>(content, PageRequest.of(0, 5), true));
+		given(this.owners.countByMultipleCriteria("", null, null)).willReturn(23L);
+
+		mockMvc.perform(get("/owners?page=1&count=true"))
+			.andExpect(status().isOk())
+			.andExpect(model().attribute("totalItems", 23L))
+			.andExpect(model().attribute("totalPages", 5));
+	}
 
-		mockMvc.perform(get("/owners.csv")).andExpect(status().isOk());
+	@Test
+	void shouldDeriveTotalOnLastPageWithoutCounting() throws Exception {
+		when(this.owners.findByMultipleCriteria(eq(""), isNull(), isNull(), any(Pageable.class))).thenReturn(
+				new SliceImpl<>(List.of(owner(3, "Rodriquez"), owner(9, "Schroeder")), PageRequest.of(1, 5), false));
+
+		mockMvc.perform(get("/owners?page=2"))
+			.andExpect(status().isOk())
+			.andExpect(model().attribute("totalItems", 7L))
+			.andExpect(model().attribute("totalPages", 2));
+		verify(this.owners, never()).countByMultipleCriteria(any(), any(), any());
+	}
+
+	@Test
+	void shouldRejectMalformedCursor() throws Exception {
+		mockMvc.perform(get("/owners").param("cursor", "not a cursor")).andExpect(status().isBadRequest());
 	}
 
 	// Issue #3: Find Owners - Search by telephone and city - Controller Tests
@@ -533,4 +1005,56 @@ class OwnerControllerTests {
 		mockMvc.perform(get("/owners?page=1")).andExpect(status().isOk()).andExpect(view().name("owners/ownersList"));
 	}
 
+	@Test
+	void shouldSuggestLastNamesFromRepositoryWithoutSearchIndex() throws Exception {
+		given(this.owners.findLastNamesStartingWith("Da", Limit.of(10))).willReturn(List.of("Davis"));
+		mockMvc.perform(get("/owners/suggest").param("q", "Da"))
+			.andExpect(status().isOk())
+			.andExpect(content().json("[\"Davis\"]"));
+	}
+
+	@Test
+	void shouldNotSuggestLastNamesForBlankPrefix() throws Exception {
+		mockMvc.perform(get("/owners/suggest").param("q", " "))
+			.andExpect(status().isOk())
+			.andExpect(content().json("[]"));
+		verify(this.owners, never()).findLastNamesStartingWith(any(), any());
+	}
+
+	@Test
+	void shouldImportUploadedFile() throws Exception {
+		given(this.importer.importOwners(any(), eq(OwnerImportService.Format.NDJSON)))
+			.willReturn(new OwnerImportResult(3, 1, 1, 1, 1, List.of(new OwnerImportResult.RowError(3, "bad row"))));
+		MockMultipartFile file = new MockMultipartFile("file", "clients.ndjson", "application/octet-stream",
+				"{}".getBytes(StandardCharsets.UTF_8));
+
+		mockMvc.perform(multipart("/owners/import").file(file))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.owners").value(1))
+			.andExpect(jsonPath("$.duplicates").value(1))
+			.andExpect(jsonPath("$.errors[0].line").value(3))
+			.andExpect(jsonPath("$.errors[0].message").value("bad row"));
+	}
+
+	@Test
+	void shouldImportCsvRequestBody() throws Exception {
+		given(this.importer.importOwners(any(), eq(OwnerImportService.Format.CSV)))
+			.willReturn(new OwnerImportResult(1, 1, 0, 0, 0, List.of()));
+
+		mockMvc
+			.perform(post("/owners/import").contentType("text/csv")
+				.content("First Name,Last Name,Address,City,Telephone\n"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.rows").value(1));
+	}
+
+	@Test
+	void shouldRejectImportWithoutOwnerColumns() throws Exception {
+		given(this.importer.importOwners(any(), any()))
+			.willThrow(new IllegalStateException("CSV header is missing the columns [telephone]"));
+
+		mockMvc.perform(post("/owners/import").contentType("text/csv").content("First Name\n"))
+			.andExpect(status().isBadRequest());
+	}
+
 }
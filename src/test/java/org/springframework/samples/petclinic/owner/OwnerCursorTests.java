@@ -0,0 +1,63 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Unit tests for {@link OwnerCursor}.
+ */
+class OwnerCursorTests {
+
+	@Test
+	void shouldRoundTripForwardCursor() {
+		OwnerCursor cursor = new OwnerCursor(true, "davis", 4);
+		assertThat(OwnerCursor.decode(cursor.encode())).isEqualTo(cursor);
+	}
+
+	@Test
+	void shouldRoundTripBackwardCursorWithSeparatorInName() {
+		OwnerCursor cursor = new OwnerCursor(false, "o'neil:smith müller", 42);
+		assertThat(OwnerCursor.decode(cursor.encode())).isEqualTo(cursor);
+	}
+
+	@Test
+	void shouldKeyOnLowerCasedLastName() {
+		Owner owner = new Owner();
+		owner.setId(3);
+		owner.setLastName("McTavish");
+		assertThat(OwnerCursor.after(owner)).isEqualTo(new OwnerCursor(true, "mctavish", 3));
+		assertThat(OwnerCursor.before(new OwnerListItem(3, "Jean", "de Wit", null, null, null, null)))
+			.isEqualTo(new OwnerCursor(false, "de wit", 3));
+	}
+
+	@Test
+	void shouldProduceUrlSafeTokens() {
+		String token = new OwnerCursor(true, "??>>//", 1).encode();
+		assertThat(token).matches("[A-Za-z0-9_-]+");
+	}
+
+	@Test
+	void shouldRejectMalformedTokens() {
+		assertThatIllegalStateException().isThrownBy(() -> OwnerCursor.decode("%%%"));
+		assertThatIllegalStateException().isThrownBy(() -> OwnerCursor.decode("eDo1OkRhdmlz"));
+		assertThatIllegalStateException().isThrownBy(() -> OwnerCursor.decode("bjphYmM6RGF2aXM"));
+	}
+
+}
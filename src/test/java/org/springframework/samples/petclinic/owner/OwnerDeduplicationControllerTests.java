@@ -0,0 +1,74 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.samples.petclinic.owner.OwnerMergePlan.Merge;
+import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Test class for {@link OwnerDeduplicationController}.
+ */
+@WebMvcTest(OwnerDeduplicationController.class)
+@DisabledInNativeImage
+@DisabledInAotMode
+class OwnerDeduplicationControllerTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoBean
+	private OwnerDeduplicationService deduplication;
+
+	@Test
+	void shouldReturnPlannedMerges() throws Exception {
+		given(this.deduplication.plan()).willReturn(new OwnerMergePlan(12, 3, List.of(new Merge(1, List.of(11), 0.9))));
+
+		this.mockMvc.perform(get("/owners/duplicates"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.owners").value(12))
+			.andExpect(jsonPath("$.merges[0].survivorId").value(1))
+			.andExpect(jsonPath("$.merges[0].duplicateIds[0]").value(11));
+	}
+
+	@Test
+	void shouldApplyPostedMerges() throws Exception {
+		OwnerMergePlan plan = new OwnerMergePlan(0, 0, List.of(new Merge(1, List.of(11, 12), 0)));
+		given(this.deduplication.apply(plan)).willReturn(new OwnerMergeResult(1, 2, 3, 0));
+
+		this.mockMvc.perform(post("/owners/duplicates/merge").contentType(MediaType.APPLICATION_JSON).content("""
+				{"owners": 0, "comparisons": 0,
+				 "merges": [{"survivorId": 1, "duplicateIds": [11, 12], "score": 0}]}"""))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.ownersRemoved").value(2))
+			.andExpect(jsonPath("$.petsMoved").value(3));
+	}
+
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace;
+import org.springframework.context.annotation.Import;
+import org.springframework.samples.petclinic.owner.OwnerDeduplicationService.Candidate;
+import org.springframework.samples.petclinic.owner.OwnerMergePlan.Merge;
+
+import jakarta.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Integration tests for {@link OwnerDeduplicationService}.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import(OwnerDeduplicationService.class)
+class OwnerDeduplicationServiceTests {
+
+	@Autowired
+	private OwnerDeduplicationService deduplication;
+
+	@Autowired
+	private OwnerRepository owners;
+
+	@Autowired
+	private PetTypeRepository types;
+
+	@Autowired
+	private OwnerTombstoneRepository tombstones;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	void shouldFindNoDuplicatesInSampleData() {
+		OwnerMergePlan plan = this.deduplication.plan();
+
+		assertThat(plan.owners()).isGreaterThanOrEqualTo(10);
+		assertThat(plan.merges()).isEmpty();
+	}
+
+	@Test
+	void shouldPlanMergeOfNearDuplicatesIntoLongestRegisteredOwner() {
+		Owner georg = save("Georg", "Franklin", "110 W Liberty St", "6085551023");
+		// Same household, but a different person
+		save("Jane", "Franklin", "110 W. Liberty St.", "6085551023");
+
+		OwnerMergePlan plan = this.deduplication.plan();
+
+		assertThat(plan.comparisons()).isEqualTo(3);
+		assertThat(plan.merges()).singleElement().satisfies(merge -> {
+			assertThat(merge.survivorId()).isEqualTo(1);
+			assertThat(merge.duplicateIds()).containsExactly(georg.getId());
+			assertThat(merge.score()).isBetween(0.85, 1.0);
+		});
+	}
+
+	@Test
+	void shouldMoveDuplicatesPetsToSurvivorAndDeleteDuplicates() {
+		Owner duplicate = new Owner();
+		duplicate.setFirstName("Georg");
+		duplicate.setLastName("Franklin");
+		duplicate.setAddress("110 West Liberty St.");
+		duplicate.setCity("Madison");
+		duplicate.setTelephone("6085551023");
+		Pet pet = new Pet();
+		pet.setName("Rosy");
+		pet.setType(this.types.findPetTypes().get(0));
+		pet.setBirthDate(LocalDate.now());
+		duplicate.addPet(pet);
+		this.owners.saveAndFlush(duplicate);
+		Owner other = save("Georgie", "Franklin", "110 W. Liberty St.", "6085551023");
+		int version = this.owners.findById(1).orElseThrow().getVersion();
+		Instant before = Instant.now().minusSeconds(1);
+
+		OwnerMergeResult result = this.deduplication
+			.apply(new OwnerMergePlan(0, 0, List.of(new Merge(1, List.of(duplicate.getId(), other.getId()), 0.9))));
+		this.entityManager.clear();
+
+		assertThat(result).isEqualTo(new OwnerMergeResult(1, 2, 1, 0));
+		assertThat(this.owners.findById(duplicate.getId())).isEmpty();
+		assertThat(this.owners.findById(other.getId())).isEmpty();
+		Owner george = this.owners.findWithPetsById(1).orElseThrow();
+		assertThat(george.getPets()).extracting(Pet::getName).contains("Leo", "Rosy");
+		assertThat(george.getVersion()).isEqualTo(version + 1);
+		try (Stream<OwnerTombstone> removed = this.tombstones.streamRemovedSince("Fr", before)) {
+			assertThat(removed).extracting(OwnerTombstone::getOwnerId, OwnerTombstone::getMergedIntoId)
+				.containsExactly(tuple(duplicate.getId(), 1), tuple(other.getId(), 1));
+		}
+	}
+
+	@Test
+	void shouldSkipMergesOfOwnersThatNoLongerExist() {
+		OwnerMergeResult result = this.deduplication
+			.apply(new OwnerMergePlan(0, 0, List.of(new Merge(99999, List.of(1), 1), new Merge(2, List.of(99999), 1))));
+
+		assertThat(result).isEqualTo(new OwnerMergeResult(0, 0, 0, 2));
+		assertThat(this.owners.findById(1)).isPresent();
+		assertThat(this.owners.findById(2)).isPresent();
+	}
+
+	@Test
+	void shouldNotMergeOwnersThatAreNotDuplicates() {
+		Owner georg = save("Georg", "Franklin", "110 W Liberty St", "6085551023");
+		// Same block as George Franklin, but not similar enough
+		Owner jane = save("Jane", "Franklin", "2 Main St", "6085551023");
+
+		OwnerMergeResult result = this.deduplication.apply(new OwnerMergePlan(0, 0,
+				List.of(new Merge(1, List.of(2, jane.getId(), georg.getId()), 1), new Merge(3, List.of(4), 1))));
+		this.entityManager.clear();
+
+		assertThat(result).isEqualTo(new OwnerMergeResult(1, 1, 0, 1));
+		assertThat(this.owners.findById(georg.getId())).isEmpty();
+		assertThat(this.owners.findById(jane.getId())).isPresent();
+		assertThat(this.owners.findById(2)).isPresent();
+		assertThat(this.owners.findById(3)).isPresent();
+		assertThat(this.owners.findById(4)).isPresent();
+	}
+
+	@Test
+	void shouldNotMergeOwnersWithPetsOfTheSameName() {
+		Owner duplicate = new Owner();
+		duplicate.setFirstName("Georg");
+		duplicate.setLastName("Franklin");
+		duplicate.setAddress("110 W. Liberty St.");
+		duplicate.setCity("Madison");
+		duplicate.setTelephone("6085551023");
+		Pet pet = new Pet();
+		// George Franklin (ID 1) has a Leo too
+		pet.setName("LEO");
+		pet.setType(this.types.findPetTypes().get(0));
+		pet.setBirthDate(LocalDate.now());
+		duplicate.addPet(pet);
+		this.owners.saveAndFlush(duplicate);
+
+		OwnerMergeResult result = this.deduplication
+			.apply(new OwnerMergePlan(0, 0, List.of(new Merge(1, List.of(duplicate.getId()), 0.9))));
+		this.entityManager.clear();
+
+		assertThat(result).isEqualTo(new OwnerMergeResult(0, 0, 0, 1));
+		assertThat(this.owners.findWithPetsById(duplicate.getId()))
+			.hasValueSatisfying(owner -> assertThat(owner.getPets()).extracting(Pet::getName).containsExactly("LEO"));
+		assertThat(this.owners.findWithPetsById(1))
+			.hasValueSatisfying(owner -> assertThat(owner.getPets()).extracting(Pet::getName).containsExactly("Leo"));
+	}
+
+	@Test
+	void shouldScoreSimilarityOfNormalizedOwners() {
+		Candidate george = Candidate.of(1, "George", "Franklin", "110 W. Liberty St.", "6085551023");
+
+		assertThat(OwnerDeduplicationService.similarity("george", "georg")).isCloseTo(5.0 / 6, within(1e-9));
+		assertThat(OwnerDeduplicationService.score(george,
+				Candidate.of(2, " GEORGE ", "franklin", "110  w. liberty st.", "608-555-1023")))
+			.isCloseTo(1, within(1e-9));
+		assertThat(OwnerDeduplicationService.score(george,
+				Candidate.of(3, "Jane", "Franklin", "110 W. Liberty St.", "6085551023")))
+			.isLessThan(0.85);
+	}
+
+	private Owner save(String firstName, String lastName, String address, String telephone) {
+		Owner owner = new Owner();
+		owner.setFirstName(firstName);
+		owner.setLastName(lastName);
+		owner.setAddress(address);
+		owner.setCity("Madison");
+		owner.setTelephone(telephone);
+		return this.owners.saveAndFlush(owner);
+	}
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.samples.petclinic.owner.OwnerExportStatus.State;
+import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Test class for {@link OwnerExportController}.
+ */
+@WebMvcTest(OwnerExportController.class)
+@DisabledInNativeImage
+@DisabledInAotMode
+class OwnerExportControllerTests {
+
+	private static final String CSV = "First Name,Last Name,Address,City,Telephone\n"
+			+ "George,Franklin,110 W. Liberty St.,Madison,6085551023\n";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoBean
+	private OwnerRepository owners;
+
+	@MockitoBean
+	private OwnerExportJobs jobs;
+
+	@TempDir
+	private Path directory;
+
+	@Test
+	void shouldStartExportJob() throws Exception {
+		given(this.owners.countByLastNameStartingWith("Fr")).willReturn(1L);
+		given(this.jobs.start("Fr", 1)).willReturn(new OwnerExportStatus("42", State.QUEUED, 0, 1, null));
+
+		this.mockMvc.perform(post("/owners/exports").param("lastName", "Fr"))
+			.andExpect(status().isAccepted())
+			.andExpect(header().string("Location", "http://localhost/owners/exports/42"))
+			.andExpect(jsonPath("$.state").value("QUEUED"))
+			.andExpect(jsonPath("$.totalRows").value(1));
+	}
+
+	@Test
+	void shouldNotStartExportWithoutMatchingOwners() throws Exception {
+		this.mockMvc.perform(post("/owners/exports").param("lastName", "Nobody")).andExpect(status().isNotFound());
+		verify(this.jobs, never()).start(anyString(), anyLong());
+	}
+
+	@Test
+	void shouldRejectExportWhileTooManyAreInProgress() throws Exception {
+		given(this.owners.countByLastNameStartingWith("")).willReturn(10L);
+		given(this.jobs.start("", 10)).willThrow(new RejectedExecutionException());
+
+		this.mockMvc.perform(post("/owners/exports")).andExpect(status().isTooManyRequests());
+	}
+
+	@Test
+	void shouldReportProgress() throws Exception {
+		given(this.jobs.status("42")).willReturn(Optional.of(new OwnerExportStatus("42", State.RUNNING, 5, 10, null)));
+
+		this.mockMvc.perform(get("/owners/exports/42"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.state").value("RUNNING"))
+			.andExpect(jsonPath("$.rows").value(5));
+		this.mockMvc.perform(get("/owners/exports/43")).andExpect(status().isNotFound());
+	}
+
+	@Test
+	void shouldServeCompletedFile() throws Exception {
+		givenCompletedExport("42");
+
+		this.mockMvc.perform(get("/owners/exports/42/file"))
+			.andExpect(status().isOk())
+			.andExpect(content().contentType("text/csv;charset=UTF-8"))
+			.andExpect(header().string("Content-Disposition", startsWith("attachment")))
+			.andExpect(content().string(CSV));
+	}
+
+	@Test
+	void shouldServeRequestedRangeOfFile() throws Exception {
+		givenCompletedExport("42");
+
+		this.mockMvc.perform(get("/owners/exports/42/file").header("Range", "bytes=0-9"))
+			.andExpect(status().isPartialContent())
+			.andExpect(header().string("Content-Range", "bytes 0-9/" + CSV.length()))
+			.andExpect(content().string("First Name"));
+	}
+
+	@Test
+	void shouldNotServeFileBeforeExportCompletes() throws Exception {
+		given(this.jobs.status("42")).willReturn(Optional.of(new OwnerExportStatus("42", State.RUNNING, 5, 10, null)));
+
+		this.mockMvc.perform(get("/owners/exports/42/file")).andExpect(status().isConflict());
+	}
+
+	private void givenCompletedExport(String id) throws Exception {
+		Path file = Files.writeString(this.directory.resolve("export.csv"), CSV, StandardCharsets.UTF_8);
+		given(this.jobs.status(id)).willReturn(Optional.of(new OwnerExportStatus(id, State.COMPLETED, 1, 1, null)));
+		given(this.jobs.file(id)).willReturn(Optional.of(file));
+	}
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.samples.petclinic.owner.OwnerExportStatus.State;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+
+/**
+ * Tests for {@link OwnerExportJobs}.
+ */
+@ExtendWith(MockitoExtension.class)
+class OwnerExportJobsTests {
+
+	@Mock
+	private OwnerExportService exporter;
+
+	@TempDir
+	private Path directory;
+
+	private OwnerExportJobs jobs;
+
+	@AfterEach
+	void shutdown() {
+		this.jobs.shutdown();
+	}
+
+	@Test
+	void shouldWriteExportToFileAndReportProgress() throws Exception {
+		this.jobs = new OwnerExportJobs(this.exporter, 1, 2, Duration.ofMinutes(5), this.directory);
+		willAnswer(invocation -> {
+			invocation.<OutputStream>getArgument(1).write("a\nb\n".getBytes(StandardCharsets.UTF_8));
+			invocation.<LongConsumer>getArgument(2).accept(2);
+			return 2L;
+		}).given(this.exporter).writeOwnersCsv(eq("Da"), any(OutputStream.class), any(LongConsumer.class));
+
+		OwnerExportStatus started = this.jobs.start("Da", 2);
+		assertThat(started.totalRows()).isEqualTo(2);
+
+		OwnerExportStatus completed = awaitState(started.id(), State.COMPLETED);
+		assertThat(completed.rows()).isEqualTo(2);
+		assertThat(completed.expiresAt()).isNotNull();
+		assertThat(this.jobs.file(started.id()))
+			.hasValueSatisfying(file -> assertThat(file).hasContent("a\nb").hasParent(this.directory));
+	}
+
+	@Test
+	void shouldRejectJobsBeyondMaximum() throws Exception {
+		this.jobs = new OwnerExportJobs(this.exporter, 1, 2, Duration.ofMinutes(5), this.directory);
+		CountDownLatch release = new CountDownLatch(1);
+		willAnswer(invocation -> {
+			release.await(10, TimeUnit.SECONDS);
+			return 0L;
+		}).given(this.exporter).writeOwnersCsv(any(), any(OutputStream.class), any(LongConsumer.class));
+
+		OwnerExportStatus first = this.jobs.start("", 10);
+		OwnerExportStatus second = this.jobs.start("", 10);
+		assertThatExceptionOfType(RejectedExecutionException.class).isThrownBy(() -> this.jobs.start("", 10));
+		assertThat(this.jobs.status(second.id())).map(OwnerExportStatus::state).hasValue(State.QUEUED);
+		assertThat(this.jobs.file(first.id())).isEmpty();
+
+		release.countDown();
+		awaitState(second.id(), State.COMPLETED);
+		assertThat(this.jobs.start("", 10).id()).isNotIn(first.id(), second.id());
+	}
+
+	@Test
+	void shouldDeleteFileOfFailedExport() throws Exception {
+		this.jobs = new OwnerExportJobs(this.exporter, 1, 2, Duration.ofMinutes(5), this.directory);
+		willThrow(new IOException("disk full")).given(this.exporter)
+			.writeOwnersCsv(any(), any(OutputStream.class), any(LongConsumer.class));
+
+		OwnerExportStatus started = this.jobs.start("", 10);
+
+		awaitState(started.id(), State.FAILED);
+		assertThat(this.jobs.file(started.id())).isEmpty();
+		try (var files = Files.list(this.directory)) {
+			assertThat(files).isEmpty();
+		}
+	}
+
+	@Test
+	void shouldDeleteJobAndFileOnceExpired() throws Exception {
+		this.jobs = new OwnerExportJobs(this.exporter, 1, 2, Duration.ofMillis(100), this.directory);
+
+		OwnerExportStatus started = this.jobs.start("", 0);
+
+		await().atMost(Duration.ofSeconds(5)).until(() -> this.jobs.status(started.id()).isEmpty());
+		await().atMost(Duration.ofSeconds(5)).until(() -> {
+			try (var files = Files.list(this.directory)) {
+				return files.findAny().isEmpty();
+			}
+		});
+	}
+
+	private OwnerExportStatus awaitState(String id, State state) {
+		return await().atMost(Duration.ofSeconds(5))
+			.until(() -> this.jobs.status(id).orElseThrow(), status -> status.state() == state);
+	}
+
+}
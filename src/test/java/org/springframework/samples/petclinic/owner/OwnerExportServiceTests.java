@@ -0,0 +1,169 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import jakarta.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link OwnerExportService}.
+ */
+@ExtendWith(MockitoExtension.class)
+class OwnerExportServiceTests {
+
+	@Mock
+	private OwnerRepository owners;
+
+	@Mock
+	private OwnerTombstoneRepository tombstones;
+
+	@Mock
+	private EntityManager entityManager;
+
+	private OwnerExportService exporter;
+
+	@BeforeEach
+	void setUp() {
+		exporter = new OwnerExportService(owners, tombstones, entityManager);
+	}
+
+	@Test
+	void shouldWriteHeaderAndOneRowPerOwner() throws Exception {
+		Owner george = createOwner("George", "Franklin");
+		Owner betty = createOwner("Betty", "Davis");
+		given(owners.streamByLastNameStartingWithOrderById("")).willReturn(Stream.of(george, betty));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		long count = exporter.writeOwnersCsv("", out);
+
+		assertThat(count).isEqualTo(2);
+		assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("First Name,Last Name,Address,City,Telephone\n"
+				+ "George,Franklin,1 Main St.,Madison,6085551023\n" + "Betty,Davis,1 Main St.,Madison,6085551023\n");
+	}
+
+	@Test
+	void shouldDetachOwnersOnceWritten() throws Exception {
+		Owner george = createOwner("George", "Franklin");
+		given(owners.streamByLastNameStartingWithOrderById("Fr")).willReturn(Stream.of(george));
+
+		exporter.writeOwnersCsv("Fr", new ByteArrayOutputStream());
+
+		verify(entityManager).detach(george);
+	}
+
+	@Test
+	void shouldCloseStreamWhenDone() throws Exception {
+		boolean[] closed = { false };
+		given(owners.streamByLastNameStartingWithOrderById(""))
+			.willReturn(Stream.<Owner>empty().onClose(() -> closed[0] = true));
+
+		exporter.writeOwnersCsv("", new ByteArrayOutputStream());
+
+		assertThat(closed[0]).isTrue();
+	}
+
+	@Test
+	void shouldWriteOnlyOwnersChangedSinceWatermark() throws Exception {
+		Instant since = Instant.parse("2025-06-01T12:00:00Z");
+		Owner george = createOwner("George", "Franklin");
+		given(owners.streamChangedSince("", since)).willReturn(Stream.of(george));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		long count = exporter.writeChangedOwnersCsv("", since, out);
+
+		assertThat(count).isEqualTo(1);
+		assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+				"First Name,Last Name,Address,City,Telephone\n" + "George,Franklin,1 Main St.,Madison,6085551023\n");
+		verify(entityManager).detach(george);
+	}
+
+	@Test
+	void shouldWriteOneJsonLinePerOwnerWithPets() throws Exception {
+		Owner george = createOwner("George", "Franklin");
+		george.setId(1);
+		PetType dog = new PetType();
+		dog.setName("dog");
+		Pet leo = new Pet();
+		leo.setName("Leo");
+		leo.setType(dog);
+		leo.setBirthDate(LocalDate.of(2010, 9, 7));
+		george.addPet(leo);
+		leo.setId(1);
+		given(owners.streamWithPetsByLastNameStartingWithOrderById("Fr")).willReturn(Stream.of(george));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		long count = exporter.writeOwnersNdjson("Fr", null, out);
+
+		assertThat(count).isEqualTo(1);
+		assertThat(out.toString(StandardCharsets.UTF_8))
+			.isEqualTo("{\"id\":1,\"firstName\":\"George\",\"lastName\":\"Franklin\",\"address\":\"1 Main St.\","
+					+ "\"city\":\"Madison\",\"telephone\":\"6085551023\",\"pets\":[{\"id\":1,\"name\":\"Leo\","
+					+ "\"birthDate\":\"2010-09-07\",\"type\":\"dog\"}]}\n");
+		verify(entityManager).detach(george);
+	}
+
+	@Test
+	void shouldWriteOnlyChangedOwnersAsJsonLinesSinceWatermark() throws Exception {
+		Instant since = Instant.parse("2025-06-01T12:00:00Z");
+		given(owners.streamChangedWithPetsSince("", since)).willReturn(Stream.empty());
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		assertThat(exporter.writeOwnersNdjson("", since, out)).isZero();
+		assertThat(out.size()).isZero();
+	}
+
+	@Test
+	void shouldWriteOwnersRemovedSinceWatermark() throws Exception {
+		Instant since = Instant.parse("2025-06-01T12:00:00Z");
+		OwnerTombstone georg = new OwnerTombstone(11, 1, "Franklin", Instant.parse("2025-06-02T08:30:00Z"));
+		given(tombstones.streamRemovedSince("Fr", since)).willReturn(Stream.of(georg));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		long count = exporter.writeRemovedOwnersCsv("Fr", since, out);
+
+		assertThat(count).isEqualTo(1);
+		assertThat(out.toString(StandardCharsets.UTF_8))
+			.isEqualTo("Id,Merged Into Id,Removed At\n" + "11,1,2025-06-02T08:30:00Z\n");
+		verify(entityManager).detach(georg);
+	}
+
+	private Owner createOwner(String firstName, String lastName) {
+		Owner owner = new Owner();
+		owner.setFirstName(firstName);
+		owner.setLastName(lastName);
+		owner.setAddress("1 Main St.");
+		owner.setCity("Madison");
+		owner.setTelephone("6085551023");
+		return owner;
+	}
+
+}
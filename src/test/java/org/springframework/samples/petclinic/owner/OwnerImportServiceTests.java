@@ -0,0 +1,182 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.validation.autoconfigure.ValidationAutoConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.samples.petclinic.owner.OwnerImportResult.RowError;
+import org.springframework.samples.petclinic.owner.OwnerImportService.Format;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Integration tests for {@link OwnerImportService}.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Import(OwnerImportService.class)
+class OwnerImportServiceTests {
+
+	private static final String HEADER = "First Name,Last Name,Address,City,Telephone,Pet Name,Pet Birth Date,Pet Type\n";
+
+	@Autowired
+	private OwnerImportService importer;
+
+	@Autowired
+	private OwnerRepository owners;
+
+	@Test
+	void shouldImportOwnersAndPetsFromCsv() throws Exception {
+		OwnerImportResult result = importCsv(HEADER + "Ada,Importer,1 Main St.,Madison,6085550001,Rex,2020-01-02,dog\n"
+				+ "Bob,Importer,\"2 Main St., Apt 3\",Monona,6085550002,,,\n");
+
+		assertThat(result.rows()).isEqualTo(2);
+		assertThat(result.owners()).isEqualTo(2);
+		assertThat(result.pets()).isEqualTo(1);
+		assertThat(result.errors()).isEmpty();
+
+		List<Owner> imported = importedOwners("Importer");
+		assertThat(imported).extracting(Owner::getFirstName).containsExactlyInAnyOrder("Ada", "Bob");
+		Owner ada = imported.stream().filter(owner -> owner.getFirstName().equals("Ada")).findFirst().orElseThrow();
+		assertThat(ada.getPets()).singleElement().satisfies(pet -> {
+			assertThat(pet.getName()).isEqualTo("Rex");
+			assertThat(pet.getType().getName()).isEqualTo("dog");
+		});
+		assertThat(imported).filteredOn(owner -> owner.getFirstName().equals("Bob"))
+			.singleElement()
+			.satisfies(bob -> assertThat(bob.getAddress()).isEqualTo("2 Main St., Apt 3"));
+	}
+
+	@Test
+	void shouldSkipOwnersThatAlreadyExist() throws Exception {
+		OwnerImportResult result = importCsv(HEADER + "george,FRANKLIN,elsewhere,Madison,6085551023,,,\n");
+
+		assertThat(result.owners()).isZero();
+		assertThat(result.duplicates()).isEqualTo(1);
+		assertThat(this.owners.findByLastNameStartingWith("Franklin", Pageable.unpaged())).hasSize(1);
+	}
+
+	@Test
+	void shouldAddPetsOfRepeatedRowsToOneOwner() throws Exception {
+		OwnerImportResult result = importCsv(HEADER + "Ada,Importer,1 Main St.,Madison,6085550001,Rex,2020-01-02,dog\n"
+				+ "ada,importer,1 Main St.,Madison,6085550001,Tom,2021-03-04,cat\n");
+
+		assertThat(result.owners()).isEqualTo(1);
+		assertThat(result.pets()).isEqualTo(2);
+		assertThat(importedOwners("Importer")).singleElement()
+			.satisfies(ada -> assertThat(ada.getPets()).extracting(Pet::getName).containsExactly("Rex", "Tom"));
+	}
+
+	@Test
+	void shouldReportRejectedRowsAndImportTheRest() throws Exception {
+		OwnerImportResult result = importCsv(HEADER + "Ada,Importer,1 Main St.,Madison,12345,,,\n"
+				+ "Bob,Importer,2 Main St.,Madison,6085550002,Rex,2020-01-02,dragon\n"
+				+ "Cy,Importer,3 Main St.,Madison,6085550003,Rex,02/01/2020,dog\n"
+				+ "Dee,Importer,4 Main St.,Madison,6085550004,,,\n");
+
+		assertThat(result.rows()).isEqualTo(4);
+		assertThat(result.owners()).isEqualTo(1);
+		assertThat(result.rejected()).isEqualTo(3);
+		assertThat(result.errors()).extracting(RowError::line).containsExactly(2, 3, 4);
+		assertThat(result.errors().get(0).message()).startsWith("telephone:");
+		assertThat(result.errors().get(1).message()).contains("dragon");
+		assertThat(result.errors().get(2).message()).contains("yyyy-MM-dd");
+		assertThat(importedOwners("Importer")).extracting(Owner::getFirstName).containsExactly("Dee");
+	}
+
+	@Test
+	void shouldImportNdjsonWithSeveralPetsPerOwner() throws Exception {
+		String ndjson = """
+				{"firstName":"Ada","lastName":"Importer","address":"1 Main St.","city":"Madison","telephone":"6085550001","pets":[{"name":"Rex","birthDate":"2020-01-02","type":"dog"},{"name":"Tom","birthDate":"2021-03-04","type":"Cat"}]}
+
+				{"firstName":"Bob",
+				{"firstName":"Bob","lastName":"Importer","address":"2 Main St.","city":"Madison","telephone":"6085550002"}
+				""";
+		OwnerImportResult result = this.importer.importOwners(input(ndjson), Format.NDJSON);
+
+		assertThat(result.rows()).isEqualTo(3);
+		assertThat(result.owners()).isEqualTo(2);
+		assertThat(result.pets()).isEqualTo(2);
+		assertThat(result.errors()).singleElement().satisfies(error -> {
+			assertThat(error.line()).isEqualTo(3);
+			assertThat(error.message()).startsWith("Malformed JSON");
+		});
+	}
+
+	@Test
+	void shouldImportAcrossChunks() throws Exception {
+		StringBuilder csv = new StringBuilder(HEADER);
+		int count = OwnerImportService.CHUNK_SIZE * 2 + 500;
+		for (int i = 0; i < count; i++) {
+			csv.append("Owner")
+				.append(i)
+				.append(",Importer,1 Main St.,Madison,")
+				.append(7000000000L + i)
+				.append(",,,\n");
+		}
+		// Repeats the first owner, whose chunk has long been written
+		csv.append("Owner0,Importer,1 Main St.,Madison,7000000000,Rex,2020-01-02,dog\n");
+
+		OwnerImportResult result = importCsv(csv.toString());
+
+		assertThat(result.owners()).isEqualTo(count);
+		assertThat(result.pets()).isEqualTo(1);
+		assertThat(this.owners.findByLastNameStartingWith("Importer", Pageable.unpaged())).hasSize(count);
+	}
+
+	@Test
+	void shouldRequireOwnerColumnsInCsvHeader() {
+		assertThatIllegalStateException().isThrownBy(() -> importCsv("First Name,Last Name\nAda,Importer\n"))
+			.withMessageContaining("telephone");
+	}
+
+	@Test
+	void shouldDetectFormatFromContentTypeOrExtension() {
+		assertThat(Format.of("application/x-ndjson", null)).isEqualTo(Format.NDJSON);
+		assertThat(Format.of("application/octet-stream", "clients.jsonl")).isEqualTo(Format.NDJSON);
+		assertThat(Format.of("text/csv", "clients.csv")).isEqualTo(Format.CSV);
+		assertThat(Format.of(null, null)).isEqualTo(Format.CSV);
+	}
+
+	private OwnerImportResult importCsv(String csv) throws Exception {
+		return this.importer.importOwners(input(csv), Format.CSV);
+	}
+
+	private List<Owner> importedOwners(String lastName) {
+		return this.owners.findByLastNameStartingWith(lastName, Pageable.unpaged())
+			.stream()
+			.map(owner -> this.owners.findWithPetsById(owner.getId()).orElseThrow())
+			.toList();
+	}
+
+	private static ByteArrayInputStream input(String content) {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Test class for {@link OwnerLookupController}.
+ */
+@WebMvcTest(OwnerLookupController.class)
+@DisabledInNativeImage
+@DisabledInAotMode
+class OwnerLookupControllerTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoBean
+	private OwnerRepository owners;
+
+	@MockitoBean
+	private OwnerPhoneDirectory directory;
+
+	private Owner george;
+
+	@BeforeEach
+	void setup() {
+		this.george = new Owner();
+		this.george.setId(1);
+		this.george.setFirstName("George");
+		this.george.setLastName("Franklin");
+		this.george.setCity("Madison");
+		this.george.setTelephone("6085551023");
+		PetType dog = new PetType();
+		dog.setName("dog");
+		Pet leo = new Pet();
+		leo.setName("Leo");
+		leo.setType(dog);
+		leo.setBirthDate(LocalDate.of(2010, 9, 7));
+		this.george.addPet(leo);
+		leo.setId(1);
+		given(this.directory.isReady()).willReturn(true);
+	}
+
+	@Test
+	void shouldResolveCallerIdThroughPhoneDirectory() throws Exception {
+		given(this.directory.lookup(6085551023L)).willReturn(new int[] { 1 });
+		given(this.owners.findAllWithPetsByIdIn(List.of(1))).willReturn(List.of(this.george));
+
+		this.mockMvc.perform(get("/api/owners/by-phone/{number}", "+1 608-555-1023"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$[0].id").value(1))
+			.andExpect(jsonPath("$[0].lastName").value("Franklin"))
+			.andExpect(jsonPath("$[0].telephone").value("6085551023"))
+			.andExpect(jsonPath("$[0].pets[0].name").value("Leo"))
+			.andExpect(jsonPath("$[0].pets[0].type").value("dog"))
+			.andExpect(jsonPath("$[0].pets[0].birthDate").value("2010-09-07"));
+		verify(this.owners, never()).findAllWithPetsByTelephone(any());
+	}
+
+	@Test
+	void shouldAnswerNotFoundForUnknownNumber() throws Exception {
+		given(this.directory.lookup(6085550000L)).willReturn(new int[0]);
+
+		this.mockMvc.perform(get("/api/owners/by-phone/{number}", "6085550000")).andExpect(status().isNotFound());
+		verify(this.owners, never()).findAllWithPetsByIdIn(any());
+	}
+
+	@Test
+	void shouldRejectNumbersWithoutTenDigits() throws Exception {
+		this.mockMvc.perform(get("/api/owners/by-phone/{number}", "555-1023")).andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void shouldQueryDatabaseWhileDirectoryIsNotReady() throws Exception {
+		given(this.directory.isReady()).willReturn(false);
+		given(this.owners.findAllWithPetsByTelephone("6085551023")).willReturn(List.of(this.george));
+
+		this.mockMvc.perform(get("/api/owners/by-phone/{number}", "6085551023"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$[0].firstName").value("George"));
+	}
+
+}
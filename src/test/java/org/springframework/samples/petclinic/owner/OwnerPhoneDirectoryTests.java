@@ -0,0 +1,90 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace;
+import org.springframework.context.annotation.Import;
+import org.springframework.samples.petclinic.owner.OwnerPhoneDirectory.PhoneTable;
+
+/**
+ * Integration tests for {@link OwnerPhoneDirectory}, checked against the sample data.
+ * Transactions are rolled back, so changes are fed to the directory directly rather than
+ * through after-commit events.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import(OwnerPhoneDirectory.class)
+class OwnerPhoneDirectoryTests {
+
+	@Autowired
+	private OwnerPhoneDirectory directory;
+
+	@BeforeEach
+	void rebuild() {
+		this.directory.rebuild();
+	}
+
+	@Test
+	void shouldFindOwnersOfSampleDataByNumber() {
+		assertThat(this.directory.isReady()).isTrue();
+		assertThat(this.directory.lookup(6085551023L)).containsExactly(1);
+		assertThat(this.directory.lookup(6085551024L)).isEmpty();
+	}
+
+	@Test
+	void shouldFollowChangedAndRemovedNumbers() {
+		this.directory.onOwnerChanged(new OwnerChangedEvent(2, "Davis", "6085551023", "Sun Prairie", false));
+		assertThat(this.directory.lookup(6085551023L)).containsExactly(1, 2);
+		assertThat(this.directory.lookup(6085551749L)).isEmpty();
+
+		this.directory.onOwnerChanged(new OwnerChangedEvent(1, "Franklin", "6085551023", "Madison", true));
+		assertThat(this.directory.lookup(6085551023L)).containsExactly(2);
+	}
+
+	@Test
+	void shouldNormalizeCallerIdNumbers() {
+		assertThat(OwnerPhoneDirectory.normalize("6085551023")).isEqualTo(6085551023L);
+		assertThat(OwnerPhoneDirectory.normalize("+1 (608) 555-1023")).isEqualTo(6085551023L);
+		assertThat(OwnerPhoneDirectory.normalize("0085551023")).isEqualTo(85551023L);
+		assertThat(OwnerPhoneDirectory.format(85551023L)).isEqualTo("0085551023");
+		assertThat(OwnerPhoneDirectory.normalize("608555102")).isEqualTo(-1);
+		assertThat(OwnerPhoneDirectory.normalize("26085551023")).isEqualTo(-1);
+		assertThat(OwnerPhoneDirectory.normalize(null)).isEqualTo(-1);
+	}
+
+	@Test
+	void shouldKeepEntriesWhenTableGrows() {
+		PhoneTable table = new PhoneTable(16);
+		for (int id = 0; id < 1000; id++) {
+			table.add(7000000000L + id, id);
+		}
+		table.add(7000000000L, 1000);
+		table.remove(7000000001L, 1);
+
+		assertThat(table.get(7000000000L)).containsExactly(0, 1000);
+		assertThat(table.get(7000000001L)).isEmpty();
+		assertThat(table.get(7000000999L)).containsExactly(999);
+		assertThat(table.get(7000001000L)).isEmpty();
+	}
+
+}
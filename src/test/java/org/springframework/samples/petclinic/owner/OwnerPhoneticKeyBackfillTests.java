@@ -0,0 +1,62 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link OwnerPhoneticKeyBackfill}.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import(OwnerPhoneticKeyBackfill.class)
+class OwnerPhoneticKeyBackfillTests {
+
+	@Autowired
+	private OwnerPhoneticKeyBackfill backfill;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Test
+	void shouldComputeMissingKeysOfOwnersSavedBeforeTheColumnsExisted() {
+		this.jdbc
+			.update("UPDATE owners SET last_name_phonetic = NULL, last_name_phonetic_alt = NULL WHERE id IN (1, 9)");
+
+		assertThat(this.backfill.backfill()).isEqualTo(2);
+
+		assertThat(this.jdbc.queryForList(
+				"SELECT last_name_phonetic || '/' || last_name_phonetic_alt FROM owners WHERE id IN (1, 9) ORDER BY id",
+				String.class))
+			.isEqualTo(List.of("FRNK/FRNK", "XRTR/SRTR"));
+	}
+
+	@Test
+	void shouldLeaveOwnersWithKeysAlone() {
+		assertThat(this.backfill.backfill()).isZero();
+	}
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link OwnerSearchCache}.
+ */
+class OwnerSearchCacheTests {
+
+	private final MeterRegistry registry = new SimpleMeterRegistry();
+
+	private final AtomicInteger queries = new AtomicInteger();
+
+	private OwnerSearchCache cache;
+
+	@BeforeEach
+	void setup() {
+		StaticListableBeanFactory beans = new StaticListableBeanFactory();
+		beans.addBean("meterRegistry", this.registry);
+		this.cache = new OwnerSearchCache(100, Duration.ofMinutes(5), beans.getBeanProvider(MeterRegistry.class));
+	}
+
+	@Test
+	void shouldServeRepeatedSearchFromCacheRegardlessOfCase() {
+		assertThat(this.cache.page("Dav", null, "Madison", null, 1, query(2, 4)).getContent()).containsExactly(2, 4);
+		assertThat(this.cache.page("dav", null, "MADISON", null, 1, query(9)).getContent()).containsExactly(2, 4);
+
+		assertThat(this.queries).hasValue(1);
+		assertThat(this.registry.get("cache.hit.ratio").tag("cache", "owner-search-pages").gauge().value())
+			.isEqualTo(0.5);
+	}
+
+	@Test
+	void shouldKeepPagesAndCursorsApart() {
+		this.cache.page("", null, null, null, 1, query(1, 2));
+		this.cache.page("", null, null, null, 2, query(3, 4));
+		this.cache.page("", null, null, "n:4:Davis", 3, query(5, 6));
+
+		assertThat(this.cache.page("", null, null, null, 2, query(0)).getContent()).containsExactly(3, 4);
+		assertThat(this.cache.page("", null, null, "n:4:Davis", 3, query(0)).getContent()).containsExactly(5, 6);
+		assertThat(this.queries).hasValue(3);
+	}
+
+	@Test
+	void shouldEvictOnlySearchesMatchingTheChangedOwner() {
+		this.cache.page("dav", null, null, null, 1, query(2, 4));
+		this.cache.page("fra", null, null, null, 1, query(1));
+		this.cache.page("", "608555", null, null, 1, query(1, 2));
+		this.cache.page("", null, "monona", null, 1, query(6, 7));
+		this.cache.count("dav", null, null, () -> 2);
+		this.cache.count("fra", null, null, () -> 1);
+		this.queries.set(0);
+
+		this.cache.onOwnerChanged(new OwnerChangedEvent(2, "Davis", "6085551749", "Sun Prairie", false));
+
+		this.cache.page("dav", null, null, null, 1, query(2, 4));
+		this.cache.page("", "608555", null, null, 1, query(1, 2));
+		assertThat(this.queries).hasValue(2);
+		assertThat(this.cache.page("fra", null, null, null, 1, query(0)).getContent()).containsExactly(1);
+		assertThat(this.cache.page("", null, "monona", null, 1, query(0)).getContent()).containsExactly(6, 7);
+		assertThat(this.cache.count("dav", null, null, () -> 3)).isEqualTo(3);
+		assertThat(this.cache.count("fra", null, null, () -> 5)).isEqualTo(1);
+	}
+
+	@Test
+	void shouldCacheFacetsPerLastNameAndTelephoneOnly() {
+		OwnerFacets davis = new OwnerFacets(List.of(new OwnerFacets.Facet("Windsor", 1)), List.of());
+		OwnerFacets fresh = new OwnerFacets(List.of(), List.of());
+		this.cache.facets("Dav", null, () -> davis);
+
+		assertThat(this.cache.facets("dav", null, () -> fresh)).isSameAs(davis);
+		assertThat(this.cache.facets("dav", "608", () -> fresh)).isSameAs(fresh);
+
+		this.cache.onOwnerChanged(new OwnerChangedEvent(11, "Davies", "6085550000", "Madison", false));
+		assertThat(this.cache.facets("dav", null, () -> fresh)).isSameAs(fresh);
+	}
+
+	@Test
+	void shouldNotStoreResultReadWhileAnOwnerChanged() {
+		Supplier<Slice<Integer>> racing = () -> {
+			this.cache.evict("Davis", "6085551749", "Sun Prairie");
+			return query(2).get();
+		};
+		this.cache.page("dav", null, null, null, 1, racing);
+
+		assertThat(this.cache.page("dav", null, null, null, 1, query(2, 4)).getContent()).containsExactly(2, 4);
+	}
+
+	private Supplier<Slice<Integer>> query(Integer... ids) {
+		return () -> {
+			this.queries.incrementAndGet();
+			return new SliceImpl<>(List.of(ids), PageRequest.of(0, 5), false);
+		};
+	}
+
+}
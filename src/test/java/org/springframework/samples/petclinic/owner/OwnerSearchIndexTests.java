@@ -0,0 +1,185 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+/**
+ * Integration tests for {@link OwnerSearchIndex}, checked against the sample data.
+ * Transactions are rolled back, so changes are fed to the index directly rather than
+ * through after-commit events.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import(OwnerSearchIndex.class)
+@TestPropertySource(properties = "petclinic.owners.search-index.enabled=true")
+@RecordApplicationEvents
+class OwnerSearchIndexTests {
+
+	private static final Pageable FIRST_PAGE = PageRequest.of(0, 3);
+
+	@Autowired
+	private OwnerSearchIndex index;
+
+	@Autowired
+	private OwnerRepository owners;
+
+	@Autowired
+	private ApplicationEvents events;
+
+	@BeforeEach
+	void rebuild() {
+		this.index.rebuild();
+	}
+
+	@Test
+	void shouldBeReadyAfterRebuild() {
+		assertThat(this.index.isReady()).isTrue();
+	}
+
+	@Test
+	void shouldFindOwnersByLastNamePrefixInNameOrder() {
+		Slice<Integer> page = this.index.search("e", null, null, null, FIRST_PAGE);
+		assertThat(page.getContent()).containsExactly(8, 10);
+		assertThat(page.hasNext()).isFalse();
+
+		page = this.index.search("", null, null, null, FIRST_PAGE);
+		// Black, Coleman, Davis
+		assertThat(page.getContent()).containsExactly(7, 6, 2);
+		assertThat(page.hasNext()).isTrue();
+	}
+
+	@Test
+	void shouldMatchSearchByMultipleCriteria() {
+		for (String city : new String[] { null, "madison" }) {
+			Slice<Integer> indexed = this.index.search("", null, city, null, PageRequest.of(1, 3));
+			Slice<Owner> queried = this.owners.findByMultipleCriteria("", null, city,
+					PageRequest.of(1, 3, Sort.by("lastNameLower", "id")));
+			assertThat(indexed.getContent()).containsExactlyElementsOf(queried.map(Owner::getId));
+			assertThat(indexed.hasNext()).isEqualTo(queried.hasNext());
+		}
+	}
+
+	@Test
+	void shouldFindOwnersByTelephonePrefix() {
+		Slice<Integer> page = this.index.search("", "608555", "Madison", null, FIRST_PAGE);
+		// Escobito, Franklin, McTavish
+		assertThat(page.getContent()).containsExactly(8, 1, 5);
+		assertThat(this.index.count("", "608555", "Madison"))
+			.isEqualTo(this.owners.countByMultipleCriteria("", "608555", "Madison"));
+
+		Owner franklin = this.owners.findById(1).orElseThrow();
+		Slice<Integer> next = this.index.search("", "608555", "Madison", OwnerCursor.after(franklin), FIRST_PAGE);
+		// McTavish, Schroeder
+		assertThat(next.getContent()).containsExactly(5, 9);
+	}
+
+	@Test
+	void shouldCountLikeTheRepository() {
+		String[][] criteria = { { "", null, null }, { "d", null, null }, { "", "608", null }, { "", null, "madison" },
+				{ "e", "608", null }, { "", "608555", "Madison" }, { "f", null, "Madison" }, { "x", null, null } };
+		for (String[] search : criteria) {
+			assertThat(this.index.count(search[0], search[1], search[2]))
+				.isEqualTo(this.owners.countByMultipleCriteria(search[0], search[1], search[2]));
+		}
+	}
+
+	@Test
+	void shouldPageFromCursorInBothDirections() {
+		Owner davis = this.owners.findById(2).orElseThrow();
+		Slice<Integer> next = this.index.search("", null, null, OwnerCursor.after(davis), FIRST_PAGE);
+		assertThat(next.getContent()).containsExactly(4, 8, 10);
+		assertThat(next.hasNext()).isTrue();
+
+		Owner escobito = this.owners.findById(8).orElseThrow();
+		Slice<Integer> previous = this.index.search("", null, null, OwnerCursor.before(escobito), FIRST_PAGE);
+		assertThat(previous.getContent()).containsExactly(6, 2, 4);
+		assertThat(previous.hasNext()).isTrue();
+	}
+
+	@Test
+	void shouldReflectChanges() {
+		this.index.put(4, "Zimmer", "6085557683", "Madison");
+		assertThat(this.index.count("davis", null, null)).isEqualTo(1);
+		assertThat(this.index.suggestLastNames("z", 10)).containsExactly("Zimmer");
+
+		this.index.remove(1);
+		assertThat(this.index.count("franklin", null, null)).isZero();
+	}
+
+	@Test
+	void shouldSuggestDistinctLastNames() {
+		assertThat(this.index.suggestLastNames("D", 10)).containsExactly("Davis");
+		assertThat(this.index.suggestLastNames("", 3)).containsExactly("Black", "Coleman", "Davis");
+	}
+
+	@Test
+	void shouldPublishChangeEventOnSave() {
+		Owner owner = this.owners.findById(1).orElseThrow();
+		owner.setLastName("Frankly");
+		this.owners.saveAndFlush(owner);
+
+		List<OwnerChangedEvent> published = this.events.stream(OwnerChangedEvent.class).toList();
+		assertThat(published).containsExactly(OwnerChangedEvent.saved(owner));
+	}
+
+	@Test
+	void shouldPublishChangeEventWhenOnlyPetsChange() {
+		Owner owner = this.owners.findWithPetsById(1).orElseThrow();
+		Pet pet = new Pet();
+		pet.setName("Rex");
+		pet.setBirthDate(LocalDate.of(2020, 1, 2));
+		pet.setType(owner.getPet("Leo").getType());
+		owner.addPet(pet);
+		this.owners.save(owner);
+		this.owners.flush();
+
+		assertThat(this.events.stream(OwnerChangedEvent.class))
+			.contains(new OwnerChangedEvent(1, "Franklin", "6085551023", "Madison", false));
+	}
+
+	@Test
+	void shouldPublishChangeEventWhenOnlyExistingPetChanges() {
+		Owner owner = this.owners.findWithPetsById(1).orElseThrow();
+		PetType type = new PetType();
+		type.setId(2);
+		owner.getPet("Leo").setType(type);
+		this.owners.save(owner);
+		this.owners.flush();
+
+		assertThat(this.events.stream(OwnerChangedEvent.class))
+			.contains(new OwnerChangedEvent(1, "Franklin", "6085551023", "Madison", false));
+	}
+
+}
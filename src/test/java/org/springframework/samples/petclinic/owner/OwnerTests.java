@@ -0,0 +1,73 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the pet lookups of {@link Owner}.
+ */
+class OwnerTests {
+
+	@Test
+	void shouldFindPetsByIdAndNameOnceTheyAreIndexed() {
+		Owner owner = new Owner();
+		Pet max = pet(owner, 1, "Max");
+		assertThat(owner.getPet(1)).isSameAs(max);
+		assertThat(owner.getPet("MAX")).isSameAs(max);
+
+		// added after the indexes were built
+		Pet leo = pet(owner, 2, "Leo");
+		assertThat(owner.getPet(2)).isSameAs(leo);
+		assertThat(owner.getPet("leo")).isSameAs(leo);
+		assertThat(owner.getPet(3)).isNull();
+		assertThat(owner.getPet("Rex")).isNull();
+
+		owner.removePet(max);
+		assertThat(owner.getPet(1)).isNull();
+		assertThat(owner.getPet("Max")).isNull();
+	}
+
+	@Test
+	void shouldFindRenamedAndNewlySavedPets() {
+		Owner owner = new Owner();
+		Pet max = pet(owner, 1, "Max");
+		Pet unsaved = new Pet();
+		unsaved.setName("Rex");
+		owner.addPet(unsaved);
+		assertThat(owner.getPet("Max")).isSameAs(max);
+		assertThat(owner.getPet("Rex", true)).isNull();
+		assertThat(owner.getPet(2)).isNull();
+
+		max.setName("Maximus");
+		unsaved.setId(2);
+		assertThat(owner.getPet("Max")).isNull();
+		assertThat(owner.getPet("maximus")).isSameAs(max);
+		assertThat(owner.getPet("Rex", true)).isSameAs(unsaved);
+		assertThat(owner.getPet(2)).isSameAs(unsaved);
+	}
+
+	private static Pet pet(Owner owner, int id, String name) {
+		Pet pet = new Pet();
+		pet.setName(name);
+		owner.addPet(pet);
+		pet.setId(id);
+		return pet;
+	}
+
+}
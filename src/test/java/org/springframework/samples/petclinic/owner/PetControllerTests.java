@@ -24,6 +24,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.samples.petclinic.referencedata.ReferenceData;
+import org.springframework.samples.petclinic.vet.SpecialtyRepository;
 import org.springframework.test.context.aot.DisabledInAotMode;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -33,6 +35,9 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
@@ -46,7 +51,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * @author Wick Dynex
  */
 @WebMvcTest(value = PetController.class,
-		includeFilters = @ComponentScan.Filter(value = PetTypeFormatter.class, type = FilterType.ASSIGNABLE_TYPE))
+		includeFilters = @ComponentScan.Filter(value = { PetTypeFormatter.class, ReferenceData.class },
+				type = FilterType.ASSIGNABLE_TYPE))
 @DisabledInNativeImage
 @DisabledInAotMode
 class PetControllerTests {
@@ -64,6 +70,12 @@ class PetControllerTests {
 	@MockitoBean
 	private PetTypeRepository types;
 
+	@MockitoBean
+	private SpecialtyRepository specialties;
+
+	@MockitoBean
+	private PetRepository pets;
+
 	@BeforeEach
 	void setup() {
 		PetType cat = new PetType();
@@ -72,6 +84,7 @@ class PetControllerTests {
 		given(this.types.findPetTypes()).willReturn(List.of(cat));
 
 		Owner owner = new Owner();
+		owner.setId(TEST_OWNER_ID);
 		Pet pet = new Pet();
 		Pet dog = new Pet();
 		owner.addPet(pet);
@@ -80,7 +93,9 @@ class PetControllerTests {
 		dog.setId(TEST_PET_ID + 1);
 		pet.setName("petty");
 		dog.setName("doggy");
-		given(this.owners.findById(TEST_OWNER_ID)).willReturn(Optional.of(owner));
+		given(this.owners.findWithPetsById(TEST_OWNER_ID)).willReturn(Optional.of(owner));
+		given(this.pets.existsByOwnerIdAndName(TEST_OWNER_ID, "petty", null)).willReturn(true);
+		given(this.pets.existsByOwnerIdAndName(TEST_OWNER_ID, "doggy", TEST_PET_ID)).willReturn(true);
 	}
 
 	@Test
@@ -169,6 +184,23 @@ class PetControllerTests {
 
 	}
 
+	@Test
+	void testInitUpdateFormAnswersNotModifiedWithoutLoadingOwner() throws Exception {
+		given(this.owners.findVersionById(TEST_OWNER_ID)).willReturn(Optional.of(0));
+		String etag = mockMvc.perform(get("/owners/{ownerId}/pets/{petId}/edit", TEST_OWNER_ID, TEST_PET_ID))
+			.andExpect(status().isOk())
+			.andReturn()
+			.getResponse()
+			.getHeader("ETag");
+		clearInvocations(this.owners);
+
+		mockMvc
+			.perform(get("/owners/{ownerId}/pets/{petId}/edit", TEST_OWNER_ID, TEST_PET_ID).header("If-None-Match",
+					etag))
+			.andExpect(status().isNotModified());
+		verify(this.owners, never()).findWithPetsById(TEST_OWNER_ID);
+	}
+
 	@Test
 	void testProcessUpdateFormSuccess() throws Exception {
 		mockMvc
@@ -194,6 +226,17 @@ class PetControllerTests {
 				.andExpect(view().name("pets/createOrUpdatePetForm"));
 		}
 
+		@Test
+		void testProcessUpdateFormWithNameOfOtherPet() throws Exception {
+			mockMvc
+				.perform(post("/owners/{ownerId}/pets/{petId}/edit", TEST_OWNER_ID, TEST_PET_ID).param("name", "doggy")
+					.param("type", "hamster")
+					.param("birthDate", "2015-02-12"))
+				.andExpect(model().attributeHasErrors("pet"))
+				.andExpect(model().attributeHasFieldErrorCode("pet", "name", "duplicate"))
+				.andExpect(view().name("pets/createOrUpdatePetForm"));
+		}
+
 		@Test
 		void testProcessUpdateFormWithBlankName() throws Exception {
 			mockMvc
@@ -217,35 +260,4 @@ class PetControllerTests {
 			.andExpect(model().attributeExists("errorMessage"));
 	}
 
-	@Nested
-	class PetDeletionTests {
-
-		@Test
-		void testProcessDeletionFormSuccess() throws Exception {
-			mockMvc.perform(post("/owners/{ownerId}/pets/{petId}/delete", TEST_OWNER_ID, TEST_PET_ID))
-				.andExpect(status().is3xxRedirection())
-				.andExpect(view().name("redirect:/owners/{ownerId}"));
-		}
-
-		@Test
-		void testProcessDeletionFormWithNonExistentPet() throws Exception {
-			int nonExistentPetId = 999;
-			mockMvc.perform(post("/owners/{ownerId}/pets/{petId}/delete", TEST_OWNER_ID, nonExistentPetId))
-				.andExpect(status().isNotFound())
-				.andExpect(view().name("notFound"))
-				.andExpect(model().attributeExists("errorMessage"));
-		}
-
-		@Test
-		void testProcessDeletionFormWithNonExistentOwner() throws Exception {
-			int nonExistentOwnerId = 999;
-			given(owners.findById(nonExistentOwnerId)).willReturn(Optional.empty());
-			mockMvc.perform(post("/owners/{ownerId}/pets/{petId}/delete", nonExistentOwnerId, TEST_PET_ID))
-				.andExpect(status().isNotFound())
-				.andExpect(view().name("notFound"))
-				.andExpect(model().attributeExists("errorMessage"));
-		}
-
-	}
-
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.flash;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+
+/**
+ * Test class for {@link PetDeletionController}.
+ */
+@WebMvcTest(PetDeletionController.class)
+@DisabledInNativeImage
+@DisabledInAotMode
+class PetDeletionControllerTests {
+
+	private static final int TEST_OWNER_ID = 1;
+
+	private static final int TEST_PET_ID = 1;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoBean
+	private PetDeletionService deletion;
+
+	@Test
+	void testProcessDeletionFormSuccess() throws Exception {
+		given(this.deletion.delete(TEST_OWNER_ID, TEST_PET_ID)).willReturn(Optional.of("petty"));
+
+		mockMvc.perform(post("/owners/{ownerId}/pets/{petId}/delete", TEST_OWNER_ID, TEST_PET_ID))
+			.andExpect(status().is3xxRedirection())
+			.andExpect(view().name("redirect:/owners/{ownerId}"))
+			.andExpect(flash().attribute("message", "Pet \"petty\" has been successfully deleted"));
+	}
+
+	@Test
+	void testProcessDeletionFormWithNonExistentPet() throws Exception {
+		int nonExistentPetId = 999;
+		given(this.deletion.delete(TEST_OWNER_ID, nonExistentPetId)).willReturn(Optional.empty());
+
+		mockMvc.perform(post("/owners/{ownerId}/pets/{petId}/delete", TEST_OWNER_ID, nonExistentPetId))
+			.andExpect(status().isNotFound())
+			.andExpect(view().name("notFound"))
+			.andExpect(model().attributeExists("errorMessage"));
+	}
+
+	@Test
+	void testProcessDeletionFormWithNonExistentOwner() throws Exception {
+		int nonExistentOwnerId = 999;
+		given(this.deletion.delete(nonExistentOwnerId, TEST_PET_ID)).willReturn(Optional.empty());
+
+		mockMvc.perform(post("/owners/{ownerId}/pets/{petId}/delete", nonExistentOwnerId, TEST_PET_ID))
+			.andExpect(status().isNotFound())
+			.andExpect(view().name("notFound"))
+			.andExpect(model().attributeExists("errorMessage"));
+	}
+
+	@Test
+	void testProcessBulkDeletionFormSuccess() throws Exception {
+		given(this.deletion.delete(TEST_OWNER_ID, List.of(1, 2, 999))).willReturn(List.of("petty", "doggy"));
+
+		mockMvc.perform(post("/owners/{ownerId}/pets/delete", TEST_OWNER_ID).param("petIds", "1", "2", "999"))
+			.andExpect(status().is3xxRedirection())
+			.andExpect(view().name("redirect:/owners/{ownerId}"))
+			.andExpect(flash().attribute("message", "2 pet(s) have been successfully deleted"));
+	}
+
+	@Test
+	void testProcessBulkDeletionFormWithoutPetsOfOwner() throws Exception {
+		given(this.deletion.delete(TEST_OWNER_ID, List.of(999))).willReturn(List.of());
+
+		mockMvc.perform(post("/owners/{ownerId}/pets/delete", TEST_OWNER_ID).param("petIds", "999"))
+			.andExpect(status().is3xxRedirection())
+			.andExpect(flash().attribute("error", "Pet not found"));
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import jakarta.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link PetDeletionService}.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import(PetDeletionService.class)
+@RecordApplicationEvents
+class PetDeletionServiceTests {
+
+	@Autowired
+	private PetDeletionService deletion;
+
+	@Autowired
+	private OwnerRepository owners;
+
+	@Autowired
+	private PetRepository pets;
+
+	@Autowired
+	private VisitRepository visits;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private ApplicationEvents events;
+
+	@Test
+	void shouldDeletePetWithItsVisitsAndIncrementOwnerVersion() {
+		int version = version(6);
+		assertThat(this.visits.findLatestByPetId(7, Limit.unlimited())).isNotEmpty();
+
+		assertThat(this.deletion.delete(6, 7)).hasValue("Samantha");
+		this.entityManager.clear();
+
+		assertThat(this.pets.findById(7)).isEmpty();
+		assertThat(this.visits.findLatestByPetId(7, Limit.unlimited())).isEmpty();
+		Owner owner = this.owners.findWithPetsById(6).orElseThrow();
+		assertThat(owner.getPets()).extracting(Pet::getName).containsExactly("Max");
+		assertThat(version(6)).isEqualTo(version + 1);
+		assertThat(this.events.stream(OwnerChangedEvent.class))
+			.containsExactly(new OwnerChangedEvent(6, "Coleman", "6085552654", "Monona", false));
+	}
+
+	@Test
+	void shouldNotDeletePetOfAnotherOwner() {
+		int version = version(1);
+
+		assertThat(this.deletion.delete(1, 7)).isEmpty();
+		this.entityManager.clear();
+
+		assertThat(this.pets.findById(7)).isPresent();
+		assertThat(version(1)).isEqualTo(version);
+		assertThat(this.events.stream(OwnerChangedEvent.class)).isEmpty();
+	}
+
+	@Test
+	void shouldDeleteOnlyPetsOfOwnerInBulk() {
+		assertThat(this.deletion.delete(6, List.of(8, 7, 1, 99999))).containsExactly("Samantha", "Max");
+		this.entityManager.clear();
+
+		assertThat(this.owners.findWithPetsById(6).orElseThrow().getPets()).isEmpty();
+		assertThat(this.visits.countByPetIdIn(List.of(7, 8))).isEmpty();
+		assertThat(this.pets.findById(1)).isPresent();
+	}
+
+	/**
+	 * The owner's version as stored, rather than as the second-level cache may hold it
+	 * from a rolled back test.
+	 */
+	private int version(int ownerId) {
+		return ((Number) this.entityManager.createNativeQuery("SELECT version FROM owners WHERE id = :id")
+			.setParameter("id", ownerId)
+			.getSingleResult()).intValue();
+	}
+
+}
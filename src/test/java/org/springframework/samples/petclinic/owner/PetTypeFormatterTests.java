@@ -32,6 +32,8 @@ import org.junit.jupiter.api.condition.DisabledInNativeImage;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.samples.petclinic.referencedata.ReferenceData;
+import org.springframework.samples.petclinic.vet.SpecialtyRepository;
 
 /**
  * Test class for {@link PetTypeFormatter}
@@ -45,11 +47,14 @@ class PetTypeFormatterTests {
 	@Mock
 	private PetTypeRepository types;
 
+	@Mock
+	private SpecialtyRepository specialties;
+
 	private PetTypeFormatter petTypeFormatter;
 
 	@BeforeEach
 	void setup() {
-		this.petTypeFormatter = new PetTypeFormatter(types);
+		this.petTypeFormatter = new PetTypeFormatter(new ReferenceData(types, specialties));
 	}
 
 	@Test
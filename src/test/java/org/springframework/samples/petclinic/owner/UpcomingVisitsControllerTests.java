@@ -30,6 +30,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.samples.petclinic.referencedata.ReferenceData;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -48,14 +49,14 @@ class UpcomingVisitsControllerTests {
 	private VisitRepository visitRepository;
 
 	@MockitoBean
-	private PetTypeRepository petTypeRepository;
+	private ReferenceData referenceData;
 
 	private List<Visit> testVisits;
 
 	@BeforeEach
 	void setup() {
 		// Setup pet type mock
-		given(this.petTypeRepository.findAll()).willReturn(new ArrayList<>());
+		given(this.referenceData.petTypes()).willReturn(new ArrayList<>());
 
 		// Create test owner
 		Owner owner = new Owner();
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Unit tests for {@link VisitCursor}.
+ */
+class VisitCursorTests {
+
+	@Test
+	void shouldRoundTripCursor() {
+		VisitCursor cursor = new VisitCursor(LocalDate.of(2013, 1, 4), 4);
+		assertThat(VisitCursor.decode(cursor.encode())).isEqualTo(cursor);
+	}
+
+	@Test
+	void shouldRoundTripCursorOfVisitWithoutDate() {
+		VisitCursor cursor = new VisitCursor(null, 4);
+		assertThat(VisitCursor.decode(cursor.encode())).isEqualTo(cursor);
+	}
+
+	@Test
+	void shouldProduceUrlSafeTokens() {
+		String token = new VisitCursor(LocalDate.of(2026, 12, 31), Integer.MAX_VALUE).encode();
+		assertThat(token).matches("[A-Za-z0-9_-]+");
+	}
+
+	@Test
+	void shouldRejectMalformedTokens() {
+		assertThatIllegalStateException().isThrownBy(() -> VisitCursor.decode("%%%"));
+		assertThatIllegalStateException().isThrownBy(() -> VisitCursor.decode("MjAxMy0wMS0wNA"));
+		assertThatIllegalStateException().isThrownBy(() -> VisitCursor.decode("MjAxMy0xMy0wNDo0"));
+		assertThatIllegalStateException().isThrownBy(() -> VisitCursor.decode("MjAxMy0wMS0wNDp4"));
+	}
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+
+/**
+ * Test class for {@link VisitHistoryController}.
+ */
+@WebMvcTest(VisitHistoryController.class)
+@DisabledInNativeImage
+@DisabledInAotMode
+class VisitHistoryControllerTests {
+
+	private static final int TEST_OWNER_ID = 1;
+
+	private static final int TEST_PET_ID = 1;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoBean
+	private PetRepository pets;
+
+	@MockitoBean
+	private VisitRepository visits;
+
+	@BeforeEach
+	void setup() {
+		Owner owner = new Owner();
+		owner.setId(TEST_OWNER_ID);
+		owner.setFirstName("George");
+		owner.setLastName("Franklin");
+		Pet pet = new Pet();
+		pet.setName("Leo");
+		owner.addPet(pet);
+		pet.setId(TEST_PET_ID);
+		pet.setOwner(owner);
+		given(this.pets.findById(TEST_PET_ID)).willReturn(Optional.of(pet));
+	}
+
+	@Test
+	void testShowFirstPageWithCursorOfOlderVisits() throws Exception {
+		List<Visit> page = visits(100, VisitHistoryController.PAGE_SIZE + 1);
+		given(this.visits.findLatestByPetId(TEST_PET_ID, Limit.of(VisitHistoryController.PAGE_SIZE + 1)))
+			.willReturn(page);
+		Visit last = page.get(VisitHistoryController.PAGE_SIZE - 1);
+		String next = new VisitCursor(last.getDate(), last.getId()).encode();
+
+		mockMvc.perform(get("/owners/{ownerId}/pets/{petId}/visits", TEST_OWNER_ID, TEST_PET_ID))
+			.andExpect(status().isOk())
+			.andExpect(model().attribute("visits", hasSize(VisitHistoryController.PAGE_SIZE)))
+			.andExpect(model().attribute("nextCursor", next))
+			.andExpect(content().string(containsString("before=" + next)))
+			.andExpect(view().name("pets/visitHistory"));
+	}
+
+	@Test
+	void testShowOlderVisitsAfterCursor() throws Exception {
+		given(this.visits.findLatestByPetIdBefore(TEST_PET_ID, LocalDate.of(2024, 1, 1), 80,
+				Limit.of(VisitHistoryController.PAGE_SIZE + 1)))
+			.willReturn(visits(79, 3));
+
+		mockMvc
+			.perform(get("/owners/{ownerId}/pets/{petId}/visits", TEST_OWNER_ID, TEST_PET_ID).param("before",
+					new VisitCursor(LocalDate.of(2024, 1, 1), 80).encode()))
+			.andExpect(status().isOk())
+			.andExpect(model().attribute("visits", hasSize(3)))
+			.andExpect(model().attributeDoesNotExist("nextCursor"));
+	}
+
+	@Test
+	void testShowVisitsWithoutDateAfterCursorOfVisitWithoutDate() throws Exception {
+		List<Visit> undated = visits(79, 2);
+		undated.forEach(visit -> visit.setDate(null));
+		given(this.visits.findUndatedByPetIdBefore(TEST_PET_ID, 80, Limit.of(VisitHistoryController.PAGE_SIZE + 1)))
+			.willReturn(undated);
+
+		mockMvc
+			.perform(get("/owners/{ownerId}/pets/{petId}/visits", TEST_OWNER_ID, TEST_PET_ID).param("before",
+					new VisitCursor(null, 80).encode()))
+			.andExpect(status().isOk())
+			.andExpect(model().attribute("visits", hasSize(2)));
+		verify(this.visits, never()).findLatestByPetIdBefore(anyInt(), any(), anyInt(), any(Limit.class));
+	}
+
+	@Test
+	void testRejectMalformedCursor() throws Exception {
+		mockMvc.perform(get("/owners/{ownerId}/pets/{petId}/visits", TEST_OWNER_ID, TEST_PET_ID).param("before", "%%%"))
+			.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void testPetOfOtherOwnerNotFound() throws Exception {
+		mockMvc.perform(get("/owners/{ownerId}/pets/{petId}/visits", 2, TEST_PET_ID)).andExpect(status().isNotFound());
+		verify(this.visits, never()).findLatestByPetId(anyInt(), any(Limit.class));
+	}
+
+	private static List<Visit> visits(int firstId, int count) {
+		List<Visit> visits = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			Visit visit = new Visit();
+			visit.setId(firstId - i);
+			visit.setDate(LocalDate.of(2024, 1, 1).minusDays(i));
+			visit.setDescription("checkup " + i);
+			visits.add(visit);
+		}
+		return visits;
+	}
+
+}
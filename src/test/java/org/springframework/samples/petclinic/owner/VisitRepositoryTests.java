@@ -18,6 +18,8 @@ package org.springframework.samples.petclinic.owner;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -25,6 +27,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace;
+import org.springframework.data.domain.Limit;
+
+import jakarta.persistence.EntityManager;
 
 /**
  * Integration tests for {@link VisitRepository}.
@@ -38,6 +43,9 @@ class VisitRepositoryTests {
 	@Autowired
 	private VisitRepository visitRepository;
 
+	@Autowired
+	private EntityManager entityManager;
+
 	@Test
 	void testFindByDateGreaterThanEqualOrderByDateAscWithJoinFetch() {
 		// Arrange
@@ -106,4 +114,84 @@ class VisitRepositoryTests {
 		assertThat(visits).hasSizeGreaterThanOrEqualTo(4);
 	}
 
+	@Test
+	void testFindLatestByPetId_newestFirst() {
+		// Act
+		List<Visit> visits = this.visitRepository.findLatestByPetId(8, Limit.unlimited());
+
+		// Assert
+		assertThat(visits).isNotEmpty();
+		assertThat(visits).extracting(Visit::getDate)
+			.isSortedAccordingTo(Comparator.<LocalDate>naturalOrder().reversed());
+		assertThat(this.visitRepository.findLatestByPetId(8, Limit.of(1))).containsExactly(visits.get(0));
+	}
+
+	@Test
+	void testFindLatestByPetIdBefore_pagesThroughWholeHistory() {
+		// Arrange
+		List<Visit> all = this.visitRepository.findLatestByPetId(8, Limit.unlimited());
+
+		// Act
+		List<Visit> paged = new ArrayList<>(this.visitRepository.findLatestByPetId(8, Limit.of(1)));
+		List<Visit> page;
+		do {
+			Visit last = paged.get(paged.size() - 1);
+			page = this.visitRepository.findLatestByPetIdBefore(8, last.getDate(), last.getId(), Limit.of(1));
+			paged.addAll(page);
+		}
+		while (!page.isEmpty());
+
+		// Assert
+		assertThat(paged).containsExactlyElementsOf(all);
+	}
+
+	@Test
+	void testFindLatestByPetIdBefore_pagesThroughVisitsWithoutDate() {
+		// Arrange
+		Pet pet = this.entityManager.find(Pet.class, 8);
+		Visit first = saveUndatedVisit(pet);
+		Visit second = saveUndatedVisit(pet);
+
+		// Act
+		List<Visit> paged = new ArrayList<>(this.visitRepository.findLatestByPetId(8, Limit.of(1)));
+		List<Visit> page;
+		do {
+			VisitCursor cursor = VisitCursor.decode(VisitCursor.after(paged.get(paged.size() - 1)).encode());
+			page = (cursor.date() != null)
+					? this.visitRepository.findLatestByPetIdBefore(8, cursor.date(), cursor.id(), Limit.of(1))
+					: this.visitRepository.findUndatedByPetIdBefore(8, cursor.id(), Limit.of(1));
+			paged.addAll(page);
+		}
+		while (!page.isEmpty());
+
+		// Assert
+		List<Visit> all = this.visitRepository.findLatestByPetId(8, Limit.unlimited());
+		assertThat(all).endsWith(second, first);
+		assertThat(paged).containsExactlyElementsOf(all);
+	}
+
+	@Test
+	void testCountByPetIdIn() {
+		// Act
+		List<VisitRepository.PetVisitCount> counts = this.visitRepository.countByPetIdIn(List.of(7, 8));
+
+		// Assert
+		assertThat(counts).extracting(VisitRepository.PetVisitCount::getPetId).containsExactlyInAnyOrder(7, 8);
+		for (VisitRepository.PetVisitCount count : counts) {
+			assertThat(count.getVisits())
+				.isEqualTo(this.visitRepository.findLatestByPetId(count.getPetId(), Limit.unlimited()).size());
+		}
+	}
+
+	private Visit saveUndatedVisit(Pet pet) {
+		Visit visit = new Visit();
+		visit.setDate(null);
+		visit.setDescription("undated");
+		visit.setVisitType(VisitType.CHECKUP);
+		visit.setPet(pet);
+		this.entityManager.persist(visit);
+		this.entityManager.flush();
+		return visit;
+	}
+
 }
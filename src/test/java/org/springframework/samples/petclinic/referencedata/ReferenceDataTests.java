@@ -0,0 +1,96 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.referencedata;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.samples.petclinic.model.NamedEntity;
+import org.springframework.samples.petclinic.owner.PetType;
+import org.springframework.samples.petclinic.owner.PetTypeRepository;
+import org.springframework.samples.petclinic.vet.Specialty;
+import org.springframework.samples.petclinic.vet.SpecialtyRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link ReferenceData}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataTests {
+
+	@Mock
+	private PetTypeRepository petTypes;
+
+	@Mock
+	private SpecialtyRepository specialties;
+
+	@Test
+	void shouldLoadReferenceDataOnceAndLookItUpByIdAndName() {
+		given(this.petTypes.findPetTypes())
+			.willReturn(List.of(named(new PetType(), 2, "bird"), named(new PetType(), 1, "cat")));
+		given(this.specialties.findSpecialties()).willReturn(List.of(named(new Specialty(), 1, "radiology")));
+		ReferenceData referenceData = new ReferenceData(this.petTypes, this.specialties);
+
+		assertThat(referenceData.petTypes()).extracting(PetType::getName).containsExactly("bird", "cat");
+		assertThat(referenceData.petType("CAT")).map(PetType::getId).hasValue(1);
+		assertThat(referenceData.petType(2)).map(PetType::getName).hasValue("bird");
+		assertThat(referenceData.petType("fish")).isEmpty();
+		assertThat(referenceData.specialty(" Radiology ")).map(Specialty::getId).hasValue(1);
+		assertThat(referenceData.specialty("astrology")).isEmpty();
+		assertThat(referenceData.specialties()).hasSize(1);
+
+		verify(this.petTypes, times(1)).findPetTypes();
+		verify(this.specialties, times(1)).findSpecialties();
+	}
+
+	@Test
+	void shouldServeImmutableLists() {
+		given(this.petTypes.findPetTypes()).willReturn(List.of(named(new PetType(), 1, "cat")));
+		ReferenceData referenceData = new ReferenceData(this.petTypes, this.specialties);
+
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+			.isThrownBy(() -> referenceData.petTypes().add(new PetType()));
+	}
+
+	@Test
+	void shouldReloadAfterChange() {
+		given(this.petTypes.findPetTypes()).willReturn(List.of(),
+				List.of(named(new PetType(), 1, "cat"), named(new PetType(), 2, "dog")));
+		ReferenceData referenceData = new ReferenceData(this.petTypes, this.specialties);
+		assertThat(referenceData.petTypes()).isEmpty();
+
+		referenceData.onReferenceDataChanged(new ReferenceDataChangedEvent(PetType.class));
+
+		assertThat(referenceData.petTypes()).hasSize(2);
+		assertThat(referenceData.petType("dog")).isPresent();
+		verify(this.petTypes, times(2)).findPetTypes();
+	}
+
+	private static <T extends NamedEntity> T named(T entity, int id, String name) {
+		entity.setId(id);
+		entity.setName(name);
+		return entity;
+	}
+
+}
@@ -17,21 +17,36 @@
 package org.springframework.samples.petclinic.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.tuple;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.Hibernate;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.samples.petclinic.owner.Owner;
+import org.springframework.samples.petclinic.owner.OwnerListItem;
 import org.springframework.samples.petclinic.owner.OwnerRepository;
 import org.springframework.samples.petclinic.owner.Pet;
+import org.springframework.samples.petclinic.owner.PetRepository;
 import org.springframework.samples.petclinic.owner.PetType;
 import org.springframework.samples.petclinic.owner.PetTypeRepository;
 import org.springframework.samples.petclinic.owner.Visit;
@@ -40,6 +55,8 @@ import org.springframework.samples.petclinic.vet.Vet;
 import org.springframework.samples.petclinic.vet.VetRepository;
 import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.persistence.EntityManager;
+
 /**
  * Integration test of the Service and the Repository layer.
  * <p>
@@ -80,9 +97,15 @@ class ClinicServiceTests {
 	@Autowired
 	protected PetTypeRepository types;
 
+	@Autowired
+	protected PetRepository pets;
+
 	@Autowired
 	protected VetRepository vets;
 
+	@Autowired
+	protected EntityManager entityManager;
+
 	private final Pageable pageable = Pageable.unpaged();
 
 	@Test
@@ -109,6 +132,207 @@ class ClinicServiceTests {
 		assertThat(owners).isEmpty();
 	}
 
+	@Test
+	void shouldStreamOwnersByLastName() {
+		try (Stream<Owner> owners = this.owners.streamByLastNameStartingWithOrderById("Davis")) {
+			assertThat(owners.map(Owner::getFirstName)).containsExactly("Betty", "Harold");
+		}
+		assertThat(this.owners.existsByLastNameStartingWith("Davis")).isTrue();
+		assertThat(this.owners.existsByLastNameStartingWith("Daviss")).isFalse();
+	}
+
+	@Test
+	@Transactional
+	void shouldStreamOwnersWithPetsInOneQuery() {
+		try (Stream<Owner> owners = this.owners.streamWithPetsByLastNameStartingWithOrderById("Davis")) {
+			assertThat(owners.toList())
+				.allSatisfy(owner -> assertThat(Hibernate.isInitialized(owner.getPets())).isTrue())
+				.extracting(owner -> owner.getPets().stream().map(Pet::getName).toList())
+				.containsExactly(List.of("Basil"), List.of("Iggy"));
+		}
+	}
+
+	@Test
+	@Transactional
+	void shouldStreamOwnersChangedSinceWatermark() {
+		Instant since = Instant.now();
+		Owner franklin = this.owners.findById(1).orElseThrow();
+		franklin.setCity("Monona");
+		this.owners.save(franklin);
+		Owner coleman = this.owners.findWithPetsById(6).orElseThrow();
+		coleman.getPet("Max").setName("Maximilian");
+		this.owners.save(coleman);
+		this.entityManager.flush();
+
+		assertThat(franklin.getUpdatedAt()).isAfter(since);
+		assertThat(franklin.getCreatedAt()).isBefore(since);
+		try (Stream<Owner> changed = this.owners.streamChangedSince("", since)) {
+			assertThat(changed.map(Owner::getId)).containsExactly(1, 6);
+		}
+		try (Stream<Owner> changed = this.owners.streamChangedSince("Cole", since)) {
+			assertThat(changed.map(Owner::getId)).containsExactly(6);
+		}
+		try (Stream<Owner> changed = this.owners.streamChangedSince("", Instant.now())) {
+			assertThat(changed).isEmpty();
+		}
+	}
+
+	@Test
+	void shouldFindOwnersAfterKeysetCursor() {
+		List<Owner> page = this.owners.findByMultipleCriteriaAfter(null, null, null, "davis", 2, Limit.of(3));
+		assertThat(page).extracting(Owner::getId).containsExactly(4, 8, 10);
+
+		page = this.owners.findByMultipleCriteriaAfter("E", null, null, "escobito", 8, Limit.of(3));
+		assertThat(page).extracting(Owner::getLastName).containsExactly("Estaban");
+	}
+
+	@Test
+	void shouldFindOwnersBeforeKeysetCursor() {
+		List<Owner> page = this.owners.findByMultipleCriteriaBefore(null, null, null, "davis", 4, Limit.of(2));
+		assertThat(page).extracting(Owner::getId).containsExactly(2, 6);
+	}
+
+	@Test
+	void shouldCountOwnersByMultipleCriteria() {
+		assertThat(this.owners.countByMultipleCriteria("Davis", null, null)).isEqualTo(2);
+		assertThat(this.owners.countByMultipleCriteria(null, null, "Madison")).isEqualTo(4);
+	}
+
+	@Test
+	void shouldCountFacetsInOneGroupedQuery() {
+		assertThat(this.owners.countFacets("", null)).extracting(row -> row[0] + ":" + row[1] + "=" + row[2])
+			.containsExactlyInAnyOrder("city:Madison=4", "city:Monona=2", "city:Sun Prairie=1", "city:McFarland=1",
+					"city:Windsor=1", "city:Waunakee=1", "petType:cat=3", "petType:dog=3", "petType:bird=2",
+					"petType:hamster=1", "petType:lizard=1", "petType:snake=1");
+		assertThat(this.owners.countFacets("davis", null)).extracting(row -> row[0] + ":" + row[1] + "=" + row[2])
+			.containsExactlyInAnyOrder("city:Sun Prairie=1", "city:Windsor=1", "petType:hamster=1", "petType:lizard=1");
+		assertThat(this.owners.countFacets("", "6085551")).extracting(row -> row[0] + ":" + row[1] + "=" + row[2])
+			.containsExactlyInAnyOrder("city:Madison=1", "city:Sun Prairie=1", "petType:cat=1", "petType:hamster=1");
+	}
+
+	@Test
+	@Transactional
+	void shouldSearchLowerCaseColumnsMaintainedByDatabase() {
+		Owner owner = new Owner();
+		owner.setFirstName("Sam");
+		owner.setLastName("MacDonald");
+		owner.setAddress("4, Evans Street");
+		owner.setCity("Wollongong");
+		owner.setTelephone("4444444444");
+		this.owners.saveAndFlush(owner);
+
+		assertThat(this.owners.countByMultipleCriteria("macd", null, "WOLLONGONG")).isEqualTo(1);
+		assertThat(this.owners.countByMultipleCriteria("MACD", null, "wollongong")).isEqualTo(1);
+	}
+
+	@Test
+	@Transactional
+	void shouldFindOwnersBySoundAlikeKeyMaintainedOnSave() {
+		Owner owner = new Owner();
+		owner.setFirstName("Sam");
+		owner.setLastName("Davies");
+		owner.setAddress("4, Evans Street");
+		owner.setCity("Wollongong");
+		owner.setTelephone("4444444444");
+		this.owners.saveAndFlush(owner);
+
+		// "Davis" and "Davies" share the Double Metaphone key TFS
+		Pageable pageable = PageRequest.of(0, 5, Sort.by("lastName", "id"));
+		assertThat(this.owners.findBySoundAlikeCriteria(List.of("TFS"), null, null, pageable))
+			.extracting(Owner::getLastName)
+			.containsExactly("Davies", "Davis", "Davis");
+		assertThat(this.owners.countBySoundAlikeCriteria(List.of("TFS"), null, "wollongong")).isEqualTo(1);
+
+		owner.setLastName("Coleman");
+		this.owners.saveAndFlush(owner);
+		this.entityManager.clear();
+
+		assertThat(this.owners.countBySoundAlikeCriteria(List.of("TFS"), null, null)).isEqualTo(2);
+		assertThat(this.owners.findBySoundAlikeCriteria(List.of("KLMN"), null, null, pageable))
+			.extracting(Owner::getFirstName)
+			.containsExactlyInAnyOrder("Jean", "Sam");
+	}
+
+	@Test
+	@Transactional
+	void shouldFindOwnersBySoundAlikeKeyInEitherDirection() {
+		for (String lastName : List.of("Smith", "Schmidt")) {
+			Owner owner = new Owner();
+			owner.setFirstName("Sam");
+			owner.setLastName(lastName);
+			owner.setAddress("4, Evans Street");
+			owner.setCity("Wollongong");
+			owner.setTelephone("4444444444");
+			this.owners.saveAndFlush(owner);
+		}
+
+		// "Smith" is SM0 with alternate XMT, "Schmidt" is XMT with alternate SMT
+		Pageable pageable = PageRequest.of(0, 5, Sort.by("lastName", "id"));
+		assertThat(this.owners.findBySoundAlikeCriteria(List.of("XMT", "SMT"), null, null, pageable))
+			.extracting(Owner::getLastName)
+			.containsExactly("Schmidt", "Smith");
+		assertThat(this.owners.findBySoundAlikeCriteria(List.of("SM0", "XMT"), null, null, pageable))
+			.extracting(Owner::getLastName)
+			.containsExactly("Schmidt", "Smith");
+		assertThat(this.owners.countBySoundAlikeCriteria(List.of("SMT"), null, null)).isEqualTo(1);
+	}
+
+	@Test
+	void shouldLoadPetsAndVisitsOnlyThroughEntityGraphs() {
+		Owner plain = this.owners.findById(6).orElseThrow();
+		assertThat(Hibernate.isInitialized(plain.getPets())).isFalse();
+		this.entityManager.clear();
+
+		Owner withPets = this.owners.findWithPetsById(6).orElseThrow();
+		assertThat(Hibernate.isInitialized(withPets.getPets())).isTrue();
+		assertThat(withPets.getPets()).extracting(Pet::getName).containsExactly("Max", "Samantha");
+		assertThat(withPets.getPets()).allMatch(pet -> !Hibernate.isInitialized(pet.getVisits()));
+		this.entityManager.clear();
+
+		Owner withVisits = this.owners.findWithPetsAndVisitsById(6).orElseThrow();
+		assertThat(withVisits.getPets()).extracting(Pet::getName).containsExactly("Max", "Samantha");
+		assertThat(withVisits.getPets()).allMatch(pet -> Hibernate.isInitialized(pet.getVisits()));
+		assertThat(withVisits.getPet("Samantha").getVisits()).isNotEmpty();
+	}
+
+	@Test
+	void shouldLoadPageOfOwnersWithPets() {
+		List<Owner> owners = this.owners.findAllWithPetsByIdIn(List.of(1, 6));
+		assertThat(owners).extracting(Owner::getId).containsExactlyInAnyOrder(1, 6);
+		assertThat(owners).allMatch(owner -> Hibernate.isInitialized(owner.getPets()));
+	}
+
+	@Test
+	void shouldReadListItemsWithAggregatedPetNames() {
+		List<OwnerListItem> items = this.owners.findListItemsByIdIn(List.of(6, 10, 3));
+
+		assertThat(items).extracting(OwnerListItem::id, OwnerListItem::lastName, OwnerListItem::petNames)
+			.containsExactlyInAnyOrder(tuple(6, "Coleman", "Max, Samantha"), tuple(10, "Estaban", "Lucky, Sly"),
+					tuple(3, "Rodriquez", "Jewel, Rosy"));
+		assertThat(this.entityManager.unwrap(SessionImplementor.class)
+			.getPersistenceContext()
+			.getNumberOfManagedEntities()).isZero();
+	}
+
+	@Test
+	@Transactional
+	void shouldListOnlyFirstPetNamesOfOwnersWithManyPets() {
+		Owner owner = this.owners.findWithPetsById(6).orElseThrow();
+		PetType type = this.types.findPetTypes().get(0);
+		for (String name : List.of("Rex", "Bella", "Tom", "Nala", "Zeus")) {
+			Pet pet = new Pet();
+			pet.setName(name);
+			pet.setType(type);
+			pet.setBirthDate(LocalDate.now());
+			owner.addPet(pet);
+		}
+		this.owners.saveAndFlush(owner);
+		this.entityManager.clear();
+
+		assertThat(this.owners.findListItemsByIdIn(List.of(6))).extracting(OwnerListItem::petNames)
+			.containsExactly("Bella, Max, Nala, Rex, Samantha, … (+2)");
+	}
+
 	@Test
 	void shouldFindSingleOwnerWithPet() {
 		Optional<Owner> optionalOwner = this.owners.findById(1);
@@ -139,6 +363,46 @@ class ClinicServiceTests {
 		assertThat(owners.getTotalElements()).isEqualTo(found + 1);
 	}
 
+	@Test
+	@Transactional
+	void shouldAllocateIdsFromSequenceWithoutCollidingWithPlainInserts() {
+		PetType cat = EntityUtils.getById(this.types.findPetTypes(), PetType.class, 1);
+		List<Owner> saved = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			Owner owner = new Owner();
+			owner.setFirstName("Sam" + i);
+			owner.setLastName("Batched");
+			owner.setAddress("4, Evans Street");
+			owner.setCity("Wollongong");
+			owner.setTelephone("444444444" + i);
+			Pet pet = new Pet();
+			pet.setName("Kitty" + i);
+			pet.setType(cat);
+			pet.setBirthDate(LocalDate.now());
+			owner.addPet(pet);
+			saved.add(owner);
+		}
+		this.owners.saveAllAndFlush(saved);
+
+		// Ids are assigned before the insert, in order, after the sample data
+		assertThat(saved).extracting(Owner::getId).isSorted().allMatch(id -> id > 10);
+		assertThat(saved).flatExtracting(Owner::getPets).extracting(Pet::getId).doesNotContainNull();
+
+		// A row inserted without an id takes its own value from the same sequence
+		this.entityManager
+			.createNativeQuery("INSERT INTO owners (first_name, last_name, address, city, telephone) "
+					+ "VALUES ('Plain', 'Batched', '4, Evans Street', 'Wollongong', '4444444449')")
+			.executeUpdate();
+		Owner next = new Owner();
+		next.setFirstName("Sam3");
+		next.setLastName("Batched");
+		next.setAddress("4, Evans Street");
+		next.setCity("Wollongong");
+		next.setTelephone("4444444443");
+		this.owners.saveAndFlush(next);
+		assertThat(this.owners.countByMultipleCriteria("Batched", null, null)).isEqualTo(5);
+	}
+
 	@Test
 	@Transactional
 	void shouldUpdateOwner() {
@@ -249,6 +513,40 @@ class ClinicServiceTests {
 			.allMatch(value -> value.getId() != null);
 	}
 
+	@Test
+	@Transactional
+	void shouldIncrementOwnerVersionWhenPetOrVisitChanges() {
+		Owner owner6 = this.owners.findWithPetsById(6).orElseThrow();
+		int version = owner6.getVersion();
+
+		owner6.getPet("Max").setName("Maximus");
+		this.owners.save(owner6);
+		this.entityManager.flush();
+		assertThat(this.owners.findVersionById(6)).contains(version + 1);
+		this.entityManager.clear();
+
+		owner6 = this.owners.findWithPetsAndVisitsById(6).orElseThrow();
+		Visit visit = new Visit();
+		visit.setDescription("check-up");
+		visit.setVisitType(VisitType.CHECKUP);
+		owner6.addVisit(owner6.getPet("Maximus").getId(), visit);
+		this.owners.save(owner6);
+		this.entityManager.flush();
+		assertThat(this.owners.findVersionById(6)).contains(version + 2);
+	}
+
+	@Test
+	@Transactional
+	void shouldIncrementOwnerVersionOnceWhenOwnerAndPetChange() {
+		Owner owner6 = this.owners.findWithPetsById(6).orElseThrow();
+		int version = owner6.getVersion();
+
+		owner6.setCity("Madison");
+		owner6.getPet("Max").setName("Maximus");
+		this.owners.saveAndFlush(owner6);
+		assertThat(this.owners.findVersionById(6)).contains(version + 1);
+	}
+
 	@Test
 	void shouldFindVisitsByPetId() {
 		Optional<Owner> optionalOwner = this.owners.findById(6);
@@ -268,92 +566,143 @@ class ClinicServiceTests {
 	// Issue #6: Duplicate Owner Prevention - Repository Tests
 
 	@Test
-	void shouldFindOwnerByFirstLastAndTelephone() {
-		// Arrange: Use existing test data (George Franklin with ID 1, telephone
-		// 6085551023)
-
-		// Act
-		java.util.List<Owner> owners = this.owners.findByFirstNameIgnoreCaseAndLastNameIgnoreCaseAndTelephone("George",
-				"Franklin", "6085551023");
+	void shouldFindOwnerByIdentityFingerprint() {
+		Owner george = this.owners.findById(1).orElseThrow();
 
-		// Assert
-		assertThat(owners).hasSize(1);
-		assertThat(owners.get(0).getFirstName()).isEqualTo("George");
-		assertThat(owners.get(0).getLastName()).isEqualTo("Franklin");
-		assertThat(owners.get(0).getTelephone()).isEqualTo("6085551023");
+		assertThat(george.getIdentityFingerprint()).hasSize(64);
+		assertThat(this.owners.existsByIdentityFingerprint(george.getIdentityFingerprint())).isTrue();
+		assertThat(this.owners.existsByIdentityFingerprint("0".repeat(64))).isFalse();
 	}
 
 	@Test
-	void shouldFindOwnerCaseInsensitive() {
-		// Arrange: Query with lowercase names
-
-		// Act
-		java.util.List<Owner> owners = this.owners.findByFirstNameIgnoreCaseAndLastNameIgnoreCaseAndTelephone("george",
-				"franklin", "6085551023");
-
-		// Assert
-		assertThat(owners).hasSize(1);
-		assertThat(owners.get(0).getFirstName()).isEqualToIgnoringCase("George");
-		assertThat(owners.get(0).getLastName()).isEqualToIgnoringCase("Franklin");
+	void shouldMaintainIdentityFingerprintOnSave() {
+		Owner owner = newOwner("Jane", "Franklin", "6085551023");
+		this.owners.saveAndFlush(owner);
+		String fingerprint = owner.getIdentityFingerprint();
+
+		assertThat(fingerprint).isNotNull()
+			.isNotEqualTo(this.owners.findById(1).orElseThrow().getIdentityFingerprint());
+		assertThat(this.owners.existsByIdentityFingerprint(fingerprint)).isTrue();
+
+		owner.setTelephone("9999999999");
+		this.owners.saveAndFlush(owner);
+		assertThat(owner.getIdentityFingerprint()).isNotEqualTo(fingerprint);
+		assertThat(this.owners.existsByIdentityFingerprint(fingerprint)).isFalse();
 	}
 
 	@Test
-	void shouldReturnEmptyListWhenNoOwnerMatches() {
-		// Arrange: Query with non-existent owner details
-
-		// Act
-		java.util.List<Owner> owners = this.owners
-			.findByFirstNameIgnoreCaseAndLastNameIgnoreCaseAndTelephone("NonExistent", "Owner", "0000000000");
-
-		// Assert
-		assertThat(owners).isEmpty();
+	void shouldRejectOwnerWithSameIdentityIgnoringCase() {
+		String george = this.owners.findById(1).orElseThrow().getIdentityFingerprint();
+		// Same identity as George Franklin (ID 1), capitalized differently
+		Owner owner = newOwner(" george ", "FRANKLIN", "6085551023");
+
+		assertThatExceptionOfType(DataIntegrityViolationException.class)
+			.isThrownBy(() -> this.owners.saveAndFlush(owner));
+		assertThat(owner.getIdentityFingerprint()).isEqualTo(george);
 	}
 
 	@Test
-	void shouldNotFindOwnerWithDifferentTelephone() {
-		// Arrange: Same name, different phone
+	void shouldSaveDuplicateRegisteredBeforeFingerprintsExisted() {
+		// A second George Franklin, left without a fingerprint by the schema upgrade
+		this.entityManager
+			.createNativeQuery("INSERT INTO owners (first_name, last_name, address, city, telephone) "
+					+ "VALUES ('George', 'Franklin', '110 W. Liberty St.', 'Madison', '6085551023')")
+			.executeUpdate();
+		Integer id = (Integer) this.entityManager
+			.createNativeQuery("SELECT id FROM owners WHERE last_name = 'Franklin' AND identity_fingerprint IS NULL")
+			.getSingleResult();
+		Owner duplicate = this.owners.findWithPetsById(id).orElseThrow();
+		Pet pet = new Pet();
+		pet.setName("Rosy");
+		pet.setType(this.types.findPetTypes().get(0));
+		pet.setBirthDate(LocalDate.now());
+		duplicate.addPet(pet);
+		duplicate.setCity("Monona");
 
-		// Act
-		java.util.List<Owner> owners = this.owners.findByFirstNameIgnoreCaseAndLastNameIgnoreCaseAndTelephone("George",
-				"Franklin", "9999999999");
+		this.owners.saveAndFlush(duplicate);
+		assertThat(duplicate.getIdentityFingerprint()).isNull();
 
-		// Assert
-		assertThat(owners).isEmpty();
+		duplicate.setFirstName("Georgia");
+		this.owners.saveAndFlush(duplicate);
+		assertThat(duplicate.getIdentityFingerprint()).hasSize(64);
 	}
 
-	@Test
-	void shouldNotFindOwnerWithDifferentFirstName() {
-		// Arrange: Different first name, same last name and phone
-
-		// Act
-		java.util.List<Owner> owners = this.owners.findByFirstNameIgnoreCaseAndLastNameIgnoreCaseAndTelephone("Jane",
-				"Franklin", "6085551023");
+	private static Owner newOwner(String firstName, String lastName, String telephone) {
+		Owner owner = new Owner();
+		owner.setFirstName(firstName);
+		owner.setLastName(lastName);
+		owner.setAddress("4, Evans Street");
+		owner.setCity("Wollongong");
+		owner.setTelephone(telephone);
+		return owner;
+	}
 
-		// Assert
-		assertThat(owners).isEmpty();
+	@Test
+	void shouldCheckPetNameOfOwnerIgnoringCase() {
+		// Jean Coleman (ID 6) owns Samantha (ID 7) and Max (ID 8)
+		assertThat(this.pets.existsByOwnerIdAndName(6, "samantha", null)).isTrue();
+		assertThat(this.pets.existsByOwnerIdAndName(6, "MAX", null)).isTrue();
+		assertThat(this.pets.existsByOwnerIdAndName(6, "Max", 8)).isFalse();
+		assertThat(this.pets.existsByOwnerIdAndName(6, "Max", 7)).isTrue();
+		assertThat(this.pets.existsByOwnerIdAndName(1, "Max", null)).isFalse();
 	}
 
 	@Test
-	void shouldNotFindOwnerWithDifferentLastName() {
-		// Arrange: Same first name, different last name
+	void shouldFindPetByNameIgnoringCaseWithOwner() {
+		List<Pet> pets = this.pets.findByNameIgnoringCase("LEO", Limit.of(1));
+		assertThat(pets).singleElement().satisfies(pet -> {
+			assertThat(pet.getId()).isEqualTo(1);
+			assertThat(pet.getOwner().getLastName()).isEqualTo("Franklin");
+			assertThat(pet.getType().getName()).isEqualTo("cat");
+		});
+		assertThat(this.pets.findByNameIgnoringCase("Nobody", Limit.of(1))).isEmpty();
+	}
 
-		// Act
-		java.util.List<Owner> owners = this.owners.findByFirstNameIgnoreCaseAndLastNameIgnoreCaseAndTelephone("George",
-				"Smith", "6085551023");
+	@Test
+	void shouldFindPetsByOwnerLastNameIgnoringCase() {
+		assertThat(this.pets.findByOwnerLastNameIgnoringCase("coleman")).extracting(Pet::getName)
+			.containsExactly("Samantha", "Max");
+		assertThat(this.pets.findByOwnerLastNameIgnoringCase("Cole")).isEmpty();
+	}
 
-		// Assert
-		assertThat(owners).isEmpty();
+	@Test
+	void shouldReadPetsOfOwnerOnePageAtATime() {
+		Sort order = Sort.by("name", "id");
+		Page<Integer> first = this.pets.findIdsByOwnerId(6, PageRequest.of(0, 1, order));
+		assertThat(first.getTotalElements()).isEqualTo(2);
+		assertThat(first.getContent()).containsExactly(8);
+
+		Page<Integer> second = this.pets.findIdsByOwnerId(6, PageRequest.of(1, 1, order));
+		List<Pet> pets = this.pets.findByIdIn(second.getContent(), order);
+		assertThat(pets).singleElement().satisfies(pet -> {
+			assertThat(pet.getName()).isEqualTo("Samantha");
+			assertThat(Hibernate.isInitialized(pet.getType())).isTrue();
+			assertThat(Hibernate.isInitialized(pet.getVisits())).isFalse();
+		});
 	}
 
 	// Issue #3: Find Owners - Search by telephone and city - Repository Tests
 
+	@Test
+	void shouldFindOwnersByMultipleCriteriaAsSliceWithoutCount() {
+		Slice<Owner> first = this.owners.findByMultipleCriteria(null, null, "Madison",
+				PageRequest.of(0, 3, Sort.by("lastName", "id")));
+		assertThat(first.getContent()).extracting(Owner::getLastName)
+			.containsExactly("Escobito", "Franklin", "McTavish");
+		assertThat(first.hasNext()).isTrue();
+
+		Slice<Owner> last = this.owners.findByMultipleCriteria(null, null, "Madison", first.nextPageable());
+		assertThat(last.getContent()).extracting(Owner::getLastName).containsExactly("Schroeder");
+		assertThat(last.hasNext()).isFalse();
+	}
+
 	@Test
 	void shouldFindOwnersByMultipleCriteria_AllParameters() {
 		// Arrange: Search for Davis in Sun Prairie with telephone 6085551749
 		// Expected: Betty Davis
 
 		// Act
-		Page<Owner> owners = this.owners.findByMultipleCriteria("Davis", "6085551749", "Sun Prairie", pageable);
+		Slice<Owner> owners = this.owners.findByMultipleCriteria("Davis", "6085551749", "Sun Prairie", pageable);
 
 		// Assert
 		assertThat(owners).hasSize(1);
@@ -369,7 +718,7 @@ class ClinicServiceTests {
 		// Expected: Both Betty Davis and Harold Davis
 
 		// Act
-		Page<Owner> owners = this.owners.findByMultipleCriteria("Davis", null, null, pageable);
+		Slice<Owner> owners = this.owners.findByMultipleCriteria("Davis", null, null, pageable);
 
 		// Assert
 		assertThat(owners).hasSize(2);
@@ -381,10 +730,10 @@ class ClinicServiceTests {
 		// Expected: Multiple owners with matching telephone prefix
 
 		// Act
-		Page<Owner> owners = this.owners.findByMultipleCriteria(null, "608555", null, pageable);
+		Slice<Owner> owners = this.owners.findByMultipleCriteria(null, "608555", null, pageable);
 
 		// Assert
-		assertThat(owners.getTotalElements()).isGreaterThan(0);
+		assertThat(owners.getNumberOfElements()).isGreaterThan(0);
 	}
 
 	@Test
@@ -393,7 +742,7 @@ class ClinicServiceTests {
 		// Expected: George Franklin, Peter McTavish, Maria Escobito, David Schroeder
 
 		// Act
-		Page<Owner> owners = this.owners.findByMultipleCriteria(null, null, "Madison", pageable);
+		Slice<Owner> owners = this.owners.findByMultipleCriteria(null, null, "Madison", pageable);
 
 		// Assert
 		assertThat(owners).hasSize(4);
@@ -404,10 +753,10 @@ class ClinicServiceTests {
 		// Arrange: Search for owners in Madison with telephone starting with 608555
 
 		// Act
-		Page<Owner> owners = this.owners.findByMultipleCriteria(null, "608555", "Madison", pageable);
+		Slice<Owner> owners = this.owners.findByMultipleCriteria(null, "608555", "Madison", pageable);
 
 		// Assert
-		assertThat(owners.getTotalElements()).isGreaterThan(0);
+		assertThat(owners.getNumberOfElements()).isGreaterThan(0);
 		owners.getContent().forEach(owner -> {
 			assertThat(owner.getCity()).isEqualToIgnoringCase("Madison");
 			assertThat(owner.getTelephone()).startsWith("608555");
@@ -419,7 +768,7 @@ class ClinicServiceTests {
 		// Arrange: Search with lowercase city name
 
 		// Act
-		Page<Owner> owners = this.owners.findByMultipleCriteria(null, null, "madison", pageable);
+		Slice<Owner> owners = this.owners.findByMultipleCriteria(null, null, "madison", pageable);
 
 		// Assert
 		assertThat(owners).hasSize(4);
@@ -430,7 +779,7 @@ class ClinicServiceTests {
 		// Arrange: Search with non-existent criteria
 
 		// Act
-		Page<Owner> owners = this.owners.findByMultipleCriteria("NonExistent", "0000000000", "NoCity", pageable);
+		Slice<Owner> owners = this.owners.findByMultipleCriteria("NonExistent", "0000000000", "NoCity", pageable);
 
 		// Assert
 		assertThat(owners).isEmpty();
@@ -442,10 +791,10 @@ class ClinicServiceTests {
 		// Expected: All owners returned
 
 		// Act
-		Page<Owner> owners = this.owners.findByMultipleCriteria(null, null, null, pageable);
+		Slice<Owner> owners = this.owners.findByMultipleCriteria(null, null, null, pageable);
 
 		// Assert
-		assertThat(owners.getTotalElements()).isEqualTo(10); // All test data owners
+		assertThat(owners.getNumberOfElements()).isEqualTo(10); // All test data owners
 	}
 
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.system;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.samples.petclinic.PetClinicApplication;
+import org.springframework.samples.petclinic.owner.OwnerRepository;
+import org.springframework.samples.petclinic.vet.Vet;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Integration tests for the opt-in Hibernate second-level cache configured by
+ * {@link CacheConfiguration}.
+ */
+@SpringBootTest(classes = PetClinicApplication.class, properties = "petclinic.jpa.cache.enabled=true")
+class EntityCacheTests {
+
+	@Autowired
+	private OwnerRepository owners;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private TransactionTemplate transactions;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setup() {
+		this.statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		this.entityManagerFactory.getCache().evictAll();
+	}
+
+	@Test
+	void shouldServeRepeatedOwnerLookupsFromCache() {
+		this.owners.findById(1);
+		this.statistics.clear();
+
+		this.owners.findById(1);
+
+		assertThat(this.statistics.getDomainDataRegionStatistics("owner").getHitCount()).isEqualTo(1);
+		assertThat(this.statistics.getPrepareStatementCount()).isZero();
+	}
+
+	@Test
+	void shouldCacheVetSpecialties() {
+		this.transactions.executeWithoutResult(status -> this.entityManager.find(Vet.class, 3).getNrOfSpecialties());
+		this.statistics.clear();
+
+		int specialties = this.transactions
+			.execute(status -> this.entityManager.find(Vet.class, 3).getNrOfSpecialties());
+
+		assertThat(specialties).isEqualTo(2);
+		assertThat(this.statistics.getDomainDataRegionStatistics("vet-specialties").getHitCount()).isEqualTo(1);
+		assertThat(this.statistics.getDomainDataRegionStatistics("specialty").getHitCount()).isEqualTo(2);
+		assertThat(this.statistics.getPrepareStatementCount()).isZero();
+	}
+
+}
@@ -25,14 +25,21 @@ import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
+import org.springframework.samples.petclinic.referencedata.ReferenceData;
 import org.springframework.test.context.aot.DisabledInAotMode;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.empty;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -51,6 +58,9 @@ class VetControllerTests {
 	@MockitoBean
 	private VetRepository vets;
 
+	@MockitoBean
+	private ReferenceData referenceData;
+
 	private Vet james() {
 		Vet james = new Vet();
 		james.setFirstName("James");
@@ -64,11 +74,15 @@ class VetControllerTests {
 		helen.setFirstName("Helen");
 		helen.setLastName("Leary");
 		helen.setId(2);
+		helen.addSpecialty(radiology());
+		return helen;
+	}
+
+	private Specialty radiology() {
 		Specialty radiology = new Specialty();
 		radiology.setId(1);
 		radiology.setName("radiology");
-		helen.addSpecialty(radiology);
-		return helen;
+		return radiology;
 	}
 
 	@BeforeEach
@@ -78,6 +92,8 @@ class VetControllerTests {
 			.willReturn(new PageImpl<Vet>(Lists.newArrayList(james(), helen())));
 		given(this.vets.findBySpecialtiesNameIgnoreCase(any(String.class), any(Pageable.class)))
 			.willReturn(new PageImpl<Vet>(Lists.newArrayList(helen())));
+		given(this.referenceData.specialty(argThat("radiology"::equalsIgnoreCase)))
+			.willReturn(Optional.of(radiology()));
 	}
 
 	@Test
@@ -128,4 +144,14 @@ class VetControllerTests {
 			.andExpect(view().name("vets/vetList"));
 	}
 
+	@Test
+	void testShowVetListHtmlWithUnknownSpecialtyDoesNotQueryVets() throws Exception {
+		mockMvc.perform(MockMvcRequestBuilders.get("/vets.html?page=1&specialty=astrology"))
+			.andExpect(status().isOk())
+			.andExpect(model().attribute("listVets", empty()))
+			.andExpect(model().attribute("totalItems", 0L))
+			.andExpect(view().name("vets/vetList"));
+		verify(this.vets, never()).findBySpecialtiesNameIgnoreCase(any(String.class), any(Pageable.class));
+	}
+
 }